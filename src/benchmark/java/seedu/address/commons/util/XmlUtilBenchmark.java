@@ -0,0 +1,88 @@
+package seedu.address.commons.util;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+
+import seedu.address.model.AddressBook;
+import seedu.address.storage.XmlSerializableAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how long saving a large address book takes through {@code XmlUtil}, compared to creating a new
+ * {@code JAXBContext} for every save as {@code XmlUtil} used to.
+ *
+ * Both ways replace the file atomically, so that only the cost of the context differs. Not run as part of the
+ * tests, but through {@code gradlew benchmark}, optionally passing the number of persons and the number of saves to
+ * time, e.g. {@code gradlew benchmark -PbenchmarkArgs="10000 20"}.
+ */
+public class XmlUtilBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 10000;
+    private static final int DEFAULT_SAVE_COUNT = 20;
+    private static final int WARM_UP_SAVE_COUNT = 5;
+
+    /**
+     * Saves an address book of {@code args[0]} persons {@code args[1]} times each way and prints the average time
+     * per save.
+     */
+    public static void main(String[] args) throws Exception {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        int saveCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SAVE_COUNT;
+
+        Path file = Files.createTempFile("benchmarkAddressBook", ".xml");
+        try {
+            XmlSerializableAddressBook data = new XmlSerializableAddressBook(buildAddressBook(personCount));
+
+            for (int i = 0; i < WARM_UP_SAVE_COUNT; i++) {
+                saveWithNewContext(file, data);
+                XmlUtil.saveDataToFile(file, data);
+            }
+
+            long newContextNanos = 0;
+            long cachedContextNanos = 0;
+            for (int i = 0; i < saveCount; i++) {
+                long start = System.nanoTime();
+                saveWithNewContext(file, data);
+                newContextNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                XmlUtil.saveDataToFile(file, data);
+                cachedContextNanos += System.nanoTime() - start;
+            }
+
+            System.out.println(String.format("%d persons, %d saves, %d bytes per file", personCount, saveCount,
+                    Files.size(file)));
+            System.out.println(String.format("New JAXBContext per save: %.1f ms per save",
+                    newContextNanos / 1e6 / saveCount));
+            System.out.println(String.format("Cached JAXBContext:       %.1f ms per save",
+                    cachedContextNanos / 1e6 / saveCount));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Returns an address book of {@code personCount} persons with distinct names, phones and emails.
+     */
+    private static AddressBook buildAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i)
+                    .withPhone(String.format("%08d", i)).withEmail("person" + i + "@example.com").build());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Saves {@code data} the way {@code XmlUtil.saveDataToFile} did before contexts were cached, but replacing the
+     * file atomically as it does now.
+     */
+    private static void saveWithNewContext(Path file, XmlSerializableAddressBook data) throws Exception {
+        Marshaller m = JAXBContext.newInstance(XmlSerializableAddressBook.class).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        FileUtil.writeAtomically(file, 0, out -> m.marshal(data, out));
+    }
+}
@@ -31,10 +31,14 @@ import seedu.address.model.util.SampleDataUtil;
 import seedu.address.security.AppUsers;
 import seedu.address.security.Security;
 import seedu.address.security.SecurityManager;
+import seedu.address.storage.AddressBookFormatConverter;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.AppUsersStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAppUsersStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -69,13 +73,17 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
 
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        AppUsersStorage appUsersStorage = new JsonAppUsersStorage(config.getAppUsersFilePath());
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath(),
+                config.getStorageBackupCount());
+        AppUsersStorage appUsersStorage = new JsonAppUsersStorage(config.getAppUsersFilePath(),
+                config.getStorageBackupCount());
 
         appUsers = initUsers(appUsersStorage);
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, appUsersStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        convertAddressBookFormat(addressBookStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, appUsersStorage,
+                userPrefs.getAddressBookSaveDelayMillis());
 
         initLogging(config);
 
@@ -90,6 +98,45 @@ public class MainApp extends Application {
         initEventsCenter();
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the address book file and storage mode chosen in {@code userPrefs}.
+     */
+    protected AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        int backupCount = config.getStorageBackupCount();
+        if (userPrefs.isAddressBookBinary()) {
+            if (userPrefs.isAddressBookJournaled() || userPrefs.isAddressBookSharded()) {
+                logger.warning("Journaling and sharding are only supported for xml address books, "
+                        + "saving in full instead");
+            }
+            return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath(), backupCount);
+        }
+        if (userPrefs.isAddressBookSharded()) {
+            if (userPrefs.isAddressBookJournaled()) {
+                logger.warning("Journaling is not supported for sharded address books, saving by person instead");
+            }
+            return new ShardedAddressBookStorage(userPrefs.getAddressBookFilePath());
+        }
+        if (userPrefs.isAddressBookJournaled()) {
+            return new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    userPrefs.isAddressBookJournalSynced(), userPrefs.getAddressBookJournalMaxBytes(), backupCount);
+        }
+        return new XmlAddressBookStorage(userPrefs.getAddressBookFilePath(), backupCount);
+    }
+
+    /**
+     * Converts the address book file of {@code addressBookStorage} to the format it saves in, if the binary format
+     * has been switched on or off since the file was saved. The file is left as it is if it cannot be converted.
+     */
+    private void convertAddressBookFormat(AddressBookStorage addressBookStorage) {
+        try {
+            AddressBookFormatConverter.convertToFormatOf(addressBookStorage);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will not convert it to the chosen format");
+        } catch (IOException e) {
+            logger.warning("Problem while converting the data file to the chosen format: " + e.getMessage());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -233,6 +280,7 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping FreeTime ] =============================");
         ui.stop();
+        storage.flushAddressBook();
         try {
             storage.saveUserPrefs(userPrefs);
             //TODO Save Users Here
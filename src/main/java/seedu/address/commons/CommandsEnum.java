@@ -8,16 +8,19 @@ import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteTimeCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportAllCommand;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FreeCommand;
 import seedu.address.logic.commands.FriendCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportAllCommand;
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.LoginCommand;
 import seedu.address.logic.commands.LogoutCommand;
+import seedu.address.logic.commands.MeetCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RegisterCommand;
 import seedu.address.logic.commands.SelectCommand;
@@ -48,12 +51,15 @@ public enum CommandsEnum {
     ADD(AddTimeCommand.COMMAND_WORD, AddTimeCommand.COMMAND_WORD_ALIAS),
     DELETE(DeleteTimeCommand.COMMAND_WORD, DeleteTimeCommand.COMMAND_WORD_ALIAS),
     FREE(FreeCommand.COMMAND_WORD, FreeCommand.COMMAND_WORD_ALIAS),
+    MEET(MeetCommand.COMMAND_WORD, MeetCommand.COMMAND_WORD_ALIAS),
     CLEAR(ClearCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD_ALIAS),
     FRIEND(FriendCommand.COMMAND_WORD, FriendCommand.COMMAND_WORD_ALIAS),
     UNFRIEND(UnfriendCommand.COMMAND_WORD, UnfriendCommand.COMMAND_WORD_ALIAS),
     GROUP(TagCommand.COMMAND_WORD, TagCommand.COMMAND_WORD_ALIAS),
     IMPORT(ImportCommand.COMMAND_WORD, ImportCommand.COMMAND_WORD_ALIAS),
-    EXPORT(ExportCommand.COMMAND_WORD, ExportCommand.COMMAND_WORD_ALIAS);
+    IMPORTALL(ImportAllCommand.COMMAND_WORD, ImportAllCommand.COMMAND_WORD_ALIAS),
+    EXPORT(ExportCommand.COMMAND_WORD, ExportCommand.COMMAND_WORD_ALIAS),
+    EXPORTALL(ExportAllCommand.COMMAND_WORD, ExportAllCommand.COMMAND_WORD_ALIAS);
 
 
     private final List<String> values;
@@ -95,12 +101,15 @@ public enum CommandsEnum {
         case ADD:
         case DELETE:
         case FREE:
+        case MEET:
         case CLEAR:
         case FRIEND:
         case UNFRIEND:
         case GROUP:
         case IMPORT:
+        case IMPORTALL:
         case EXPORT:
+        case EXPORTALL:
             if (isLoggedIn) {
                 return AuthReturn.COMMAND_ALLOWED;
             } else {
@@ -17,6 +17,7 @@ public class Config {
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
     private Path appUsersFilePath = Paths.get("users.json");
+    private int storageBackupCount = 0;
 
     public String getAppTitle() {
         return appTitle;
@@ -46,6 +47,17 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the number of previous versions of each data file kept when it is saved.
+     */
+    public int getStorageBackupCount() {
+        return storageBackupCount;
+    }
+
+    public void setStorageBackupCount(int storageBackupCount) {
+        this.storageBackupCount = storageBackupCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -59,12 +71,13 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && storageBackupCount == o.storageBackupCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, storageBackupCount);
     }
 
     @Override
@@ -1,6 +1,9 @@
 package seedu.address.commons.events.model;
 
+import java.util.List;
+
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.PersonListChange;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /** Indicates the AddressBook in the model has changed*/
@@ -8,8 +11,16 @@ public class AddressBookChangedEvent extends BaseEvent {
 
     public final ReadOnlyAddressBook data;
 
+    /** Changes made to the person list since the previous event, or null if they are not known */
+    public final List<PersonListChange> changes;
+
     public AddressBookChangedEvent(ReadOnlyAddressBook data) {
+        this(data, null);
+    }
+
+    public AddressBookChangedEvent(ReadOnlyAddressBook data, List<PersonListChange> changes) {
         this.data = data;
+        this.changes = changes;
     }
 
     @Override
@@ -35,11 +35,20 @@ public class DateTimeConversionUtil {
      * if today is monday, then return is today's date.
      */
     public LocalDateTime getNextLocalDateTime(LocalTime time, DayOfWeek dayOfWeek) {
+        return getNextLocalDateTime(time, dayOfWeek, LocalDate.now(ZoneId.of(DEFAULT_ZONE_ID)));
+    }
+
+    /**
+     * Gets the the next {@code LocalDateTime} of the {@code DayOfWeek} requested, with reference to {@code today}.
+     *
+     * ie: if {@code DayOfWeek} requested is Monday, then the LocalDateTime returned is the next monday from
+     * {@code today}. if {@code today} is monday, then return is {@code today}'s date.
+     */
+    public LocalDateTime getNextLocalDateTime(LocalTime time, DayOfWeek dayOfWeek, LocalDate today) {
         requireNonNull(time);
         requireNonNull(dayOfWeek);
-        LocalDate nextDay =
-                LocalDate.now(ZoneId.of(DEFAULT_ZONE_ID))
-                        .with(TemporalAdjusters.nextOrSame(dayOfWeek));
+        requireNonNull(today);
+        LocalDate nextDay = today.with(TemporalAdjusters.nextOrSame(dayOfWeek));
 
         LocalDateTime localDateTime = time.atDate(nextDay);
         return localDateTime;
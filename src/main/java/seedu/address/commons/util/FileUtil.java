@@ -1,10 +1,21 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.security.SecureRandom;
 
 /**
  * Writes and reads files
@@ -12,6 +23,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final SecureRandom RANDOM = new SecureRandom();
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +92,145 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file as {@link #writeAtomically(Path, int, StreamWriter)} does.
+     */
+    public static void writeToFileAtomically(Path file, String content, int backupCount) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, backupCount, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes to {@code file} through {@code writer}, such that a crash leaves {@code file} with either its old or
+     * its new contents, never a mix of both.
+     * The contents are written to a temporary file in the same directory and forced to the disk, before the
+     * temporary file is moved over {@code file}, which keeps its permissions. Will create the file and its missing
+     * parent directories if they do not exist yet, with the same permissions as any other file the app creates.
+     *
+     * @param backupCount Number of previous versions of {@code file} to keep, named {@code <file>.1} for the most
+     *                    recent one up to {@code <file>.<backupCount>} for the oldest one
+     * @throws E if {@code writer} fails
+     */
+    public static <E extends Exception> void writeAtomically(Path file, int backupCount, StreamWriter<E> writer)
+            throws IOException, E {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = createTempFile(directory, file.getFileName().toString());
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                // Some writers close the stream when done, which must not close the channel before it is forced
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel)) {
+                    @Override
+                    public void close() throws IOException {
+                        flush();
+                    }
+                };
+                writer.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+
+            if (Files.exists(file)) {
+                copyPermissions(file, tempFile);
+            }
+
+            if (backupCount > 0 && Files.exists(file)) {
+                rotateBackups(file, backupCount);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory(directory);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Creates a new empty file named {@code <prefix>.<random number>.tmp} in {@code directory}.
+     * Unlike {@link Files#createTempFile}, which makes the file readable by its owner only, the file gets the
+     * default permissions of the process, so that a file created through it is as readable as one written directly.
+     */
+    private static Path createTempFile(Path directory, String prefix) throws IOException {
+        while (true) {
+            Path tempFile = directory.resolve(prefix + "." + Long.toUnsignedString(RANDOM.nextLong()) + ".tmp");
+            try {
+                return Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException e) {
+                // Another file took the name, so try again with another random number
+            }
+        }
+    }
+
+    /**
+     * Returns the path of the {@code generation}-th most recent backup of {@code file}.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Shifts the backups of {@code file} one generation back, dropping the oldest, and backs up {@code file} as the
+     * most recent generation. {@code file} itself is left in place.
+     */
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        Files.deleteIfExists(getBackupPath(file, backupCount));
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = getBackupPath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupPath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path latestBackup = getBackupPath(file, 1);
+        try {
+            // A hard link backs up the current contents without copying them
+            Files.createLink(latestBackup, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, latestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Gives {@code target} the permissions and group of {@code source}, where the file system has POSIX permissions.
+     * Elsewhere, such as on NTFS, a new file inherits the access rights of its directory as {@code source} did.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (sourceView == null) {
+            return;
+        }
+        PosixFileAttributes attributes = sourceView.readAttributes();
+        Files.setPosixFilePermissions(target, attributes.permissions());
+        try {
+            Files.getFileAttributeView(target, PosixFileAttributeView.class).setGroup(attributes.group());
+        } catch (IOException e) {
+            // Only the owner's groups can be given to a file, so the file stays in the user's own group
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that a file moved into it survives a crash.
+     * Not every platform supports this, in which case nothing is done.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The move itself has succeeded; only its durability across a crash is not guaranteed here
+        }
+    }
+
+    /**
+     * Writes the contents of a file to an {@code OutputStream}.
+     *
+     * @param <E> The type of exception thrown when the contents cannot be produced
+     */
+    @FunctionalInterface
+    public interface StreamWriter<E extends Exception> {
+        void writeTo(OutputStream out) throws IOException, E;
+    }
+
 }
@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import seedu.address.model.person.TimeTable;
+
+/**
+ * The {@code TimeTable} read from an .ics file, together with the number of events skipped for each reason.
+ */
+public class IcsImportResult {
+
+    /**
+     * Reasons for an event in an .ics file not to become a {@code TimeSlot}.
+     */
+    public enum SkipReason {
+        NOT_RECURRING("not recurring"),
+        MISSING_TIME("missing a start or end time"),
+        OUTSIDE_TERM("not occurring during the term"),
+        DUPLICATE("repeating another event's time slot");
+
+        private final String description;
+
+        SkipReason(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private final TimeTable timeTable;
+    private final Map<SkipReason, Integer> skippedCounts = new EnumMap<>(SkipReason.class);
+
+    IcsImportResult(TimeTable timeTable) {
+        requireNonNull(timeTable);
+        this.timeTable = timeTable;
+    }
+
+    void countSkipped(SkipReason reason) {
+        skippedCounts.merge(reason, 1, Integer::sum);
+    }
+
+    public TimeTable getTimeTable() {
+        return timeTable;
+    }
+
+    /**
+     * Returns the number of events skipped for {@code reason}.
+     */
+    public int getSkippedCount(SkipReason reason) {
+        return skippedCounts.getOrDefault(reason, 0);
+    }
+
+    /**
+     * Returns the number of events skipped for any reason.
+     */
+    public int getSkippedCount() {
+        return skippedCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Returns the number of events skipped for each reason that any were skipped for, e.g.
+     * {@code "2 not recurring, 1 missing a start or end time"}.
+     */
+    public String getSkippedSummary() {
+        StringJoiner summary = new StringJoiner(", ");
+        skippedCounts.forEach((reason, count) -> summary.add(count + " " + reason));
+        return summary.toString();
+    }
+}
@@ -3,30 +3,33 @@ package seedu.address.commons.util;
 import static biweekly.util.DayOfWeek.valueOfAbbr;
 import static java.util.Objects.requireNonNull;
 
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.DayOfWeek;
-
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
-import java.util.Optional;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import biweekly.Biweekly;
 import biweekly.ICalendar;
 import biweekly.component.VEvent;
-import biweekly.io.text.ICalReader;
 import biweekly.property.DateEnd;
 import biweekly.property.DateStart;
 import biweekly.property.RecurrenceRule;
-import biweekly.property.Summary;
 import biweekly.util.Frequency;
 import biweekly.util.Recurrence;
 
@@ -40,13 +43,23 @@ import seedu.address.model.person.exceptions.TimeSlotOverlapException;
  */
 public class IcsUtil {
     private static final Logger logger = LogsCenter.getLogger(IcsUtil.class);
+
+    /** Number of events parsed together when reading a file */
+    private static final int EVENT_BATCH_SIZE = 256;
+
+    private static final String ICS_LINE_BREAK = "\r\n";
+    private static final String BEGIN_VEVENT = "BEGIN:VEVENT";
+    private static final String BEGIN_VTIMEZONE = "BEGIN:VTIMEZONE";
+
     private static IcsUtil instance;
 
+    private final RecurrenceExpander recurrenceExpander = new RecurrenceExpander();
+
     private IcsUtil(){
 
     }
 
-    public static IcsUtil getInstance() {
+    public static synchronized IcsUtil getInstance() {
         if (instance == null) {
             instance = new IcsUtil();
         }
@@ -67,18 +80,102 @@ public class IcsUtil {
      */
     public TimeTable readTimeTableFromFile(Path filePath, ZoneId zoneId)
             throws IOException, TimeSlotOverlapException, IllegalArgumentException {
+        return importTimeTableFromFile(filePath, zoneId).getTimeTable();
+    }
+
+    /**
+     * Returns the {@code TimeTable} from the .ics file specified, with the number of events skipped and why.
+     * Every occurrence of each event, up to a year after it starts, is read.
+     *
+     * @see #importTimeTableFromFile(Path, ZoneId, LocalDate, LocalDate)
+     */
+    public IcsImportResult importTimeTableFromFile(Path filePath, ZoneId zoneId)
+            throws IOException, TimeSlotOverlapException, IllegalArgumentException {
+        return importTimeTableFromFile(filePath, zoneId, LocalDate.MIN, LocalDate.MAX);
+    }
+
+    /**
+     * Returns the {@code TimeTable} of the events in the .ics file specified that occur during a term, with the
+     * number of events skipped and why. Each event takes up a {@code TimeSlot} for every day and time it occurs on
+     * during the term.
+     * The file is read a batch of events at a time, and each event is converted to {@code TimeSlot}s as soon as it
+     * is read, so the whole calendar is never held in memory. Events repeating the time slots of earlier events are
+     * skipped rather than reported as overlapping.
+     *
+     * @param filePath                  Location of the .ics file.
+     *                                  Cannot be null.
+     * @param zoneId                    The timezone of the timetable.
+     *                                  Cannot be null.
+     * @param termStart                 The first day of the term, in {@code zoneId}.
+     * @param termEnd                   The last day of the term, in {@code zoneId}.
+     * @throws IOException              if any IO error occurs, or file is not found.
+     * @throws TimeSlotOverlapException if the file to be imported has overlapping {@code TimeSlot}.
+     */
+    public IcsImportResult importTimeTableFromFile(Path filePath, ZoneId zoneId, LocalDate termStart,
+                                                   LocalDate termEnd)
+            throws IOException, TimeSlotOverlapException, IllegalArgumentException {
         requireNonNull(filePath);
         requireNonNull(zoneId);
+        requireNonNull(termStart);
+        requireNonNull(termEnd);
+
+        IcsImportResult result = new IcsImportResult(new TimeTable());
+        Set<TimeSlot> importedTimeSlots = new HashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            // Time zone definitions are kept for the events that follow them; they are few and small
+            StringBuilder timeZones = new StringBuilder();
+            StringBuilder events = new StringBuilder();
+            int eventCount = 0;
+
+            StringBuilder component = null;
+            int depth = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // A line starting with whitespace continues the line before it
+                boolean isContinuation = line.startsWith(" ") || line.startsWith("\t");
+                String contentLine = isContinuation ? "" : line.trim().toUpperCase(Locale.ROOT);
+                if (component == null) {
+                    // Lines outside of events and time zones describe the calendar, and are not needed
+                    if (contentLine.equals(BEGIN_VEVENT) || contentLine.equals(BEGIN_VTIMEZONE)) {
+                        component = contentLine.equals(BEGIN_VEVENT) ? events : timeZones;
+                        depth = 1;
+                        component.append(line).append(ICS_LINE_BREAK);
+                    }
+                    continue;
+                }
 
-        ICalendar iCalendar;
-        try {
-            iCalendar = readICalendarFromFile(filePath);
+                component.append(line).append(ICS_LINE_BREAK);
+                if (contentLine.startsWith("BEGIN:")) {
+                    depth++;
+                } else if (contentLine.startsWith("END:")) {
+                    depth--;
+                }
+                if (depth > 0) {
+                    continue;
+                }
+
+                if (component == events && ++eventCount == EVENT_BATCH_SIZE) {
+                    addVEvents(parseVEvents(timeZones, events), zoneId, termStart, termEnd, importedTimeSlots, result);
+                    events.setLength(0);
+                    eventCount = 0;
+                }
+                component = null;
+            }
+            addVEvents(parseVEvents(timeZones, events), zoneId, termStart, termEnd, importedTimeSlots, result);
         } catch (IOException e) {
             logger.info("Failed to read: " + filePath.toString());
             throw new IOException(e);
         }
 
-        return iCalendarToTimeTable(iCalendar, zoneId);
+        if (result.getTimeTable().isEmpty()) {
+            logger.info("No timeslots found in file.");
+        } else {
+            logger.info(result.getTimeTable().getTimeSlots().size() + " timeslots have been read from file.");
+        }
+        if (result.getSkippedCount() > 0) {
+            logger.info("Skipped events in " + filePath + ": " + result.getSkippedSummary());
+        }
+        return result;
     }
 
     /**
@@ -95,11 +192,29 @@ public class IcsUtil {
      */
     public void saveTimeTableToFile(TimeTable timeTable, ZoneId zoneId, Path filePath)
             throws IOException {
-        requireNonNull(filePath);
         requireNonNull(timeTable);
+        saveTimeSlotsToFile(timeTable.getTimeSlots(), zoneId, filePath);
+    }
+
+    /**
+     * Saves {@code timeSlots} to the .ics file specified, like {@link #saveTimeTableToFile}, without needing a
+     * {@code TimeTable} to be built from them.
+     *
+     * @param timeSlots     The time slots to save, which do not overlap.
+     *                      Cannot be null.
+     * @param filePath      Location to save the file to.
+     *                      Cannot be null.
+     * @param zoneId        timezone of the time slots.
+     *                      Cannot be null.
+     * @throws IOException  Thrown if there is an error writing to the file.
+     */
+    public void saveTimeSlotsToFile(Collection<TimeSlot> timeSlots, ZoneId zoneId, Path filePath)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(timeSlots);
         requireNonNull(zoneId);
 
-        ICalendar iCalendar = timeTableToICalendar(timeTable, zoneId);
+        ICalendar iCalendar = timeSlotsToICalendar(timeSlots, zoneId);
         try {
             writeICalendarToFile(iCalendar, filePath);
         } catch (IOException e) {
@@ -109,133 +224,111 @@ public class IcsUtil {
     }
 
     /**
-     * Converts {@code ICalendar} to {@code TimeTable}.
-     * Non-recurring {@code VEvent} are ignored.
-     *
-     * @param iCalendar The {@code ICalendar} to convert.
-     *                  Cannot be null.
-     * @param zoneId    The TimeZone of the {@code TimeTable}.
-     *                  Cannot be null.
+     * Returns the {@code VEvent}s in {@code events}, the text of complete VEVENT components, whose times are
+     * resolved with the VTIMEZONE components in {@code timeZones}.
      */
-    private TimeTable iCalendarToTimeTable(ICalendar iCalendar, ZoneId zoneId)
-            throws TimeSlotOverlapException, IllegalArgumentException {
-        requireNonNull(iCalendar);
-        requireNonNull(zoneId);
-        TimeTable timeTable = new TimeTable();
-
-        for (VEvent vEvent : iCalendar.getEvents()) {
-            //convert VEvent to TimeSlot
-            Optional<TimeSlot> optionalTimeSlot = vEventToTimeSlot(vEvent, zoneId);
-            if (optionalTimeSlot.isPresent()) {
-                timeTable.addTimeSlot(optionalTimeSlot.get());
-            }
-        }
-        if (timeTable.isEmpty()) {
-            logger.info("No timeslots found in file.");
-        } else {
-            logger.info("At least 1 timeslot has been read from file.");
+    private List<VEvent> parseVEvents(CharSequence timeZones, CharSequence events) {
+        if (events.length() == 0) {
+            return Collections.emptyList();
         }
-        return timeTable;
+
+        String iCalendarText = "BEGIN:VCALENDAR" + ICS_LINE_BREAK + "VERSION:2.0" + ICS_LINE_BREAK
+                + timeZones + events + "END:VCALENDAR" + ICS_LINE_BREAK;
+        ICalendar iCalendar = Biweekly.parse(iCalendarText).first();
+        return iCalendar == null ? Collections.emptyList() : iCalendar.getEvents();
     }
 
     /**
-     * Converts {@code VEvent} to {@code Optional<TimeSlot>}.
-     * Non-recurring VEvents are ignored.
+     * Converts {@code vEvents} to the {@code TimeSlot}s they take up during the term, and adds them to the
+     * {@code TimeTable} of {@code result}. {@code TimeSlot}s already in {@code importedTimeSlots} are left out, and
+     * events that give no new {@code TimeSlot}s are counted in {@code result} instead.
      *
-     * @param vEvent        The {@code VEvent} to convert.
-     *                      Cannot be null.
-     * @param zoneId        The TimeZone of the {@code Optional<TimeSlot>}.
+     * @throws TimeSlotOverlapException if a {@code TimeSlot} overlaps with one added before.
      */
-    private Optional<TimeSlot> vEventToTimeSlot(VEvent vEvent, ZoneId zoneId) {
-        requireNonNull(vEvent);
-        requireNonNull(zoneId);
-
-        //each of these chunks extract/filter the vital information:
-
-        //Event's Start:
-        //get the starting date and time (UTC)
-        DateStart dtStart = vEvent.getDateStart();
-        //convert to simple Date (UTC)
-        Date startDate = dtStart.getValue();
-        //use the simple Date to create an Instant. Instant objects are independent of timezone (UTC).
-        Instant startInstant = startDate.toInstant();
-        //derive the LocalDateTime (+8GMT) from the Instant and ZoneId
-        LocalDateTime startLdt = LocalDateTime.ofInstant(startInstant, zoneId);
-
-        //Event's End:
-        //get the ending date and time (UTC)
-        DateEnd dtEnd = vEvent.getDateEnd();
-        //convert to simple Date (UTC)
-        Date endDate = dtEnd.getValue();
-        //use the simple Date to create an {@code Instant}. Instant objects are independent of timezone (UTC).
-        Instant endInstant = endDate.toInstant();
-        //derive the LocalDateTime (+8GMT) from the Instant and ZoneId
-        LocalDateTime endLdt = LocalDateTime.ofInstant(endInstant, zoneId);
-
-
-        //get summary (TimeSlot's Label)
-        Summary summary = vEvent.getSummary();
-        String summaryStr = (summary == null) ? null : summary.getValue();
-
-        //ignore non-recurring events
-        RecurrenceRule recurrenceRule = vEvent.getRecurrenceRule();
-        if (recurrenceRule == null) {
-            return Optional.empty();
-        }
+    private void addVEvents(List<VEvent> vEvents, ZoneId zoneId, LocalDate termStart, LocalDate termEnd,
+                            Set<TimeSlot> importedTimeSlots, IcsImportResult result)
+            throws TimeSlotOverlapException {
+        for (VEvent vEvent : vEvents) {
+            //ignore non-recurring events
+            if (vEvent.getRecurrenceRule() == null && vEvent.getRecurrenceDates().isEmpty()) {
+                result.countSkipped(IcsImportResult.SkipReason.NOT_RECURRING);
+                continue;
+            }
 
-        //ignore events that are missing essential information.
-        if ((dtStart == null) || (dtEnd == null)) {
-            return Optional.empty();
-        }
+            //ignore events that are missing essential information.
+            DateStart dtStart = vEvent.getDateStart();
+            DateEnd dtEnd = vEvent.getDateEnd();
+            if ((dtStart == null) || (dtStart.getValue() == null) || (dtEnd == null) || (dtEnd.getValue() == null)) {
+                result.countSkipped(IcsImportResult.SkipReason.MISSING_TIME);
+                continue;
+            }
 
-        //after the above information extraction, we instantiate a TimeSlot with these info.
-        LocalTime timeSlotStartTime = startLdt.toLocalTime();
-        LocalTime timeSlotEndTime = endLdt.toLocalTime();
-        DayOfWeek timeSlotDay = startLdt.getDayOfWeek();
-        //TODO: Add (summary/label) to timetable object.
+            Set<TimeSlot> timeSlots = recurrenceExpander.expand(vEvent, zoneId, termStart, termEnd);
+            if (timeSlots.isEmpty()) {
+                result.countSkipped(IcsImportResult.SkipReason.OUTSIDE_TERM);
+                continue;
+            }
 
-        //Add timeslot to timetable
-        TimeSlot timeSlot = new TimeSlot(timeSlotDay, timeSlotStartTime, timeSlotEndTime);
-        return Optional.of(timeSlot);
+            boolean isDuplicate = true;
+            for (TimeSlot timeSlot : timeSlots) {
+                if (importedTimeSlots.add(timeSlot)) {
+                    //expanded TimeSlots are remembered for later events, and the TimeTable sets the colour of each
+                    //TimeSlot added to it, so it is given a copy
+                    result.getTimeTable().addTimeSlot(new TimeSlot(timeSlot));
+                    isDuplicate = false;
+                }
+            }
+            if (isDuplicate) {
+                result.countSkipped(IcsImportResult.SkipReason.DUPLICATE);
+            }
+        }
     }
 
     /**
-     * Converts {@code TimeTable} to {@code ICalendar}.
+     * Converts the {@code TimeSlot}s of a {@code TimeTable} to {@code ICalendar}.
      *
-     * @param timeTable     The {@code TimeTable} to convert.
+     * @param timeSlots     The {@code TimeSlot}s to convert.
      *                      Cannot be null.
      * @param zoneId        the timezone of the timetable
      *                      Cannot be null.
      *
      */
-    private ICalendar timeTableToICalendar(TimeTable timeTable, ZoneId zoneId) {
-        requireNonNull(timeTable);
+    private ICalendar timeSlotsToICalendar(Collection<TimeSlot> timeSlots, ZoneId zoneId) {
+        requireNonNull(timeSlots);
         requireNonNull(zoneId);
-        Collection<TimeSlot> timeSlots = timeTable.getTimeSlots();
+
+        // Every TimeSlot starts in the week from today, so the offset transitions of that week are looked up once for
+        // the whole timetable, instead of once for every TimeSlot
+        LocalDate today = LocalDate.now(zoneId);
+        WeekZoneOffsets zoneOffsets = WeekZoneOffsets.of(zoneId, today);
 
         ICalendar iCalendar = new ICalendar();
         for (TimeSlot timeSlot : timeSlots) {
-            VEvent vEvent = timeSlotToWeeklyVEvent(timeSlot, zoneId, 1);
+            VEvent vEvent = timeSlotToWeeklyVEvent(timeSlot, zoneOffsets, today, 1);
             iCalendar.addEvent(vEvent);
         }
         return iCalendar;
     }
 
     /**
-     * Converts a {@code TimeSlot} to a {@code VEvent} that recurs weekly, for {@code count} times.
-     * {@code zoneId} is required, because {@code VEvent} are in UTC,
+     * Converts a {@code TimeSlot} to a {@code VEvent} that recurs weekly, for {@code count} times, starting from the
+     * first occurrence of the {@code TimeSlot} on or after {@code today}.
+     * {@code zoneOffsets} are required, because {@code VEvent} are in UTC,
      *  but {@code TimeSlot} are in the user's timezone,
      *
      * @param timeSlot  The {@code TimeSlot} to convert.
      *                  Cannot be null.
      * @param count     The number of recurrences.
-     * @param zoneId    The timezone of the {@code TimeSlot}
+     * @param zoneOffsets The offsets of the timezone of the {@code TimeSlot}, over the week from {@code today}
+     * @param today     The current date in the timezone of the {@code TimeSlot}
      */
-    private VEvent timeSlotToWeeklyVEvent(TimeSlot timeSlot, ZoneId zoneId, int count) {
+    private VEvent timeSlotToWeeklyVEvent(TimeSlot timeSlot, WeekZoneOffsets zoneOffsets, LocalDate today,
+                                          int count) {
         //TODO: protect against people who pass count <= 0
         //TODO: make comments/code more human readable.
         requireNonNull(timeSlot);
-        requireNonNull(zoneId);
+        requireNonNull(zoneOffsets);
+        requireNonNull(today);
         requireNonNull(count);
 
         //extract data from {@code TimeSlot}
@@ -257,9 +350,10 @@ public class IcsUtil {
         //write data to vEvent: set start-date
         //Get the local-datetime of the next time that the TimeSlot starts.
         // > If my timeslot is Friday 2pm-4pm, the local-datetime I want is the the next Friday's date, at 2pm.
-        LocalDateTime startLdt = DateTimeConversionUtil.getInstance().getNextLocalDateTime(startTime, dayOfWeek);
-        //get zone-offset
-        ZoneOffset zoneOffset = zoneId.getRules().getOffset(Instant.now());
+        LocalDateTime startLdt =
+                DateTimeConversionUtil.getInstance().getNextLocalDateTime(startTime, dayOfWeek, today);
+        //get zone-offset of that occurrence, which differs from the current one across a daylight saving change
+        ZoneOffset zoneOffset = zoneOffsets.getOffset(startLdt);
         //startInstant is an Instant ; Instant is independent of timezones.
         Instant startInstant = startLdt.toInstant(zoneOffset);
         //dateStart (UTC)
@@ -269,7 +363,7 @@ public class IcsUtil {
         //write data to vEvent: set end-date
         //Get the local-datetime of the next time that the TimeSlot ends.
         // > If my timeslot is Friday 2pm-4pm, the local-datetime I want is the the next Friday's date, at 4pm.
-        LocalDateTime endLdt = DateTimeConversionUtil.getInstance().getNextLocalDateTime(endTime, dayOfWeek);
+        LocalDateTime endLdt = DateTimeConversionUtil.getInstance().getNextLocalDateTime(endTime, dayOfWeek, today);
         //endInstant is an Instant; Instant is independent of timezones.
         Instant endInstant = endLdt.toInstant(zoneOffset);
         //get dateEnd (UTC)
@@ -296,51 +390,7 @@ public class IcsUtil {
         requireNonNull(filePath);
         requireNonNull(iCalendar);
 
-        File file = filePath.toFile();
-        try {
-            //create parent folder if it does not exist.
-            file.getParentFile().mkdirs();
-            //create file if it does not exist.
-            file.createNewFile();
-            //Write using biweekly.
-            Biweekly.write(iCalendar).go(file);
-        } catch (IOException e) { //catch IOException thrown by .createNewFile() or .go()
-            throw new IOException();
-        }
-    }
-
-    /**
-     * Returns the {@code ICalendar} object obtained from reading the .ics file at the {@code Path} specified
-     *
-     * @param filePath      the location of the file to read from.
-     * @throws IOException  if any IO error occurs during read.
-     */
-    private ICalendar readICalendarFromFile(Path filePath) throws IOException {
-        requireNonNull(filePath);
-        ICalendar iCalendar = new ICalendar();
-
-        File file = filePath.toFile();
-        ICalReader reader;
-        try {
-            reader = new ICalReader(file);
-        } catch (FileNotFoundException e) {
-            throw new IOException(); //throw IOException to indicate file-not-found.
-        }
-
-        try {
-            //for each event found, add them to the iCalendar
-            ICalendar tempICalendar;
-            while ((tempICalendar = reader.readNext()) != null) {
-                for (VEvent event : tempICalendar.getEvents()) {
-                    iCalendar.addEvent(event);
-                }
-            }
-        } catch (IOException e) {
-            //IOException thrown by readNext() - not able to read from stream
-            throw new IOException();
-        } finally {
-            reader.close();
-        }
-        return iCalendar;
+        //Write using biweekly, replacing any existing file only once the whole calendar is written.
+        FileUtil.writeAtomically(filePath, 0, out -> Biweekly.write(iCalendar).go(out));
     }
 }
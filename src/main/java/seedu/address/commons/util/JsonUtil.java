@@ -40,7 +40,12 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, 0);
+    }
+
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, int backupCount)
+            throws IOException {
+        FileUtil.writeToFileAtomically(jsonFile, toJsonString(objectToSerialize), backupCount);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -78,16 +83,24 @@ public class JsonUtil {
 
     /**
      * Saves the Json object to the specified file.
-     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * Atomically replaces existing file if it exists, creates a new file if it doesn't.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, 0);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}, keeping {@code backupCount} previous versions of the file as
+     * {@link FileUtil#writeAtomically(Path, int, FileUtil.StreamWriter)} does.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, int backupCount) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, backupCount);
     }
 
 
@@ -0,0 +1,313 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import biweekly.component.VEvent;
+import biweekly.property.ExceptionDates;
+import biweekly.property.RecurrenceDates;
+import biweekly.property.RecurrenceRule;
+import biweekly.util.ByDay;
+import biweekly.util.DateTimeComponents;
+import biweekly.util.Frequency;
+import biweekly.util.ICalDate;
+import biweekly.util.Recurrence;
+
+import seedu.address.model.person.TimeSlot;
+
+/**
+ * Expands the recurrence of a {@code VEvent}, given by its RRULE, RDATE and EXDATE properties, into the weekly
+ * {@code TimeSlot}s it takes up within a term.
+ *
+ * Daily and weekly rules are expanded in full, with their INTERVAL, COUNT, UNTIL, BYDAY and WKST parts. Other
+ * frequencies do not repeat weekly, so only their first occurrence is used. Each distinct day and time that the event
+ * occurs on within the term becomes one {@code TimeSlot}, so a rule with BYDAY=MO,WE gives two {@code TimeSlot}s
+ * however many weeks it runs for.
+ *
+ * Students of a course share the same lessons, so the calendars of a cohort repeat the same events many times. The
+ * {@code TimeSlot}s of each recurrence are therefore remembered, and the same recurrence is expanded only once.
+ */
+class RecurrenceExpander {
+
+    /** Longest term expanded; later occurrences fall on the same days and times as earlier ones */
+    static final int MAX_TERM_WEEKS = 53;
+
+    /** Number of recurrences whose {@code TimeSlot}s are remembered */
+    private static final int CACHE_SIZE = 4096;
+
+    private static final DayOfWeek DEFAULT_WEEK_START = DayOfWeek.MONDAY;
+
+    // Least recently used recurrences are forgotten first; guarded by itself
+    private final Map<List<Object>, Set<TimeSlot>> cache = new LinkedHashMap<List<Object>, Set<TimeSlot>>(16, 0.75f,
+            true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, Set<TimeSlot>> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Returns the weekly {@code TimeSlot}s, in {@code zoneId}, of the occurrences of {@code vEvent} that start from
+     * {@code termStart} to {@code termEnd} inclusive. At most {@value #MAX_TERM_WEEKS} weeks of the term are expanded,
+     * from the later of {@code termStart} and the event's start.
+     * {@code vEvent} must have both a start and an end.
+     *
+     * @throws IllegalArgumentException if an occurrence does not end on the day it starts.
+     */
+    Set<TimeSlot> expand(VEvent vEvent, ZoneId zoneId, LocalDate termStart, LocalDate termEnd) {
+        requireNonNull(vEvent);
+        requireNonNull(zoneId);
+        requireNonNull(termStart);
+        requireNonNull(termEnd);
+
+        Instant start = vEvent.getDateStart().getValue().toInstant();
+        Instant end = vEvent.getDateEnd().getValue().toInstant();
+        RecurrenceRule recurrenceRule = vEvent.getRecurrenceRule();
+        Recurrence recurrence = recurrenceRule == null ? null : recurrenceRule.getValue();
+        List<ICalDate> exceptionDates = new ArrayList<>();
+        for (ExceptionDates property : vEvent.getExceptionDates()) {
+            exceptionDates.addAll(property.getValues());
+        }
+        List<ICalDate> recurrenceDates = new ArrayList<>();
+        for (RecurrenceDates property : vEvent.getRecurrenceDates()) {
+            recurrenceDates.addAll(property.getDates());
+        }
+
+        List<Object> key = Arrays.asList(start, end, zoneId, termStart, termEnd, getRuleKey(recurrence),
+                getDatesKey(exceptionDates), getDatesKey(recurrenceDates));
+        synchronized (cache) {
+            Set<TimeSlot> timeSlots = cache.get(key);
+            if (timeSlots != null) {
+                return timeSlots;
+            }
+        }
+
+        Set<TimeSlot> timeSlots = Collections.unmodifiableSet(
+                expand(start, end, recurrence, exceptionDates, recurrenceDates, zoneId, termStart, termEnd));
+        synchronized (cache) {
+            cache.put(key, timeSlots);
+        }
+        return timeSlots;
+    }
+
+    /**
+     * Returns the weekly {@code TimeSlot}s, in {@code zoneId}, of the occurrences from {@code start} to {@code end}
+     * given by {@code recurrence}, {@code recurrenceDates} and {@code exceptionDates}, that start within the term.
+     */
+    private static Set<TimeSlot> expand(Instant start, Instant end, Recurrence recurrence,
+                                        List<ICalDate> exceptionDates, List<ICalDate> recurrenceDates,
+                                        ZoneId zoneId, LocalDate termStart, LocalDate termEnd) {
+        Set<DayOfWeek> byDays = getByDays(recurrence);
+        ZoneId ruleZoneId = getRuleZoneId(start, byDays, zoneId);
+        LocalDateTime ruleStart = LocalDateTime.ofInstant(start, ruleZoneId);
+
+        LocalDate startDate = LocalDateTime.ofInstant(start, zoneId).toLocalDate();
+        LocalDate firstDate = termStart.isAfter(startDate) ? termStart : startDate;
+        LocalDate lastTermDate = firstDate.plusWeeks(MAX_TERM_WEEKS);
+        LocalDate lastDate = termEnd.isBefore(lastTermDate) ? termEnd : lastTermDate;
+        if (firstDate.isAfter(lastDate)) {
+            return Collections.emptySet();
+        }
+
+        Set<LocalDateTime> occurrences = new LinkedHashSet<>();
+        if (recurrence != null && isExpandable(recurrence.getFrequency())) {
+            // Occurrences in the rule's time zone may fall a day either side of the term in zoneId
+            addRuleOccurrences(occurrences, recurrence, byDays, ruleStart, ruleZoneId, firstDate.minusDays(1),
+                    lastDate.plusDays(1));
+        } else {
+            occurrences.add(ruleStart);
+        }
+        for (ICalDate date : recurrenceDates) {
+            occurrences.add(date.hasTime()
+                    ? LocalDateTime.ofInstant(date.toInstant(), ruleZoneId)
+                    : toLocalDate(date, ruleZoneId).atTime(ruleStart.toLocalTime()));
+        }
+        for (ICalDate date : exceptionDates) {
+            if (date.hasTime()) {
+                occurrences.remove(LocalDateTime.ofInstant(date.toInstant(), ruleZoneId));
+            } else {
+                LocalDate exceptionDate = toLocalDate(date, ruleZoneId);
+                occurrences.removeIf(occurrence -> occurrence.toLocalDate().equals(exceptionDate));
+            }
+        }
+
+        Duration duration = Duration.between(start, end);
+        Set<TimeSlot> timeSlots = new LinkedHashSet<>();
+        for (LocalDateTime occurrence : occurrences) {
+            Instant occurrenceStart = occurrence.atZone(ruleZoneId).toInstant();
+            LocalDateTime localStart = LocalDateTime.ofInstant(occurrenceStart, zoneId);
+            if (localStart.toLocalDate().isBefore(firstDate) || localStart.toLocalDate().isAfter(lastDate)) {
+                continue;
+            }
+            LocalDateTime localEnd = LocalDateTime.ofInstant(occurrenceStart.plus(duration), zoneId);
+            timeSlots.add(new TimeSlot(localStart.getDayOfWeek(), localStart.toLocalTime(),
+                    localEnd.toLocalTime()));
+        }
+        return timeSlots;
+    }
+
+    /**
+     * Adds the occurrences of the daily or weekly {@code recurrence} starting at {@code ruleStart}, that fall from
+     * {@code firstDate} to {@code lastDate} inclusive, to {@code occurrences}.
+     */
+    private static void addRuleOccurrences(Set<LocalDateTime> occurrences, Recurrence recurrence,
+                                           Set<DayOfWeek> byDays, LocalDateTime ruleStart, ZoneId ruleZoneId,
+                                           LocalDate firstDate, LocalDate lastDate) {
+        boolean isWeekly = recurrence.getFrequency() == Frequency.WEEKLY;
+        int interval = recurrence.getInterval() == null ? 1 : Math.max(recurrence.getInterval(), 1);
+        Integer count = recurrence.getCount();
+        ICalDate until = recurrence.getUntil();
+
+        LocalDate startDate = ruleStart.toLocalDate();
+        // A weekly rule repeats in periods of whole weeks, starting on the rule's first day of the week
+        DayOfWeek weekStart = recurrence.getWorkweekStarts() == null
+                ? DEFAULT_WEEK_START : DayOfWeek.valueOf(recurrence.getWorkweekStarts().name());
+        LocalDate firstPeriodStart = isWeekly
+                ? startDate.with(TemporalAdjusters.previousOrSame(weekStart)) : startDate;
+        int periodDays = (isWeekly ? 7 : 1) * interval;
+        List<Integer> dayOffsets = new ArrayList<>();
+        for (int offset = 0; offset < (isWeekly ? 7 : 1); offset++) {
+            DayOfWeek day = firstPeriodStart.plusDays(offset).getDayOfWeek();
+            if (!isWeekly || (byDays.isEmpty() ? day == startDate.getDayOfWeek() : byDays.contains(day))) {
+                dayOffsets.add(offset);
+            }
+        }
+
+        // The start always counts as the first occurrence
+        int occurrenceCount = 1;
+        addOccurrence(occurrences, ruleStart, firstDate, lastDate);
+
+        long period = 0;
+        if (count == null) {
+            // Periods before the term cannot add any occurrences in it, so they are skipped
+            period = Math.max(0, ChronoUnit.DAYS.between(firstPeriodStart, firstDate) / periodDays);
+        }
+        for (;; period++) {
+            LocalDate periodStart = firstPeriodStart.plusDays(period * periodDays);
+            if (periodStart.isAfter(lastDate)) {
+                return;
+            }
+            for (int offset : dayOffsets) {
+                LocalDate date = periodStart.plusDays(offset);
+                if (!date.isAfter(startDate) || (!isWeekly && !byDays.isEmpty()
+                        && !byDays.contains(date.getDayOfWeek()))) {
+                    continue;
+                }
+                LocalDateTime occurrence = date.atTime(ruleStart.toLocalTime());
+                if ((count != null && occurrenceCount >= count) || isAfterUntil(occurrence, ruleZoneId, until)) {
+                    return;
+                }
+                occurrenceCount++;
+                addOccurrence(occurrences, occurrence, firstDate, lastDate);
+            }
+        }
+    }
+
+    private static void addOccurrence(Set<LocalDateTime> occurrences, LocalDateTime occurrence, LocalDate firstDate,
+                                      LocalDate lastDate) {
+        if (!occurrence.toLocalDate().isBefore(firstDate) && !occurrence.toLocalDate().isAfter(lastDate)) {
+            occurrences.add(occurrence);
+        }
+    }
+
+    /**
+     * Returns true if {@code occurrence}, in {@code ruleZoneId}, starts after the UNTIL part {@code until} of a rule.
+     * A date-only {@code until} includes the whole of its date.
+     */
+    private static boolean isAfterUntil(LocalDateTime occurrence, ZoneId ruleZoneId, ICalDate until) {
+        if (until == null) {
+            return false;
+        }
+        return until.hasTime()
+                ? occurrence.atZone(ruleZoneId).toInstant().isAfter(until.toInstant())
+                : occurrence.toLocalDate().isAfter(toLocalDate(until, ruleZoneId));
+    }
+
+    private static boolean isExpandable(Frequency frequency) {
+        return frequency == Frequency.DAILY || frequency == Frequency.WEEKLY;
+    }
+
+    /**
+     * Returns the time zone that the days of the rule are in. The days of a rule must include the day it starts on,
+     * so a rule whose days include the day it starts on in UTC, but not in {@code zoneId}, is in UTC.
+     */
+    private static ZoneId getRuleZoneId(Instant start, Set<DayOfWeek> byDays, ZoneId zoneId) {
+        if (!byDays.isEmpty()
+                && !byDays.contains(LocalDateTime.ofInstant(start, zoneId).getDayOfWeek())
+                && byDays.contains(LocalDateTime.ofInstant(start, ZoneOffset.UTC).getDayOfWeek())) {
+            return ZoneOffset.UTC;
+        }
+        return zoneId;
+    }
+
+    /**
+     * Returns the days of the week of the BYDAY part of {@code recurrence}. Numbered days, such as the first Monday
+     * of a month, only apply to monthly and yearly rules, and are left out.
+     */
+    private static Set<DayOfWeek> getByDays(Recurrence recurrence) {
+        Set<DayOfWeek> byDays = EnumSet.noneOf(DayOfWeek.class);
+        if (recurrence == null) {
+            return byDays;
+        }
+        for (ByDay byDay : recurrence.getByDay()) {
+            if (byDay.getNum() == null && byDay.getDay() != null) {
+                byDays.add(DayOfWeek.valueOf(byDay.getDay().name()));
+            }
+        }
+        return byDays;
+    }
+
+    /**
+     * Returns the date of a date-only value, as written in the calendar.
+     * Biweekly reads such a value as midnight in the system's default time zone, which may lie on another date in
+     * {@code zoneId}, so the written date is taken from the parsed components. A value that was not parsed is read
+     * in {@code zoneId}.
+     */
+    private static LocalDate toLocalDate(ICalDate date, ZoneId zoneId) {
+        DateTimeComponents components = date.getRawComponents();
+        if (components != null) {
+            return LocalDate.of(components.getYear(), components.getMonth(), components.getDate());
+        }
+        return LocalDateTime.ofInstant(date.toInstant(), zoneId).toLocalDate();
+    }
+
+    /**
+     * Returns the parts of {@code recurrence} that its occurrences depend on, in a form that can be compared.
+     */
+    private static List<Object> getRuleKey(Recurrence recurrence) {
+        if (recurrence == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(recurrence.getFrequency(), recurrence.getInterval(), recurrence.getCount(),
+                getDatesKey(recurrence.getUntil() == null
+                        ? Collections.emptyList() : Collections.singletonList(recurrence.getUntil())),
+                getByDays(recurrence), recurrence.getWorkweekStarts());
+    }
+
+    private static List<Object> getDatesKey(List<ICalDate> dates) {
+        List<Object> key = new ArrayList<>();
+        for (ICalDate date : dates) {
+            key.add(date.getTime());
+            key.add(date.hasTime());
+        }
+        return key;
+    }
+}
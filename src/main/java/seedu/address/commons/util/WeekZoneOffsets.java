@@ -0,0 +1,101 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The offsets from UTC of a time zone over a span of weeks, with the transitions between them looked up once.
+ *
+ * {@code ZoneRules.getOffset(LocalDateTime)} searches the transitions of the zone on every call, which adds up when
+ * every {@code TimeSlot} of a timetable is converted. A week rarely has more than one transition, so the offset of a
+ * local date-time in the span is found here by comparing it with the few transitions in the span.
+ */
+public class WeekZoneOffsets {
+
+    private final ZoneRules zoneRules;
+    private final LocalDateTime spanStart;
+    private final LocalDateTime spanEnd;
+    // Offset in force before the first transition, then after each transition in the span
+    private final ZoneOffset[] offsets;
+    // Local date-time from which the offset after each transition applies
+    private final LocalDateTime[] transitionStarts;
+
+    private WeekZoneOffsets(ZoneRules zoneRules, LocalDateTime spanStart, LocalDateTime spanEnd,
+                            ZoneOffset[] offsets, LocalDateTime[] transitionStarts) {
+        this.zoneRules = zoneRules;
+        this.spanStart = spanStart;
+        this.spanEnd = spanEnd;
+        this.offsets = offsets;
+        this.transitionStarts = transitionStarts;
+    }
+
+    /**
+     * Returns the offsets of {@code zoneId} over the week starting on {@code firstDay}.
+     */
+    public static WeekZoneOffsets of(ZoneId zoneId, LocalDate firstDay) {
+        return of(zoneId, firstDay, 1);
+    }
+
+    /**
+     * Returns the offsets of {@code zoneId} over the {@code weeks} weeks starting on {@code firstDay}.
+     * The span also covers the day after its last week, so that a time slot ending at the end of the week is in it.
+     */
+    public static WeekZoneOffsets of(ZoneId zoneId, LocalDate firstDay, int weeks) {
+        requireNonNull(zoneId);
+        requireNonNull(firstDay);
+        if (weeks <= 0) {
+            throw new IllegalArgumentException("The number of weeks must be positive");
+        }
+
+        ZoneRules zoneRules = zoneId.getRules();
+        LocalDateTime spanStart = firstDay.atStartOfDay();
+        LocalDateTime spanEnd = firstDay.plusWeeks(weeks).plusDays(1).atStartOfDay();
+
+        // The instants of the span are widened by a day on each side, so no transition that changes the offset of a
+        // local date-time in the span is missed, whatever the offsets are
+        Instant searchStart = spanStart.minusDays(1).toInstant(ZoneOffset.UTC);
+        Instant searchEnd = spanEnd.plusDays(1).toInstant(ZoneOffset.UTC);
+
+        List<ZoneOffset> offsets = new ArrayList<>();
+        List<LocalDateTime> transitionStarts = new ArrayList<>();
+        offsets.add(zoneRules.getOffset(searchStart));
+        ZoneOffsetTransition transition = zoneRules.nextTransition(searchStart);
+        while (transition != null && transition.getInstant().isBefore(searchEnd)) {
+            // Local date-times in a gap or an overlap take the offset before the transition, as in ZoneRules
+            LocalDateTime before = transition.getDateTimeBefore();
+            LocalDateTime after = transition.getDateTimeAfter();
+            transitionStarts.add(transition.isGap() ? after : before);
+            offsets.add(transition.getOffsetAfter());
+            transition = zoneRules.nextTransition(transition.getInstant());
+        }
+
+        return new WeekZoneOffsets(zoneRules, spanStart, spanEnd, offsets.toArray(new ZoneOffset[0]),
+                transitionStarts.toArray(new LocalDateTime[0]));
+    }
+
+    /**
+     * Returns the offset of {@code localDateTime}, the same as {@code ZoneRules.getOffset(LocalDateTime)}.
+     * Local date-times outside the span are looked up in the rules of the zone.
+     */
+    public ZoneOffset getOffset(LocalDateTime localDateTime) {
+        requireNonNull(localDateTime);
+        if (localDateTime.isBefore(spanStart) || !localDateTime.isBefore(spanEnd)) {
+            return zoneRules.getOffset(localDateTime);
+        }
+
+        int index = 0;
+        while (index < transitionStarts.length && !localDateTime.isBefore(transitionStarts[index])) {
+            index++;
+        }
+        return offsets[index];
+    }
+}
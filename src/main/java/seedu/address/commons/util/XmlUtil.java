@@ -3,19 +3,39 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * Creating a {@code JAXBContext} is expensive, so one is created per class and reused for every later read and
+ * write. Marshallers and unmarshallers are not thread-safe, so each thread keeps its own.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> marshallers = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Unmarshaller>> unmarshallers =
+            ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> fragmentMarshallers =
+            ThreadLocal.withInitial(HashMap::new);
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,22 +57,48 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getUnmarshaller(classToConvert);
 
         return ((T) um.unmarshal(file.toFile()));
     }
 
+    /**
+     * Returns the xml element at the current position of {@code reader} as an object of the specified type, and
+     * moves {@code reader} to the event following the end of the element.
+     *
+     * @param reader         Positioned at the start of an element containing data that match the
+     *                       {@code classToConvert}. Cannot be null.
+     * @param classToConvert The class corresponding to the xml data.
+     *                       Cannot be null.
+     * @throws JAXBException Thrown if the element does not have the correct format.
+     */
+    public static <T> T getDataFromReader(XMLStreamReader reader, Class<T> classToConvert) throws JAXBException {
+        requireNonNull(reader);
+        requireNonNull(classToConvert);
+
+        return getUnmarshaller(classToConvert).unmarshal(reader, classToConvert).getValue();
+    }
+
     /**
      * Saves the data in the file in xml format.
      *
      * @param file Points to a valid xml file containing data that match the {@code classToConvert}.
      *             Cannot be null.
      * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws IOException           Thrown if there is an error writing to the file.
      * @throws JAXBException         Thrown if there is an error during converting the data
-     *                               into xml and writing to the file.
+     *                               into xml.
      */
-    public static <T> void saveDataToFile(Path file, T data) throws FileNotFoundException, JAXBException {
+    public static <T> void saveDataToFile(Path file, T data) throws IOException, JAXBException {
+        saveDataToFile(file, data, 0);
+    }
+
+    /**
+     * Similar to {@link #saveDataToFile(Path, Object)}, replacing the file atomically and keeping
+     * {@code backupCount} previous versions of it as {@link FileUtil#writeAtomically(Path, int, FileUtil.StreamWriter)}
+     * does.
+     */
+    public static <T> void saveDataToFile(Path file, T data, int backupCount) throws IOException, JAXBException {
 
         requireNonNull(file);
         requireNonNull(data);
@@ -61,11 +107,92 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Marshaller m = getMarshaller(data.getClass());
+
+        FileUtil.writeAtomically(file, backupCount, out -> m.marshal(data, out));
+    }
+
+    /**
+     * Returns {@code data} as an xml element named {@code elementName}, on a single line and without an xml
+     * declaration. The element can be read back with {@link #fromXmlFragment(String, Class)}.
+     */
+    public static <T> String toXmlFragment(String elementName, Class<T> type, T data) throws JAXBException {
+        requireNonNull(elementName);
+        requireNonNull(type);
+        requireNonNull(data);
+
+        StringWriter writer = new StringWriter();
+        getFragmentMarshaller(type).marshal(new JAXBElement<>(new QName(elementName), type, data), writer);
+        // Line breaks can only appear in text content, where character references read back the same
+        return writer.toString().replace("\r", "&#13;").replace("\n", "&#10;");
+    }
+
+    /**
+     * Returns the object of type {@code type} in an xml element written by
+     * {@link #toXmlFragment(String, Class, Object)}.
+     *
+     * @throws JAXBException Thrown if {@code xml} does not have the correct format.
+     */
+    public static <T> T fromXmlFragment(String xml, Class<T> type) throws JAXBException {
+        requireNonNull(xml);
+        requireNonNull(type);
+
+        return getUnmarshaller(type).unmarshal(new StreamSource(new StringReader(xml)), type).getValue();
+    }
+
+    /**
+     * Returns the {@code JAXBContext} for {@code type}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            JAXBContext existing = contexts.putIfAbsent(type, context);
+            context = (existing == null) ? context : existing;
+        }
+        return context;
+    }
+
+    /**
+     * Returns the current thread's {@code Marshaller} for {@code type}, creating it on first use.
+     */
+    private static Marshaller getMarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Marshaller> threadMarshallers = marshallers.get();
+        Marshaller m = threadMarshallers.get(type);
+        if (m == null) {
+            m = getContext(type).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            threadMarshallers.put(type, m);
+        }
+        return m;
+    }
 
-        m.marshal(data, file.toFile());
+    /**
+     * Returns the current thread's {@code Marshaller} for writing {@code type} as an xml fragment, creating it on
+     * first use.
+     */
+    private static Marshaller getFragmentMarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Marshaller> threadMarshallers = fragmentMarshallers.get();
+        Marshaller m = threadMarshallers.get(type);
+        if (m == null) {
+            m = getContext(type).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            threadMarshallers.put(type, m);
+        }
+        return m;
+    }
+
+    /**
+     * Returns the current thread's {@code Unmarshaller} for {@code type}, creating it on first use.
+     */
+    private static Unmarshaller getUnmarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Unmarshaller> threadUnmarshallers = unmarshallers.get();
+        Unmarshaller um = threadUnmarshallers.get(type);
+        if (um == null) {
+            um = getContext(type).createUnmarshaller();
+            threadUnmarshallers.put(type, um);
+        }
+        return um;
     }
 
 }
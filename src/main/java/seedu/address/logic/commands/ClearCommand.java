@@ -39,6 +39,7 @@ public class ClearCommand extends Command {
         TimeTable timeTable = new TimeTable();
 
         return new Person(personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
-                personToEdit.getAddress(), personToEdit.getTags(), timeTable, personToEdit.getFriends());
+                personToEdit.getAddress(), personToEdit.getTags(), timeTable, personToEdit.getFriends(),
+                personToEdit.getTimeZone());
     }
 }
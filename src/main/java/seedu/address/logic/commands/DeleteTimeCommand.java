@@ -73,7 +73,8 @@ public class DeleteTimeCommand extends Command {
         }
 
         return new Person(personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
-                personToEdit.getAddress(), personToEdit.getTags(), timeTable, personToEdit.getFriends());
+                personToEdit.getAddress(), personToEdit.getTags(), timeTable, personToEdit.getFriends(),
+                personToEdit.getTimeZone());
     }
 
     @Override
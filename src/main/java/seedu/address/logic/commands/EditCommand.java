@@ -5,7 +5,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME_ZONE;
 
+import java.time.ZoneId;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
@@ -18,10 +20,10 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Friend;
+import seedu.address.model.person.LazyTimeTable;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
-import seedu.address.model.person.TimeTable;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -39,7 +41,8 @@ public class EditCommand extends Command {
             + "[" + PREFIX_PHONE + "PHONE] "
             + "[" + PREFIX_EMAIL + "EMAIL] "
             + "[" + PREFIX_ADDRESS + "ADDRESS] "
-            + "[" + PREFIX_TAG + "GROUP]...\n"
+            + "[" + PREFIX_TAG + "GROUP]... "
+            + "[" + PREFIX_TIME_ZONE + "TIME_ZONE]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_PHONE + "91234567 "
             + PREFIX_EMAIL + "johndoe@example.com "
@@ -88,10 +91,12 @@ public class EditCommand extends Command {
         Email updatedEmail = editPersonDescriptor.getEmail().orElse(personToEdit.getEmail());
         Address updatedAddress = editPersonDescriptor.getAddress().orElse(personToEdit.getAddress());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
-        TimeTable timeTable = personToEdit.getTimeTable();
+        LazyTimeTable timeTable = personToEdit.getLazyTimeTable();
         Set<Friend> friendList = personToEdit.getFriends();
+        Optional<ZoneId> updatedTimeZone = editPersonDescriptor.getTimeZone().orElse(personToEdit.getTimeZone());
 
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags, timeTable, friendList);
+        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags, timeTable, friendList,
+                updatedTimeZone);
     }
 
     @Override
@@ -122,6 +127,8 @@ public class EditCommand extends Command {
         private Address address;
         private Set<Tag> tags;
         private Set<Friend> friendList;
+        // Empty to edit the person to the default time zone
+        private Optional<ZoneId> timeZone;
 
         public EditPersonDescriptor() {}
 
@@ -136,13 +143,14 @@ public class EditCommand extends Command {
             setAddress(toCopy.address);
             setTags(toCopy.tags);
             setFriends(toCopy.friendList);
+            setTimeZone(toCopy.timeZone);
         }
 
         /**
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(phone, email, address, tags);
+            return CollectionUtil.isAnyNonNull(phone, email, address, tags, timeZone);
         }
 
         public void setName(Name name) {
@@ -177,6 +185,18 @@ public class EditCommand extends Command {
             return Optional.ofNullable(address);
         }
 
+        public void setTimeZone(Optional<ZoneId> timeZone) {
+            this.timeZone = timeZone;
+        }
+
+        /**
+         * Returns the time zone to edit the person to, which is itself empty to edit them to the default time zone.
+         * Returns {@code Optional#empty()} if the time zone is not edited.
+         */
+        public Optional<Optional<ZoneId>> getTimeZone() {
+            return Optional.ofNullable(timeZone);
+        }
+
         /**
          * Sets {@code tags} to this object's {@code tags}.
          * A defensive copy of {@code tags} is used internally.
@@ -221,7 +241,8 @@ public class EditCommand extends Command {
                     && getPhone().equals(e.getPhone())
                     && getEmail().equals(e.getEmail())
                     && getAddress().equals(e.getAddress())
-                    && getTags().equals(e.getTags());
+                    && getTags().equals(e.getTags())
+                    && getTimeZone().equals(e.getTimeZone());
         }
     }
 }
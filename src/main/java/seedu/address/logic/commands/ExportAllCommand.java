@@ -0,0 +1,261 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.commons.util.IcsUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.User;
+import seedu.address.model.person.Friend;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Exports the timetables of many persons to a user-specified folder, as one .ICS file per person.
+ */
+public class ExportAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "exportall";
+    public static final String COMMAND_WORD_ALIAS = "exa";
+    public static final String FRIENDS_KEYWORD = "friends";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the timetable of each person to the folder (.\\import_export\\FOLDERNAME), "
+            + "as one file per person named after them, e.g. alex_yeoh.ics, "
+            + "or after their phone if the name is shared. "
+            + "Only your friends are exported if \"" + FRIENDS_KEYWORD + "\" is given, "
+            + "and only the persons with the tag if a tag is given.\n"
+            + "Parameters: "
+            + "FOLDERNAME [" + FRIENDS_KEYWORD + "] [g/TAG]\n"
+            + "Example: " + COMMAND_WORD
+            + " my_export_folder_name " + FRIENDS_KEYWORD + " g/CS2103";
+
+    public static final String MESSAGE_EXPORT_STARTED = "Exporting %1$d timetable(s) to %2$s...";
+    public static final String MESSAGE_EXPORT_SUCCESS = "Exported %1$d of %2$d timetable(s) to %3$s.";
+    public static final String MESSAGE_EMPTY = "Export Failed: None of the persons selected has a timetable!";
+    public static final String MESSAGE_NOT_LOGGED_IN = "Export Failed: Please log in to export your friends!";
+    public static final String MESSAGE_IO_ERROR = "Export Failed: Failed to create the folder: %1$s";
+    public static final String MESSAGE_FILES_FAILED = "\nFailed to write: %1$s.";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportAllCommand.class);
+
+    private static final String ICS_EXTENSION = ".ics";
+
+    /** Largest number of files written at the same time */
+    private static final int MAX_WRITING_THREADS = 4;
+
+    private final Path folderPath;
+    private final Tag group;
+    private final boolean isFriendsOnly;
+    private final Consumer<String> resultListener;
+
+    /**
+     * Creates an ExportAllCommand to export the timetables of the selected persons to the folder at
+     * {@code folderPath}.
+     *
+     * @param group         The tag of the persons to export, or null to export persons with any tags.
+     * @param isFriendsOnly Whether to export only the friends of the user.
+     */
+    public ExportAllCommand(Path folderPath, Tag group, boolean isFriendsOnly) {
+        this(folderPath, group, isFriendsOnly, null);
+    }
+
+    /**
+     * Creates an ExportAllCommand that passes the result message of each export to {@code resultListener} once
+     * every file is written, instead of showing it.
+     */
+    ExportAllCommand(Path folderPath, Tag group, boolean isFriendsOnly, Consumer<String> resultListener) {
+        requireNonNull(folderPath);
+
+        this.folderPath = folderPath;
+        this.group = group;
+        this.isFriendsOnly = isFriendsOnly;
+        this.resultListener = resultListener;
+    }
+
+    /**
+     * Exports the timetables in the background, and returns as soon as the export has started. The result of the
+     * export is shown once every file is written.
+     */
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        User user = model.getUser();
+        if (isFriendsOnly && user == null) {
+            throw new CommandException(MESSAGE_NOT_LOGGED_IN);
+        }
+
+        // Commands replace the record of a person they change instead of changing it, so the persons selected can
+        // be written out while the model goes on changing
+        List<Person> persons = new ArrayList<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            if ((group == null || person.getTags().contains(group))
+                    && (!isFriendsOnly || user.getFriends().contains(new Friend(person.getName())))
+                    && !person.getTimeSlots().isEmpty()) {
+                persons.add(person);
+            }
+        }
+        if (persons.isEmpty()) {
+            throw new CommandException(MESSAGE_EMPTY);
+        }
+
+        try {
+            Files.createDirectories(folderPath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_IO_ERROR, folderPath.toString()));
+        }
+
+        exportAll(persons, getFiles(persons), model.getTimeZone()).thenAccept(failedFiles -> {
+            String message = String.format(MESSAGE_EXPORT_SUCCESS, persons.size() - failedFiles.size(),
+                    persons.size(), folderPath.toString());
+            if (!failedFiles.isEmpty()) {
+                StringJoiner fileNames = new StringJoiner(", ");
+                failedFiles.forEach(file -> fileNames.add(file.getFileName().toString()));
+                message += String.format(MESSAGE_FILES_FAILED, fileNames);
+            }
+            if (resultListener == null) {
+                raise(new NewResultAvailableEvent(message));
+            } else {
+                resultListener.accept(message);
+            }
+        });
+        return new CommandResult(String.format(MESSAGE_EXPORT_STARTED, persons.size(), folderPath.toString()));
+    }
+
+    /**
+     * Writes the timetable of each of {@code persons} to the file at the same index of {@code files}, on a bounded
+     * pool of threads. Each {@code ICalendar} is built from the person's {@code TimeSlot}s just before its file is
+     * written, so only those of the files being written are held in memory at once, and no {@code TimeTable} is
+     * built. The {@code TimeSlot}s of a person are taken to be in their own time zone, or {@code defaultZoneId} if they
+     * have none.
+     *
+     * @return the files that could not be written, once every file has been attempted.
+     */
+    private CompletableFuture<List<Path>> exportAll(List<Person> persons, List<Path> files, ZoneId defaultZoneId) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(persons.size(), MAX_WRITING_THREADS),
+                ExportAllCommand::newWriterThread);
+
+        List<CompletableFuture<Path>> writes = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            Path file = files.get(i);
+            ZoneId zoneId = person.getTimeZone().orElse(defaultZoneId);
+            writes.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    IcsUtil.getInstance().saveTimeSlotsToFile(person.getTimeSlots(), zoneId, file);
+                    return null;
+                } catch (IOException e) {
+                    logger.info("Failed to export " + file + ": " + e.getMessage());
+                    return file;
+                }
+            }, executor));
+        }
+
+        return CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0])).handle((ignored, error) -> {
+            executor.shutdown();
+            List<Path> failedFiles = new ArrayList<>();
+            for (int i = 0; i < writes.size(); i++) {
+                Path failedFile = writes.get(i).isCompletedExceptionally() ? files.get(i) : writes.get(i).join();
+                if (failedFile != null) {
+                    failedFiles.add(failedFile);
+                }
+            }
+            return failedFiles;
+        });
+    }
+
+    /**
+     * Returns a thread for the executor that writes the exported files.
+     */
+    private static Thread newWriterThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "ics-export");
+        // An unfinished export does not keep the application open
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Returns the file of each of {@code persons}, named after them so that {@code ImportAllCommand} matches it back
+     * to them. Persons sharing a name are named after their phone instead, or their email if that is taken too. A
+     * person whose every such file name is taken gets their name with a number appended, so no file is written twice.
+     */
+    private List<Path> getFiles(List<Person> persons) {
+        Map<String, Integer> nameCounts = new HashMap<>();
+        for (Person person : persons) {
+            nameCounts.merge(toKey(person.getName().fullName), 1, Integer::sum);
+        }
+
+        // File names may not be case sensitive
+        Set<String> usedKeys = new HashSet<>();
+        List<Path> files = new ArrayList<>();
+        for (Person person : persons) {
+            String name = person.getName().fullName;
+            List<String> candidates = new ArrayList<>();
+            if (nameCounts.get(toKey(name)) == 1) {
+                candidates.add(name);
+            }
+            candidates.add(person.getPhone().value);
+            candidates.add(person.getEmail().value);
+
+            String fileName = null;
+            for (String candidate : candidates) {
+                if (usedKeys.add(toKey(candidate))) {
+                    fileName = candidate;
+                    break;
+                }
+            }
+            for (int i = 2; fileName == null; i++) {
+                if (usedKeys.add(toKey(name + " " + i))) {
+                    fileName = name + " " + i;
+                }
+            }
+            files.add(folderPath.resolve(fileName.replace(' ', '_') + ICS_EXTENSION));
+        }
+        return files;
+    }
+
+    private static String toKey(String fileName) {
+        return fileName.replace(' ', '_').toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportAllCommand)) {
+            return false;
+        }
+
+        ExportAllCommand otherCommand = (ExportAllCommand) other;
+        return folderPath.equals(otherCommand.folderPath)
+                && Objects.equals(group, otherCommand.group)
+                && isFriendsOnly == otherCommand.isFriendsOnly;
+    }
+}
@@ -10,7 +10,9 @@ import seedu.address.commons.util.IcsUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.User;
 import seedu.address.model.person.DeconflictTimeTable;
+import seedu.address.model.person.QuorumTimeTable;
 import seedu.address.model.person.TimeTable;
 
 /**
@@ -49,19 +51,19 @@ public class ExportCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        //TODO: remove hardcoding of timezone in import and export command once TimeSlots are in UTC.
-        ZoneId zoneIdSingapore = ZoneId.of("Asia/Shanghai");
-
         TimeTable timeTable = model.getTimeTable();
         if (timeTable.isEmpty()) {
             throw new CommandException(MESSAGE_EMPTY);
         }
         //do not allow export free-timetable
-        if (timeTable instanceof DeconflictTimeTable) {
+        if (timeTable instanceof DeconflictTimeTable || timeTable instanceof QuorumTimeTable) {
             throw new CommandException(MESSAGE_INVALID_TIMETABLE);
         }
+        // The timetable shown is in the time zone of the user
+        User user = model.getUser();
+        ZoneId zoneId = user == null ? model.getTimeZone() : user.getTimeZone().orElse(model.getTimeZone());
         try {
-            IcsUtil.getInstance().saveTimeTableToFile(timeTable, zoneIdSingapore, filePath);
+            IcsUtil.getInstance().saveTimeTableToFile(timeTable, zoneId, filePath);
         } catch (IOException e) {
             throw new CommandException(String.format(MESSAGE_IO_ERROR + filePath.toString()));
         }
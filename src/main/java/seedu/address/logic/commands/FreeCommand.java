@@ -1,9 +1,12 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_AVAILABLE;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -13,6 +16,9 @@ import seedu.address.model.Model;
 import seedu.address.model.User;
 import seedu.address.model.person.DeconflictTimeTable;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.QuorumTimeTable;
+import seedu.address.model.person.TimeTable;
+import seedu.address.model.person.TimeZoneShift;
 
 /**
  * Selects a person identified using its displayed index from the address book.
@@ -23,16 +29,28 @@ public class FreeCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Displays all common free timeslots between your timetable and the timetables of all selected people.\n"
-            + "Parameters: [INDEX]... (must be positive integers)\n"
-            + "Example: " + COMMAND_WORD + " 1 2 3";
+            + "If a minimum is given, displays the timeslots where at least that many people, including you, "
+            + "are free instead.\n"
+            + "Parameters: [INDEX]... (must be positive integers) "
+            + "[" + PREFIX_MIN_AVAILABLE + "MINIMUM]\n"
+            + "Example: " + COMMAND_WORD + " 1 2 3 " + PREFIX_MIN_AVAILABLE + "3";
 
     public static final String MESSAGE_FREE_SUCCESS = "Displaying free timeslots with people: ";
+    public static final String MESSAGE_QUORUM_SUCCESS = "Displaying timeslots where at least %1$d of %2$d are free "
+            + "with people: ";
 
     private final Collection<Index> targetIndices;
+    private final Optional<Integer> minAvailable;
 
     public FreeCommand(Collection <Index> targetIndices) {
+        this(targetIndices, Optional.empty());
+    }
+
+    public FreeCommand(Collection <Index> targetIndices, Optional<Integer> minAvailable) {
         requireNonNull(targetIndices);
+        requireNonNull(minAvailable);
         this.targetIndices = targetIndices;
+        this.minAvailable = minAvailable;
     }
 
     @Override
@@ -42,7 +60,7 @@ public class FreeCommand extends Command {
         User user = model.getUser();
         List<Person> friendList = model.getCurrentFriendList();
 
-        DeconflictTimeTable deconflict = new DeconflictTimeTable(user.getTimeTable());
+        List<Person> persons = new ArrayList<>();
 
         for (Index index : targetIndices) {
             if (index.getZeroBased() >= friendList.size()) {
@@ -50,12 +68,29 @@ public class FreeCommand extends Command {
             }
 
             Person person = friendList.get(index.getZeroBased());
-            deconflict.addTimeTable(person.getTimeTable());
+            persons.add(person);
         }
 
-        model.updateTimeTable(deconflict);
+        // Each friend's timetable is moved into the user's time zone, which the results are shown in
+        List<TimeTable> timeTables = new ArrayList<>();
+        timeTables.add(user.getTimeTable());
+        timeTables.addAll(TimeZoneShift.toTimeZone(persons, model.getTimeZone(),
+                user.getTimeZone().orElse(model.getTimeZone())));
+
+        StringBuilder resultString;
 
-        StringBuilder resultString = new StringBuilder(MESSAGE_FREE_SUCCESS);
+        if (minAvailable.isPresent()) {
+            if (!QuorumTimeTable.isValidQuorum(minAvailable.get(), timeTables.size())) {
+                throw new CommandException(QuorumTimeTable.MESSAGE_INVALID_QUORUM);
+            }
+
+            model.updateTimeTable(QuorumTimeTable.of(timeTables, minAvailable.get()));
+            resultString = new StringBuilder(
+                    String.format(MESSAGE_QUORUM_SUCCESS, minAvailable.get(), timeTables.size()));
+        } else {
+            model.updateTimeTable(DeconflictTimeTable.merge(timeTables));
+            resultString = new StringBuilder(MESSAGE_FREE_SUCCESS);
+        }
 
         for (Index index : targetIndices) {
             resultString.append(friendList.get(index.getZeroBased()).getName());
@@ -72,6 +107,7 @@ public class FreeCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FreeCommand // instanceof handles nulls
-                && targetIndices.equals(((FreeCommand) other).targetIndices)); // state check
+                && targetIndices.equals(((FreeCommand) other).targetIndices) // state check
+                && minAvailable.equals(((FreeCommand) other).minAvailable));
     }
 }
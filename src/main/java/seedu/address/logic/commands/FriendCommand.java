@@ -2,13 +2,16 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.User;
 import seedu.address.model.person.Friend;
 import seedu.address.model.person.Person;
 
@@ -42,16 +45,27 @@ public class FriendCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
         Person personToEdit = otherList.get(targetIndex.getZeroBased());
-        Person editedPerson = personToEdit;
-        Person editedUser = model.getUser();
-
-        editedPerson.getFriends().add(new Friend(model.getUser().getName()));
-        editedUser.getFriends().add(new Friend(personToEdit.getName()));
-
 
+        // Both records are replaced, as changing their friend sets in place would go unnoticed by the model
+        Person editedPerson = createPersonWithFriend(personToEdit, new Friend(model.getUser().getName()));
         model.updatePerson(personToEdit, editedPerson);
-        model.updatePerson(model.getUser(), editedUser);
+
+        // The user is looked up again, as their record has just been replaced if they are personToEdit
+        User user = model.getUser();
+        model.updatePerson(user, createPersonWithFriend(user, new Friend(personToEdit.getName())));
 
         return new CommandResult(String.format(MESSAGE_ADD_FRIEND_SUCCESS, editedPerson.getName().toString()));
     }
+
+    /**
+     * Creates and returns a {@code Person} with the details of {@code person}, and {@code friend} added to its
+     * friend list.
+     */
+    private static Person createPersonWithFriend(Person person, Friend friend) {
+        Set<Friend> friendList = new HashSet<>(person.getFriends());
+        friendList.add(friend);
+
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getTags(), person.getLazyTimeTable(), friendList, person.getTimeZone());
+    }
 }
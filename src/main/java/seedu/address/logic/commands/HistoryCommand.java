@@ -6,23 +6,49 @@ import java.util.Collections;
 import java.util.List;
 
 import seedu.address.logic.CommandHistory;
+import seedu.address.model.HistoryStatistics;
 import seedu.address.model.Model;
 import seedu.address.security.SecurityAuthenticationException;
 
 /**
- * Lists all the commands entered by user from the start of app launch.
+ * Lists all the commands entered by user from the start of app launch, or shows how much the undo/redo history
+ * holds.
  */
 public class HistoryCommand extends Command {
 
     public static final String COMMAND_WORD = "history";
     public static final String COMMAND_WORD_ALIAS = "hi";
+    public static final String STATISTICS_KEYWORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the commands you have entered, or shows how much the undo history holds if "
+            + STATISTICS_KEYWORD + " is given.\n"
+            + "Parameters: [" + STATISTICS_KEYWORD + "]\n"
+            + "Example: " + COMMAND_WORD + " " + STATISTICS_KEYWORD;
+
     public static final String MESSAGE_SUCCESS = "Entered commands (from most recent to earliest):\n%1$s";
     public static final String MESSAGE_NO_HISTORY = "You have not yet entered any commands.";
+    public static final String MESSAGE_STATISTICS = "Undo history: %1$d undoable and %2$d redoable states "
+            + "(limit %3$d), about %4$d KB in use (limit %5$d KB).";
+
+    private final boolean showStatistics;
+
+    public HistoryCommand() {
+        this(false);
+    }
+
+    public HistoryCommand(boolean showStatistics) {
+        this.showStatistics = showStatistics;
+    }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws SecurityAuthenticationException {
         requireNonNull(history);
 
+        if (showStatistics) {
+            return showStatistics(model);
+        }
+
         List<String> previousCommands = history.getHistory();
 
         if (previousCommands.isEmpty()) {
@@ -33,4 +59,23 @@ public class HistoryCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)));
     }
 
+    /**
+     * Returns the number of undoable and redoable states in the address book history, and the memory they use.
+     */
+    private CommandResult showStatistics(Model model) {
+        requireNonNull(model);
+
+        HistoryStatistics statistics = model.getAddressBookHistoryStatistics();
+        return new CommandResult(String.format(MESSAGE_STATISTICS, statistics.getUndoableStates(),
+                statistics.getRedoableStates(), statistics.getMaxStates(), statistics.getEstimatedBytes() / 1024,
+                statistics.getMaxBytes() / 1024));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof HistoryCommand // instanceof handles nulls
+                && showStatistics == ((HistoryCommand) other).showStatistics);
+    }
+
 }
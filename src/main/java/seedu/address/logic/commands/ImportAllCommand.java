@@ -0,0 +1,286 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.IcsImportResult;
+import seedu.address.commons.util.IcsUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.User;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeTable;
+import seedu.address.model.person.exceptions.TimeSlotOverlapException;
+
+/**
+ * Imports the timetables in every .ICS file of a user-provided folder, each into the person the file is named after.
+ */
+public class ImportAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "importall";
+    public static final String COMMAND_WORD_ALIAS = "ima";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports the timetable of each person from the files in the folder (.\\import_export\\FOLDERNAME). "
+            + "Each file is named after the person's name, phone or email, e.g. alex_yeoh.ics or 87438807.ics. "
+            + "Parameters: "
+            + "FOLDERNAME \n"
+            + "Example: " + COMMAND_WORD
+            + " my_import_folder_name";
+
+    public static final String MESSAGE_IMPORT_SUCCESS = "Imported %1$d of %2$d timetable(s) from: %3$s.";
+    public static final String MESSAGE_NO_FILES = "There are no .ics files in: %1$s.";
+    public static final String MESSAGE_IO_ERROR =
+            "Failed to read the folder at: %1$s.\nPlease check the folder exists.";
+    public static final String MESSAGE_FILES_IMPORTED = "\nImported: %1$s.";
+    public static final String MESSAGE_FILES_OVERLAP_TIMESLOT = "\nOverlapping timeslots in: %1$s.";
+    public static final String MESSAGE_FILES_UNREADABLE = "\nFailed to read: %1$s.";
+    public static final String MESSAGE_FILES_EMPTY = "\nNo timetable data in: %1$s.";
+    public static final String MESSAGE_FILES_NO_PERSON = "\nNo person matching: %1$s.";
+    public static final String MESSAGE_FILES_SAME_PERSON = "\nAnother file is for the same person as: %1$s.";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportAllCommand.class);
+
+    private static final String ICS_EXTENSION = ".ics";
+
+    /** Largest number of files parsed at the same time */
+    private static final int MAX_PARSING_THREADS = 4;
+
+    /**
+     * The outcome of importing a single file, in the order they are reported in.
+     */
+    private enum Outcome {
+        IMPORTED(MESSAGE_FILES_IMPORTED),
+        OVERLAP(MESSAGE_FILES_OVERLAP_TIMESLOT),
+        UNREADABLE(MESSAGE_FILES_UNREADABLE),
+        EMPTY(MESSAGE_FILES_EMPTY),
+        NO_PERSON(MESSAGE_FILES_NO_PERSON),
+        SAME_PERSON(MESSAGE_FILES_SAME_PERSON);
+
+        private final String message;
+
+        Outcome(String message) {
+            this.message = message;
+        }
+    }
+
+    private final Path folderPath;
+
+    /**
+     * Creates an ImportAllCommand to import the .ics files in the folder at {@code folderPath}
+     */
+    public ImportAllCommand(Path folderPath) {
+        requireNonNull(folderPath);
+
+        this.folderPath = folderPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        List<Path> files;
+        try {
+            files = listIcsFiles(folderPath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_IO_ERROR, folderPath.toString()));
+        }
+        if (files.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FILES, folderPath.toString()));
+        }
+
+        Map<Path, Outcome> outcomes = new LinkedHashMap<>();
+        Map<Path, Person> personsToEdit = new LinkedHashMap<>();
+        Map<Person, Path> filesOfPersons = new HashMap<>();
+        Map<String, Person> personsByKey = getPersonsByKey(model.getAddressBook().getPersonList());
+        for (Path file : files) {
+            Person person = personsByKey.get(getKey(file));
+            if (person == null) {
+                outcomes.put(file, Outcome.NO_PERSON);
+            } else if (filesOfPersons.containsKey(person)) {
+                outcomes.put(file, Outcome.SAME_PERSON);
+                outcomes.put(filesOfPersons.get(person), Outcome.SAME_PERSON);
+                personsToEdit.remove(filesOfPersons.get(person));
+            } else {
+                filesOfPersons.put(person, file);
+                personsToEdit.put(file, person);
+            }
+        }
+
+        Map<Path, TimeTable> timeTables = parseAll(personsToEdit, model.getTimeZone(), outcomes);
+
+        // Every timetable is in place before the address book is committed, so a single undo reverts the import
+        User user = model.getUser();
+        for (Map.Entry<Path, TimeTable> entry : timeTables.entrySet()) {
+            Person personToEdit = personsToEdit.get(entry.getKey());
+            Person modifiedPerson = ImportCommand.createModifiedPerson(personToEdit, entry.getValue());
+            model.updatePerson(personToEdit, modifiedPerson);
+            if (user != null && personToEdit.isSamePerson(user)) {
+                model.updateTimeTable(modifiedPerson.getTimeTable());
+            }
+            outcomes.put(entry.getKey(), Outcome.IMPORTED);
+        }
+        if (!timeTables.isEmpty()) {
+            model.commitAddressBook();
+        }
+
+        return new CommandResult(String.format(MESSAGE_IMPORT_SUCCESS, timeTables.size(), files.size(),
+                folderPath.toString()) + getSummary(outcomes));
+    }
+
+    /**
+     * Parses the file of each of {@code personsToEdit} on a bounded pool of threads, and returns the non-empty
+     * timetables read, in the order of {@code personsToEdit}. The {@code TimeSlot}s read are in the time zone of the
+     * person the file is of, or {@code defaultZoneId} if they have none. The outcome of each file that could not be
+     * imported is recorded in {@code outcomes}.
+     */
+    private static Map<Path, TimeTable> parseAll(Map<Path, Person> personsToEdit, ZoneId defaultZoneId,
+            Map<Path, Outcome> outcomes) throws CommandException {
+        List<Path> files = new ArrayList<>(personsToEdit.keySet());
+        Map<Path, TimeTable> timeTables = new LinkedHashMap<>();
+        if (files.isEmpty()) {
+            return timeTables;
+        }
+
+        List<Callable<IcsImportResult>> tasks = new ArrayList<>();
+        for (Path file : files) {
+            ZoneId zoneId = personsToEdit.get(file).getTimeZone().orElse(defaultZoneId);
+            tasks.add(() -> IcsUtil.getInstance().importTimeTableFromFile(file, zoneId));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(files.size(), MAX_PARSING_THREADS));
+        try {
+            List<Future<IcsImportResult>> results = executor.invokeAll(tasks);
+            for (int i = 0; i < files.size(); i++) {
+                Path file = files.get(i);
+                try {
+                    TimeTable timeTable = results.get(i).get().getTimeTable();
+                    if (timeTable.isEmpty()) {
+                        outcomes.put(file, Outcome.EMPTY);
+                    } else {
+                        timeTables.put(file, timeTable);
+                    }
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof TimeSlotOverlapException) {
+                        outcomes.put(file, Outcome.OVERLAP);
+                    } else {
+                        logger.info("Failed to import " + file + ": " + e.getCause());
+                        outcomes.put(file, Outcome.UNREADABLE);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+        return timeTables;
+    }
+
+    /**
+     * Returns the .ics files in {@code folder}, sorted by name.
+     */
+    private static List<Path> listIcsFiles(Path folder) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder)) {
+            for (Path file : stream) {
+                if (Files.isRegularFile(file)
+                        && file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(ICS_EXTENSION)) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(null);
+        return files;
+    }
+
+    /**
+     * Returns {@code persons} by each key that a file may be named after: their name, phone and email.
+     * A key shared by several persons is left out, since it cannot tell them apart.
+     */
+    private static Map<String, Person> getPersonsByKey(List<Person> persons) {
+        Map<String, Person> personsByKey = new HashMap<>();
+        List<String> ambiguousKeys = new ArrayList<>();
+        for (Person person : persons) {
+            for (String key : new String[] {toKey(person.getName().fullName), toKey(person.getPhone().value),
+                    toKey(person.getEmail().value)}) {
+                Person other = personsByKey.putIfAbsent(key, person);
+                if (other != null && other != person) {
+                    ambiguousKeys.add(key);
+                }
+            }
+        }
+        personsByKey.keySet().removeAll(ambiguousKeys);
+        return personsByKey;
+    }
+
+    /**
+     * Returns the key of the person that {@code file} is named after.
+     */
+    private static String getKey(Path file) {
+        String fileName = file.getFileName().toString();
+        return toKey(fileName.substring(0, fileName.length() - ICS_EXTENSION.length()));
+    }
+
+    /**
+     * Returns {@code value} in lower case, with underscores as spaces, so that "Alex_Yeoh" and "alex yeoh" match.
+     */
+    private static String toKey(String value) {
+        return value.replace('_', ' ').trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the names of the files with each outcome, one line per outcome.
+     */
+    private static String getSummary(Map<Path, Outcome> outcomes) {
+        StringBuilder summary = new StringBuilder();
+        for (Outcome outcome : Outcome.values()) {
+            StringJoiner fileNames = new StringJoiner(", ");
+            outcomes.forEach((file, fileOutcome) -> {
+                if (fileOutcome == outcome) {
+                    fileNames.add(file.getFileName().toString());
+                }
+            });
+            if (fileNames.length() > 0) {
+                summary.append(String.format(outcome.message, fileNames));
+            }
+        }
+        return summary.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportAllCommand)) {
+            return false;
+        }
+
+        return folderPath.equals(((ImportAllCommand) other).folderPath);
+    }
+}
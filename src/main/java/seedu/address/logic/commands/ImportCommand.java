@@ -4,9 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.time.ZoneId;
 import java.util.Set;
 
+import seedu.address.commons.util.IcsImportResult;
 import seedu.address.commons.util.IcsUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -37,6 +37,7 @@ public class ImportCommand extends Command {
             + " my_import_file_name";
 
     public static final String MESSAGE_IMPORT_SUCCESS = "Imported timetable at: %1$s.";
+    public static final String MESSAGE_EVENTS_SKIPPED = "\nSkipped %1$d event(s): %2$s.";
     public static final String MESSAGE_FILE_EMPTY = "Could not obtain any TimeTable data from: %1$s"
             + "\nPlease check that the file is not empty, and contains timetable data.";
     public static final String MESSAGE_IO_ERROR =
@@ -62,12 +63,11 @@ public class ImportCommand extends Command {
         Person personToEdit = model.getUser();
         requireNonNull(personToEdit);
 
-        TimeTable timeTable;
+        IcsImportResult importResult;
 
         try {
-            //TODO: remove hardcoding of timezone in import and export command once TimeSlots are in UTC.
-            ZoneId zoneIdSingapore = ZoneId.of("Asia/Shanghai");
-            timeTable = IcsUtil.getInstance().readTimeTableFromFile(filePath, zoneIdSingapore);
+            importResult = IcsUtil.getInstance().importTimeTableFromFile(filePath,
+                    personToEdit.getTimeZone().orElse(model.getTimeZone()));
         } catch (IOException e) {
             throw new CommandException(String.format(MESSAGE_IO_ERROR, filePath.toString()));
         } catch (TimeSlotOverlapException e) {
@@ -76,6 +76,7 @@ public class ImportCommand extends Command {
             throw new CommandException(e.getMessage());
         }
 
+        TimeTable timeTable = importResult.getTimeTable();
         if (timeTable.isEmpty()) {
             return new CommandResult(String.format(MESSAGE_FILE_EMPTY, filePath.toString()));
         } else {
@@ -84,14 +85,19 @@ public class ImportCommand extends Command {
             model.updatePerson(personToEdit, modifiedPerson);
             model.commitAddressBook();
             model.updateTimeTable(modifiedPerson.getTimeTable());
-            return new CommandResult(String.format(MESSAGE_IMPORT_SUCCESS, filePath.toString()));
+            String message = String.format(MESSAGE_IMPORT_SUCCESS, filePath.toString());
+            if (importResult.getSkippedCount() > 0) {
+                message += String.format(MESSAGE_EVENTS_SKIPPED, importResult.getSkippedCount(),
+                        importResult.getSkippedSummary());
+            }
+            return new CommandResult(message);
         }
     }
 
     /**
      * Creates and returns a {@code Person}, who has their (@code TimeTable) changed. (all else same.)
      */
-    private static Person createModifiedPerson(Person personToEdit, TimeTable importedTimeTable) {
+    static Person createModifiedPerson(Person personToEdit, TimeTable importedTimeTable) {
         assert personToEdit != null;
 
         Name updatedName = personToEdit.getName();
@@ -103,7 +109,7 @@ public class ImportCommand extends Command {
 
         return new Person(
                 updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags,
-                importedTimeTable, updatedFriends);
+                importedTimeTable, updatedFriends, personToEdit.getTimeZone());
     }
 
     @Override
@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_AVAILABLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PREFERRED_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME_WINDOW;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.User;
+import seedu.address.model.person.MeetingSlotFinder;
+import seedu.address.model.person.MeetingSlotFinder.MeetingSlot;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.QuorumTimeTable;
+import seedu.address.model.person.TimeTable;
+import seedu.address.model.person.TimeZoneShift;
+
+/**
+ * Finds the best slots for a meeting between the user and the selected people
+ */
+public class MeetCommand extends Command {
+    public static final String COMMAND_WORD = "meet";
+    public static final String COMMAND_WORD_ALIAS = "m";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the best timeslots for a meeting of the given length between you and all selected people, "
+            + "ranked by how many people are free and how close they are to the preferred time.\n"
+            + "Parameters: [INDEX]... (must be positive integers) "
+            + PREFIX_DURATION + "MINUTES "
+            + "[" + PREFIX_DAY + "DAY]... "
+            + "[" + PREFIX_TIME_WINDOW + "START-END] "
+            + "[" + PREFIX_PREFERRED_TIME + "TIME] "
+            + "[" + PREFIX_LIMIT + "NUMBER_OF_RESULTS] "
+            + "[" + PREFIX_MIN_AVAILABLE + "MINIMUM]\n"
+            + "Example: " + COMMAND_WORD + " 1 2 " + PREFIX_DURATION + "90 " + PREFIX_DAY + "Mon " + PREFIX_DAY + "Tue "
+            + PREFIX_TIME_WINDOW + "9-18 " + PREFIX_PREFERRED_TIME + "14";
+
+    public static final String MESSAGE_MEET_SUCCESS = "Best timeslots to meet with people: %1$s\n%2$s";
+    public static final String MESSAGE_NO_SLOTS = "There is no timeslot long enough to meet with people: %1$s";
+
+    private final Collection<Index> targetIndices;
+    private final MeetingSlotFinder finder;
+
+    public MeetCommand(Collection<Index> targetIndices, MeetingSlotFinder finder) {
+        requireNonNull(targetIndices);
+        requireNonNull(finder);
+        this.targetIndices = targetIndices;
+        this.finder = finder;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        User user = model.getUser();
+        List<Person> friendList = model.getCurrentFriendList();
+
+        List<Person> persons = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+
+        for (Index index : targetIndices) {
+            if (index.getZeroBased() >= friendList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+
+            Person person = friendList.get(index.getZeroBased());
+            persons.add(person);
+            names.add(person.getName().toString());
+        }
+
+        // Each friend's timetable is moved into the user's time zone, which the results are shown in
+        List<TimeTable> timeTables = new ArrayList<>();
+        timeTables.add(user.getTimeTable());
+        timeTables.addAll(TimeZoneShift.toTimeZone(persons, model.getTimeZone(),
+                user.getTimeZone().orElse(model.getTimeZone())));
+
+        if (finder.getMinAvailable().isPresent()
+                && !QuorumTimeTable.isValidQuorum(finder.getMinAvailable().get(), timeTables.size())) {
+            throw new CommandException(QuorumTimeTable.MESSAGE_INVALID_QUORUM);
+        }
+
+        List<MeetingSlot> meetingSlots = finder.find(timeTables);
+
+        if (meetingSlots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_SLOTS, String.join(", ", names)));
+        }
+
+        StringBuilder slotsString = new StringBuilder();
+        for (int i = 0; i < meetingSlots.size(); i++) {
+            slotsString.append(i + 1).append(". ").append(meetingSlots.get(i)).append("\n");
+        }
+
+        return new CommandResult(String.format(MESSAGE_MEET_SUCCESS, String.join(", ", names),
+                slotsString.toString().trim()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MeetCommand // instanceof handles nulls
+                && targetIndices.equals(((MeetCommand) other).targetIndices) // state check
+                && finder.equals(((MeetCommand) other).finder));
+    }
+}
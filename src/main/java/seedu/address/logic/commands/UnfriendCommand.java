@@ -2,13 +2,17 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.User;
+import seedu.address.model.person.Friend;
 import seedu.address.model.person.Person;
 /**
  * Adds a user from the frined list to the others list
@@ -42,13 +46,25 @@ public class UnfriendCommand extends Command {
         }
         Person personToEdit = friendList.get(targetIndex.getZeroBased());
 
-        Person editedPerson = personToEdit;
-        Person editedUser = model.getUser();
-        editedPerson.getFriends().removeIf(p -> p.friendName.equals(model.getUser().getName()));
-        editedUser.getFriends().removeIf(p -> p.friendName.equals(editedPerson.getName()));
-
+        // Both records are replaced, as changing their friend sets in place would go unnoticed by the model
+        Person editedPerson = createPersonWithoutFriend(personToEdit, new Friend(model.getUser().getName()));
         model.updatePerson(personToEdit, editedPerson);
-        model.updatePerson(model.getUser(), editedUser);
+
+        // The user is looked up again, as their record has just been replaced if they are personToEdit
+        User user = model.getUser();
+        model.updatePerson(user, createPersonWithoutFriend(user, new Friend(personToEdit.getName())));
         return new CommandResult(String.format(MESSAGE_REMOVE_FRIEND_SUCCESS, editedPerson.getName().toString()));
     }
+
+    /**
+     * Creates and returns a {@code Person} with the details of {@code person}, and {@code friend} removed from its
+     * friend list.
+     */
+    private static Person createPersonWithoutFriend(Person person, Friend friend) {
+        Set<Friend> friendList = new HashSet<>(person.getFriends());
+        friendList.remove(friend);
+
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getTags(), person.getLazyTimeTable(), friendList, person.getTimeZone());
+    }
 }
@@ -13,16 +13,19 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteTimeCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportAllCommand;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FreeCommand;
 import seedu.address.logic.commands.FriendCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportAllCommand;
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.LoginCommand;
 import seedu.address.logic.commands.LogoutCommand;
+import seedu.address.logic.commands.MeetCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RegisterCommand;
 import seedu.address.logic.commands.SelectCommand;
@@ -106,7 +109,7 @@ public class AddressBookParser {
 
         case HistoryCommand.COMMAND_WORD:
         case HistoryCommand.COMMAND_WORD_ALIAS:
-            return new HistoryCommand();
+            return new HistoryCommandParser().parse(arguments);
 
         case ExitCommand.COMMAND_WORD:
         case ExitCommand.COMMAND_WORD_ALIAS:
@@ -140,10 +143,18 @@ public class AddressBookParser {
         case ImportCommand.COMMAND_WORD_ALIAS:
             return new ImportCommandParser().parse(arguments);
 
+        case ImportAllCommand.COMMAND_WORD:
+        case ImportAllCommand.COMMAND_WORD_ALIAS:
+            return new ImportAllCommandParser().parse(arguments);
+
         case ExportCommand.COMMAND_WORD:
         case ExportCommand.COMMAND_WORD_ALIAS:
             return new ExportCommandParser().parse(arguments);
 
+        case ExportAllCommand.COMMAND_WORD:
+        case ExportAllCommand.COMMAND_WORD_ALIAS:
+            return new ExportAllCommandParser().parse(arguments);
+
         case AddTimeCommand.COMMAND_WORD:
         case AddTimeCommand.COMMAND_WORD_ALIAS:
             return new AddTimeCommandParser().parse(arguments);
@@ -156,6 +167,10 @@ public class AddressBookParser {
         case FreeCommand.COMMAND_WORD_ALIAS:
             return new FreeCommandParser().parse(arguments);
 
+        case MeetCommand.COMMAND_WORD:
+        case MeetCommand.COMMAND_WORD_ALIAS:
+            return new MeetCommandParser().parse(arguments);
+
         case LoginCommand.COMMAND_WORD:
         case LoginCommand.COMMAND_WORD_ALIAS:
             return new LoginCommandParser().parse(arguments);
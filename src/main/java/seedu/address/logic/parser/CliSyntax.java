@@ -12,4 +12,11 @@ public class CliSyntax {
     public static final Prefix PREFIX_EMAIL = new Prefix("e/");
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_TAG = new Prefix("g/");
+    public static final Prefix PREFIX_TIME_ZONE = new Prefix("tz/");
+    public static final Prefix PREFIX_MIN_AVAILABLE = new Prefix("min/");
+    public static final Prefix PREFIX_DURATION = new Prefix("dur/");
+    public static final Prefix PREFIX_DAY = new Prefix("day/");
+    public static final Prefix PREFIX_TIME_WINDOW = new Prefix("time/");
+    public static final Prefix PREFIX_PREFERRED_TIME = new Prefix("pref/");
+    public static final Prefix PREFIX_LIMIT = new Prefix("top/");
 }
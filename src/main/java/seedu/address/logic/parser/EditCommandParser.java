@@ -5,6 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME_ZONE;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -29,8 +30,8 @@ public class EditCommandParser extends ParserClass implements Parser<EditCommand
     public EditCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG, PREFIX_TIME_ZONE);
 
         EditPersonDescriptor editPersonDescriptor = new EditPersonDescriptor();
         /*if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
@@ -45,6 +46,9 @@ public class EditCommandParser extends ParserClass implements Parser<EditCommand
         if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
             editPersonDescriptor.setAddress(ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get()));
         }
+        if (argMultimap.getValue(PREFIX_TIME_ZONE).isPresent()) {
+            editPersonDescriptor.setTimeZone(ParserUtil.parseTimeZone(argMultimap.getValue(PREFIX_TIME_ZONE).get()));
+        }
 
         parseTagsForEdit(argMultimap.getAllValues(PREFIX_TAG)).ifPresent(editPersonDescriptor::setTags);
 
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ExportAllCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new ExportAllCommand object
+ */
+public class ExportAllCommandParser extends ParserClass implements Parser<ExportAllCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportAllCommand
+     * and returns an ExportAllCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportAllCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+
+        String[] preamble = argMultimap.getPreamble().trim().split("\\s+");
+        if (preamble[0].isEmpty() || preamble.length > 2
+                || (preamble.length == 2 && !preamble[1].equals(ExportAllCommand.FRIENDS_KEYWORD))) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportAllCommand.MESSAGE_USAGE));
+        }
+
+        Path path = ParserUtil.parseImportExportFolderName(preamble[0]);
+        Optional<String> group = argMultimap.getValue(PREFIX_TAG);
+        Tag tag = group.isPresent() ? ParserUtil.parseTag(group.get()) : null;
+        return new ExportAllCommand(path, tag, preamble.length == 2);
+    }
+}
@@ -1,10 +1,10 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_AVAILABLE;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.FreeCommand;
@@ -21,14 +21,18 @@ public class FreeCommandParser extends ParserClass implements Parser<FreeCommand
      */
     public FreeCommand parse(String args) throws ParseException {
 
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MIN_AVAILABLE);
+
         try {
-            Collection <Index> indices = new ArrayList<>();
+            Collection<Index> indices = ParserUtil.parseIndices(argMultimap.getPreamble());
 
-            for (String string : Arrays.asList(args.trim().split("\\s+"))) {
-                indices.add(ParserUtil.parseIndex(string));
+            Optional<Integer> minAvailable = Optional.empty();
+            Optional<String> minAvailableString = argMultimap.getValue(PREFIX_MIN_AVAILABLE);
+            if (minAvailableString.isPresent()) {
+                minAvailable = Optional.of(ParserUtil.parsePositiveInteger(minAvailableString.get()));
             }
 
-            return new FreeCommand(indices);
+            return new FreeCommand(indices, minAvailable);
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE), pe);
         }
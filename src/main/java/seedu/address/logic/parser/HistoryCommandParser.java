@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new HistoryCommand object
+ */
+public class HistoryCommandParser extends ParserClass implements Parser<HistoryCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the HistoryCommand
+     * and returns a HistoryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public HistoryCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+
+        if (trimmedArgs.isEmpty()) {
+            return new HistoryCommand();
+        } else if (trimmedArgs.equals(HistoryCommand.STATISTICS_KEYWORD)) {
+            return new HistoryCommand(true);
+        } else {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.ImportAllCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportAllCommand object
+ */
+public class ImportAllCommandParser extends ParserClass implements Parser<ImportAllCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportAllCommand
+     * and returns an ImportAllCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportAllCommand parse(String args) throws ParseException {
+        if (args.trim().length() == 0) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportAllCommand.MESSAGE_USAGE));
+        } else {
+            Path path = ParserUtil.parseImportExportFolderName(args);
+            return new ImportAllCommand(path);
+        }
+    }
+}
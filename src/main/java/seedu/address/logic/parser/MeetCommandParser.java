@@ -0,0 +1,124 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_AVAILABLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PREFERRED_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME_WINDOW;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MeetCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.MeetingSlotFinder;
+import seedu.address.model.person.TimeSlot;
+
+/**
+ * Parses input arguments and creates a new {@code MeetCommand} object
+ */
+public class MeetCommandParser extends ParserClass implements Parser<MeetCommand> {
+    private static final LocalTime DEFAULT_WINDOW_START = LocalTime.MIN;
+    private static final LocalTime DEFAULT_WINDOW_END = LocalTime.parse("23:59");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MeetCommand
+     * and returns an {@code MeetCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MeetCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DURATION, PREFIX_DAY,
+                PREFIX_TIME_WINDOW, PREFIX_PREFERRED_TIME, PREFIX_LIMIT, PREFIX_MIN_AVAILABLE);
+
+        if (!argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MeetCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            Collection<Index> indices = ParserUtil.parseIndices(argMultimap.getPreamble());
+
+            Duration duration = Duration.ofMinutes(
+                    ParserUtil.parsePositiveInteger(argMultimap.getValue(PREFIX_DURATION).get()));
+
+            Set<DayOfWeek> days = parseDays(argMultimap.getAllValues(PREFIX_DAY));
+
+            LocalTime windowStart = DEFAULT_WINDOW_START;
+            LocalTime windowEnd = DEFAULT_WINDOW_END;
+            Optional<String> windowString = argMultimap.getValue(PREFIX_TIME_WINDOW);
+            if (windowString.isPresent()) {
+                String[] startAndEnd = windowString.get().split("-", 2);
+                if (startAndEnd.length != 2) {
+                    throw new ParseException(TimeSlot.MESSAGE_CANNOT_PARSE_TIME);
+                }
+                windowStart = parseTime(startAndEnd[0]);
+                windowEnd = parseTime(startAndEnd[1]);
+                if (!windowStart.isBefore(windowEnd)) {
+                    throw new ParseException(MeetingSlotFinder.MESSAGE_INVALID_WINDOW);
+                }
+            }
+
+            Optional<LocalTime> preferredStart = Optional.empty();
+            if (argMultimap.getValue(PREFIX_PREFERRED_TIME).isPresent()) {
+                preferredStart = Optional.of(parseTime(argMultimap.getValue(PREFIX_PREFERRED_TIME).get()));
+            }
+
+            int limit = MeetingSlotFinder.DEFAULT_LIMIT;
+            if (argMultimap.getValue(PREFIX_LIMIT).isPresent()) {
+                limit = ParserUtil.parsePositiveInteger(argMultimap.getValue(PREFIX_LIMIT).get());
+            }
+
+            Optional<Integer> minAvailable = Optional.empty();
+            if (argMultimap.getValue(PREFIX_MIN_AVAILABLE).isPresent()) {
+                minAvailable = Optional.of(
+                        ParserUtil.parsePositiveInteger(argMultimap.getValue(PREFIX_MIN_AVAILABLE).get()));
+            }
+
+            return new MeetCommand(indices, new MeetingSlotFinder(duration, days, windowStart, windowEnd,
+                    preferredStart, minAvailable, limit));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MeetCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+    /**
+     * Parses {@code dayStrings} into a {@code Set<DayOfWeek>}, or the default days if none are given
+     */
+    private static Set<DayOfWeek> parseDays(List<String> dayStrings) throws ParseException {
+        if (dayStrings.isEmpty()) {
+            return MeetingSlotFinder.DEFAULT_DAYS;
+        }
+
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String dayString : dayStrings) {
+            try {
+                days.add(ParserUtil.parseDay(dayString.trim()));
+            } catch (IllegalArgumentException e) {
+                throw new ParseException(TimeSlot.MESSAGE_CANNOT_PARSE_DAY);
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Parses {@code timeString} into a {@code LocalTime}.
+     *
+     * @throws ParseException if {@code timeString} is not a valid time.
+     */
+    private static LocalTime parseTime(String timeString) throws ParseException {
+        try {
+            return ParserUtil.parseTime(timeString.trim());
+        } catch (DateTimeParseException e) {
+            throw new ParseException(TimeSlot.MESSAGE_CANNOT_PARSE_TIME);
+        }
+    }
+}
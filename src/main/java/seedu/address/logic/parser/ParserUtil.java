@@ -7,11 +7,15 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.Messages;
@@ -21,6 +25,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.TimeSlot;
 import seedu.address.model.tag.Tag;
@@ -31,6 +36,7 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_POSITIVE_INTEGER = "Number is not a non-zero unsigned integer.";
     public static final HashMap<String, DayOfWeek> DAY_OF_WEEK_MAP = new HashMap<>();
     public static final String IMPORT_EXPORT_FOLDER = "import_export";
 
@@ -57,6 +63,32 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndices}, separated by whitespace, into {@code Index}es and returns them in the order
+     * given. An index that is given more than once is only returned once.
+     * @throws ParseException if any of the specified indices is invalid (not non-zero unsigned integer).
+     */
+    public static Collection<Index> parseIndices(String oneBasedIndices) throws ParseException {
+        Set<Index> indices = new LinkedHashSet<>();
+        for (String oneBasedIndex : oneBasedIndices.trim().split("\\s+")) {
+            indices.add(parseIndex(oneBasedIndex));
+        }
+        return new ArrayList<>(indices);
+    }
+
+    /**
+     * Parses {@code number} into a positive {@code int} and returns it. Leading and trailing whitespaces will be
+     * trimmed.
+     * @throws ParseException if the specified number is invalid (not non-zero unsigned integer).
+     */
+    public static int parsePositiveInteger(String number) throws ParseException {
+        String trimmedNumber = number.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedNumber)) {
+            throw new ParseException(MESSAGE_INVALID_POSITIVE_INTEGER);
+        }
+        return Integer.parseInt(trimmedNumber);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -132,6 +164,25 @@ public class ParserUtil {
         return new Email(trimmedEmail);
     }
 
+    /**
+     * Parses a {@code String timeZone} into a {@code ZoneId}, or an empty {@code Optional} if it is blank, to use the
+     * default time zone.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code timeZone} is invalid.
+     */
+    public static Optional<ZoneId> parseTimeZone(String timeZone) throws ParseException {
+        requireNonNull(timeZone);
+        String trimmedTimeZone = timeZone.trim();
+        if (trimmedTimeZone.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!Person.isValidTimeZone(trimmedTimeZone)) {
+            throw new ParseException(Person.MESSAGE_TIME_ZONE_CONSTRAINTS);
+        }
+        return Optional.of(ZoneId.of(trimmedTimeZone));
+    }
+
     /**
      * Parses a {@code String tag} into a {@code Tag}.
      * Leading and trailing whitespaces will be trimmed.
@@ -254,8 +305,23 @@ public class ParserUtil {
      */
     public static Path parseImportExportFileName (String fileName) throws ParseException {
         requireNonNull(fileName);
-        String trimmedFileName = fileName.trim();
-        String fullFileName = trimmedFileName + ".ics";
+        return parseImportExportPath(fileName.trim(), ".ics");
+    }
+
+    /**
+     * Parses a {@code String folderName} into a {@code Path}
+     * The returned Path is at [.\\import_export\\[folderName]], see {@code ImportAllCommand}
+     */
+    public static Path parseImportExportFolderName (String folderName) throws ParseException {
+        requireNonNull(folderName);
+        return parseImportExportPath(folderName.trim(), "");
+    }
+
+    /**
+     * Returns the Path of {@code trimmedFileName} followed by {@code extension} in the import_export folder.
+     */
+    private static Path parseImportExportPath(String trimmedFileName, String extension) throws ParseException {
+        String fullFileName = trimmedFileName + extension;
 
         //Check if any slash is being used. do not allow user to access folders..
         String slash = ".*[/\\\\].*"; //very confusing! angery!
@@ -3,8 +3,10 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -74,6 +76,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.containsToRegister(person);
     }
 
+    /**
+     * Returns a person named {@code name} in the address book, if there is one.
+     */
+    public Optional<Person> getPersonByName(Name name) {
+        requireNonNull(name);
+        return persons.findByName(name);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -82,6 +92,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Inserts a person at {@code position} in the person list.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(int position, Person p) {
+        persons.add(position, p);
+    }
+
+    /**
+     * Returns the position of {@code p} in the person list, or -1 if it is not in the address book.
+     */
+    int indexOfPerson(Person p) {
+        return persons.indexOf(p);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import java.util.Objects;
+
+/**
+ * Summarises how much the undo/redo history of a {@code VersionedAddressBook} holds, and how much it may hold.
+ * Guarantees: immutable.
+ */
+public class HistoryStatistics {
+
+    private final int undoableStates;
+    private final int redoableStates;
+    private final long estimatedBytes;
+    private final int maxStates;
+    private final long maxBytes;
+
+    public HistoryStatistics(int undoableStates, int redoableStates, long estimatedBytes, int maxStates,
+                             long maxBytes) {
+        this.undoableStates = undoableStates;
+        this.redoableStates = redoableStates;
+        this.estimatedBytes = estimatedBytes;
+        this.maxStates = maxStates;
+        this.maxBytes = maxBytes;
+    }
+
+    public int getUndoableStates() {
+        return undoableStates;
+    }
+
+    public int getRedoableStates() {
+        return redoableStates;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    public int getMaxStates() {
+        return maxStates;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HistoryStatistics)) { //this handles null as well.
+            return false;
+        }
+
+        HistoryStatistics o = (HistoryStatistics) other;
+        return undoableStates == o.undoableStates
+                && redoableStates == o.redoableStates
+                && estimatedBytes == o.estimatedBytes
+                && maxStates == o.maxStates
+                && maxBytes == o.maxBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(undoableStates, redoableStates, estimatedBytes, maxStates, maxBytes);
+    }
+
+    @Override
+    public String toString() {
+        return undoableStates + " undoable, " + redoableStates + " redoable, ~" + estimatedBytes + " bytes";
+    }
+}
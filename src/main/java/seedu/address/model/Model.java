@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import java.time.ZoneId;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -118,6 +119,12 @@ public interface Model {
      */
     User getUser();
 
+    /**
+     * Returns the default time zone, that the {@code TimeSlot}s of the timetable of a person without a time zone of
+     * their own are in.
+     */
+    ZoneId getTimeZone();
+
     /**
      * For CLI Logout to call to raise event
      */
@@ -147,4 +154,9 @@ public interface Model {
      * Saves the current address book state for undo/redo.
      */
     void commitAddressBook();
+
+    /**
+     * Returns how much the undo/redo history of the address book holds.
+     */
+    HistoryStatistics getAddressBookHistoryStatistics();
 }
@@ -3,10 +3,15 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.ComponentManager;
@@ -17,6 +22,7 @@ import seedu.address.commons.events.security.LogoutEvent;
 import seedu.address.model.person.CombinedFriendPredicate;
 import seedu.address.model.person.CombinedOtherPredicate;
 import seedu.address.model.person.FriendListPredicate;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.OtherListPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.TimeTable;
@@ -31,9 +37,18 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Person> friendList;
     private final FilteredList<Person> otherList;
+    // Kept so that the listener recording changes to it stays registered
+    private final ObservableList<Person> personList;
+    // Changes to the person list not yet passed on in an AddressBookChangedEvent
+    private List<PersonListChange> unsavedChanges = new ArrayList<>();
+    // Filters of the friend and other lists, applied on top of the friends of the user
+    private Predicate<Person> friendListFilter = PREDICATE_SHOW_ALL_PERSONS;
+    private Predicate<Person> otherListFilter = PREDICATE_SHOW_ALL_PERSONS;
+    private final ZoneId timeZone;
     private TimeTable timeTable;
-    private ObservableList<Person> list;
     private User user;
+    // Record in the address book that user was last built from
+    private Person userRecord;
 
     /**
      * Initializes a ModelManager with the given addressBook, userPrefs, timeTable.
@@ -44,18 +59,65 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook,
+                parseUndoHistoryMaxStates(userPrefs.getUndoHistoryMaxStates()),
+                parseUndoHistoryMaxBytes(userPrefs.getUndoHistoryMaxBytes()));
         friendList = new FilteredList<>(versionedAddressBook.getPersonList());
         otherList = new FilteredList<>(versionedAddressBook.getPersonList());
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
+        personList = versionedAddressBook.getPersonList();
+        personList.addListener(this::recordPersonListChange);
+        timeZone = parseTimeZone(userPrefs.getTimeZone());
         timeTable = new TimeTable();
         user = null;
+        userRecord = null;
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
+    /**
+     * Returns the time zone with the ID {@code timeZone}, or the system's time zone if {@code timeZone} is null or
+     * there is no such time zone.
+     */
+    private static ZoneId parseTimeZone(String timeZone) {
+        if (timeZone == null) {
+            return ZoneId.systemDefault();
+        }
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException e) {
+            logger.warning("Unknown time zone " + timeZone + ", using the system's time zone "
+                    + ZoneId.systemDefault() + " instead");
+            return ZoneId.systemDefault();
+        }
+    }
+
+    /**
+     * Returns {@code maxStates} if it allows any undo history, or the default limit otherwise.
+     */
+    private static int parseUndoHistoryMaxStates(int maxStates) {
+        if (maxStates > 0) {
+            return maxStates;
+        }
+        logger.warning("Invalid undo history limit of " + maxStates + " states, using "
+                + VersionedAddressBook.DEFAULT_MAX_STATES + " instead");
+        return VersionedAddressBook.DEFAULT_MAX_STATES;
+    }
+
+    /**
+     * Returns {@code maxBytes} if it allows any undo history, or the default limit otherwise.
+     */
+    private static long parseUndoHistoryMaxBytes(long maxBytes) {
+        if (maxBytes > 0) {
+            return maxBytes;
+        }
+        logger.warning("Invalid undo history limit of " + maxBytes + " bytes, using "
+                + VersionedAddressBook.DEFAULT_MAX_BYTES + " instead");
+        return VersionedAddressBook.DEFAULT_MAX_BYTES;
+    }
+
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
         versionedAddressBook.resetData(newData);
@@ -77,7 +139,29 @@ public class ModelManager extends ComponentManager implements Model {
         if (user != null) {
             matchUserToPerson(user.getName().toString());
         }
-        raise(new AddressBookChangedEvent(versionedAddressBook));
+        List<PersonListChange> changes = unsavedChanges;
+        unsavedChanges = new ArrayList<>();
+        raise(new AddressBookChangedEvent(versionedAddressBook, changes));
+    }
+
+    /**
+     * Records the changes to the person list in {@code change}, so that they can be passed on to storage.
+     */
+    private void recordPersonListChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // The person that was at i is now at getPermutation(i)
+                List<Person> before = new ArrayList<>();
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    before.add(change.getList().get(change.getPermutation(i)));
+                }
+                unsavedChanges.add(new PersonListChange(change.getFrom(), before,
+                        change.getList().subList(change.getFrom(), change.getTo())));
+            } else if (change.wasRemoved() || change.wasAdded()) {
+                unsavedChanges.add(new PersonListChange(change.getFrom(), change.getRemoved(),
+                        change.getAddedSubList()));
+            }
+        }
     }
 
     /** Raises an event to indicate the timetable has changed */
@@ -145,16 +229,19 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFriendList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        friendListFilter = predicate;
         friendList.setPredicate(combinedFriendPredicate(predicate, friendsPredicateFromPerson(user)));
     }
 
     @Override
     public void updateOtherList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        otherListFilter = predicate;
         otherList.setPredicate(combinedOtherPredicate(predicate, othersPredicateFromPerson(user)));
     }
 
     public ObservableList<Person> getFriendList() {
+        friendListFilter = PREDICATE_SHOW_ALL_PERSONS;
         friendList.setPredicate(friendsPredicateFromPerson(user));
         return FXCollections.unmodifiableObservableList(friendList);
     }
@@ -168,6 +255,7 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     public ObservableList<Person> getOtherList() {
+        otherListFilter = PREDICATE_SHOW_ALL_PERSONS;
         otherList.setPredicate(othersPredicateFromPerson(user));
         return FXCollections.unmodifiableObservableList(otherList);
     }
@@ -206,6 +294,11 @@ public class ModelManager extends ComponentManager implements Model {
         versionedAddressBook.commit();
     }
 
+    @Override
+    public HistoryStatistics getAddressBookHistoryStatistics() {
+        return versionedAddressBook.getHistoryStatistics();
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -251,18 +344,38 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void matchUserToPerson(String name) {
-        list = versionedAddressBook.getPersonList();
-        //Loops through personlist to get matched name Person Class
-        for (Person person : list) {
-            if (name.equals(person.getName().toString())) {
+        if (!Name.isValidName(name)) {
+            return;
+        }
+
+        versionedAddressBook.getPersonByName(new Name(name)).ifPresent(person -> {
+            // Commands never change a Person in place, but replace its record with a new one, so the same record
+            // means the user is already up to date
+            if (person != userRecord) {
                 this.user = new User(person.getData());
+                this.userRecord = person;
+                refilterFriendAndOtherLists();
             }
+        });
+    }
+
+    /**
+     * Filters the friend and other lists again with the current user, whose friends may have changed.
+     * Lists that have not been filtered by friends yet are left as they are.
+     */
+    private void refilterFriendAndOtherLists() {
+        if (friendList.getPredicate() != null) {
+            friendList.setPredicate(combinedFriendPredicate(friendListFilter, friendsPredicateFromPerson(user)));
+        }
+        if (otherList.getPredicate() != null) {
+            otherList.setPredicate(combinedOtherPredicate(otherListFilter, othersPredicateFromPerson(user)));
         }
     }
 
     @Override
     public void clearUser() {
         this.user = null;
+        this.userRecord = null;
     }
 
     @Override
@@ -270,6 +383,11 @@ public class ModelManager extends ComponentManager implements Model {
         return this.user;
     }
 
+    @Override
+    public ZoneId getTimeZone() {
+        return timeZone;
+    }
+
     @Override
     public void commandLogout() {
         raise(new LogoutEvent());
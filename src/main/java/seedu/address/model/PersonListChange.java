@@ -0,0 +1,86 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A change to the person list of an address book: the persons in {@code removed} were taken out of the list at
+ * {@code position}, and the persons in {@code added} were put in their place.
+ *
+ * Applying a sequence of changes in order to a copy of the person list brings the copy up to date, so storages can
+ * write only the persons that changed.
+ */
+public class PersonListChange {
+
+    private final int position;
+    private final List<Person> removed;
+    private final List<Person> added;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public PersonListChange(int position, List<? extends Person> removed, List<? extends Person> added) {
+        requireAllNonNull(removed, added);
+        this.position = position;
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns an immutable list of the persons removed, in the order they were in.
+     */
+    public List<Person> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns an immutable list of the persons added, in the order they are in.
+     */
+    public List<Person> getAdded() {
+        return added;
+    }
+
+    /**
+     * Applies this change to {@code persons}, a copy of the person list as it was before the change.
+     */
+    public void applyTo(List<Person> persons) {
+        persons.subList(position, position + removed.size()).clear();
+        persons.addAll(position, added);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersonListChange)) {
+            return false;
+        }
+
+        PersonListChange otherChange = (PersonListChange) other;
+        return position == otherChange.position
+                && removed.equals(otherChange.removed)
+                && added.equals(otherChange.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(position, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return "at " + position + ": " + removed.size() + " removed, " + added.size() + " added";
+    }
+}
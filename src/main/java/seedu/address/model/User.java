@@ -10,7 +10,7 @@ public class User extends Person {
 
     public User(UserParameterHelper param) {
         super(param.getName(), param.getPhone(), param.getEmail(), param.getAddress(), param.getTags(),
-                param.getTimeTable(), param.getFriendList());
+                param.getTimeTable(), param.getFriendList(), param.getTimeZone());
     }
 
     /***
@@ -13,6 +13,15 @@ public class UserPrefs {
 
     private GuiSettings guiSettings;
     private Path addressBookFilePath = Paths.get("data" , "addressbook.xml");
+    private int undoHistoryMaxStates = VersionedAddressBook.DEFAULT_MAX_STATES;
+    private long undoHistoryMaxBytes = VersionedAddressBook.DEFAULT_MAX_BYTES;
+    private long addressBookSaveDelayMillis = 300;
+    private boolean addressBookBinary = false;
+    private boolean addressBookJournaled = false;
+    private boolean addressBookSharded = false;
+    private boolean addressBookJournalSynced = true;
+    private long addressBookJournalMaxBytes = 1024 * 1024;
+    private String timeZone;
 
     public UserPrefs() {
         setGuiSettings(1280, 720, 0, 0);
@@ -38,6 +47,82 @@ public class UserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoHistoryMaxStates() {
+        return undoHistoryMaxStates;
+    }
+
+    public void setUndoHistoryMaxStates(int undoHistoryMaxStates) {
+        this.undoHistoryMaxStates = undoHistoryMaxStates;
+    }
+
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
+    public long getAddressBookSaveDelayMillis() {
+        return addressBookSaveDelayMillis;
+    }
+
+    public void setAddressBookSaveDelayMillis(long addressBookSaveDelayMillis) {
+        this.addressBookSaveDelayMillis = addressBookSaveDelayMillis;
+    }
+
+    public boolean isAddressBookBinary() {
+        return addressBookBinary;
+    }
+
+    public void setAddressBookBinary(boolean addressBookBinary) {
+        this.addressBookBinary = addressBookBinary;
+    }
+
+    public boolean isAddressBookJournaled() {
+        return addressBookJournaled;
+    }
+
+    public void setAddressBookJournaled(boolean addressBookJournaled) {
+        this.addressBookJournaled = addressBookJournaled;
+    }
+
+    public boolean isAddressBookSharded() {
+        return addressBookSharded;
+    }
+
+    public void setAddressBookSharded(boolean addressBookSharded) {
+        this.addressBookSharded = addressBookSharded;
+    }
+
+    public boolean isAddressBookJournalSynced() {
+        return addressBookJournalSynced;
+    }
+
+    public void setAddressBookJournalSynced(boolean addressBookJournalSynced) {
+        this.addressBookJournalSynced = addressBookJournalSynced;
+    }
+
+    public long getAddressBookJournalMaxBytes() {
+        return addressBookJournalMaxBytes;
+    }
+
+    public void setAddressBookJournalMaxBytes(long addressBookJournalMaxBytes) {
+        this.addressBookJournalMaxBytes = addressBookJournalMaxBytes;
+    }
+
+    /**
+     * Returns the ID of the time zone that the timetables of the user are in, e.g. "Asia/Singapore", or null if
+     * they are in the time zone of the system.
+     */
+    public String getTimeZone() {
+        return timeZone;
+    }
+
+    public void setTimeZone(String timeZone) {
+        this.timeZone = timeZone;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +135,23 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(addressBookFilePath, o.addressBookFilePath);
+                && Objects.equals(addressBookFilePath, o.addressBookFilePath)
+                && undoHistoryMaxStates == o.undoHistoryMaxStates
+                && undoHistoryMaxBytes == o.undoHistoryMaxBytes
+                && addressBookSaveDelayMillis == o.addressBookSaveDelayMillis
+                && addressBookBinary == o.addressBookBinary
+                && addressBookJournaled == o.addressBookJournaled
+                && addressBookSharded == o.addressBookSharded
+                && addressBookJournalSynced == o.addressBookJournalSynced
+                && addressBookJournalMaxBytes == o.addressBookJournalMaxBytes
+                && Objects.equals(timeZone, o.timeZone);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryMaxStates, undoHistoryMaxBytes,
+                addressBookSaveDelayMillis, addressBookBinary, addressBookJournaled, addressBookSharded,
+                addressBookJournalSynced, addressBookJournalMaxBytes, timeZone);
     }
 
     @Override
@@ -63,6 +159,8 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nTime zone : " + timeZone);
+        sb.append("\nUndo history limit : " + undoHistoryMaxStates + " states, " + undoHistoryMaxBytes + " bytes");
         return sb.toString();
     }
 
@@ -1,36 +1,128 @@
 package seedu.address.model;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.person.Person;
 
 /**
  * {@code AddressBook} that keeps track of its own history.
+ *
+ * Instead of a copy of the whole {@code AddressBook} per state, the history is a journal of the person-level changes
+ * made by each commit. Undoing or redoing a commit reverts or reapplies only the changes it made.
+ *
+ * The history is bounded by a maximum number of undoable states and a maximum estimated size. When either is
+ * exceeded, the oldest states are forgotten. The most recent state is always kept, so that the last command can be
+ * undone even if its changes alone exceed the maximum size.
  */
 public class VersionedAddressBook extends AddressBook {
+    public static final int DEFAULT_MAX_STATES = 100;
+    public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+    public static final String MESSAGE_INVALID_LIMITS = "Undo history limits must be positive";
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    // Rough per-object costs used by estimateBytes(), in bytes
+    private static final long PERSON_OVERHEAD_BYTES = 256;
+    private static final long ELEMENT_OVERHEAD_BYTES = 64;
+    private static final long CHANGE_OVERHEAD_BYTES = 32;
+
+    // Changes made by each commit, oldest first; the first currentStatePointer commits are applied
+    private final List<List<Change>> committedChanges;
+    // Changes made since the last commit
+    private List<Change> uncommittedChanges;
     private int currentStatePointer;
 
+    private final int maxStates;
+    private final long maxBytes;
+    private long committedBytes;
+
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
-        super(initialState);
+        this(initialState, DEFAULT_MAX_STATES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a history that keeps at most {@code maxStates} previous states, of at most {@code maxBytes} in total.
+     * Both limits must be positive.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int maxStates, long maxBytes) {
+        super();
+        checkArgument(maxStates > 0 && maxBytes > 0, MESSAGE_INVALID_LIMITS);
+        super.setPersons(initialState.getPersonList());
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
+        committedChanges = new ArrayList<>();
+        uncommittedChanges = new ArrayList<>();
         currentStatePointer = 0;
+
+        this.maxStates = maxStates;
+        this.maxBytes = maxBytes;
+        committedBytes = 0;
+    }
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        List<Person> before = new ArrayList<>(getPersonList());
+        super.setPersons(persons);
+        uncommittedChanges.add(new PersonsReset(before, new ArrayList<>(persons)));
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        uncommittedChanges.add(new PersonAdded(p));
+    }
+
+    @Override
+    public void updatePerson(Person target, Person editedPerson) {
+        super.updatePerson(target, editedPerson);
+        // an equal replacement leaves the state as it was, so there is nothing to undo
+        if (!target.equals(editedPerson)) {
+            uncommittedChanges.add(new PersonReplaced(target, editedPerson));
+        }
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int position = indexOfPerson(key);
+        super.removePerson(key);
+        uncommittedChanges.add(new PersonRemoved(position, key));
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
+     * Saves the changes made since the last commit as a new state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
+        committedChanges.add(uncommittedChanges);
+        committedBytes += estimateBytes(uncommittedChanges);
+        uncommittedChanges = new ArrayList<>();
         currentStatePointer++;
+        removeStatesOverBudget();
     }
 
+    /**
+     * Discards the undone states after the current one, so they can no longer be redone.
+     */
     private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        List<List<Change>> undone = committedChanges.subList(currentStatePointer, committedChanges.size());
+        for (List<Change> changes : undone) {
+            committedBytes -= estimateBytes(changes);
+        }
+        undone.clear();
+    }
+
+    /**
+     * Forgets the oldest states until the history fits within {@code maxStates} and {@code maxBytes}, or only the
+     * most recent state is left
+     */
+    private void removeStatesOverBudget() {
+        while (currentStatePointer > maxStates || (currentStatePointer > 1 && committedBytes > maxBytes)) {
+            committedBytes -= estimateBytes(committedChanges.remove(0));
+            currentStatePointer--;
+        }
     }
 
     /**
@@ -40,8 +132,9 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        revertUncommittedChanges();
         currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        revert(committedChanges.get(currentStatePointer));
     }
 
     /**
@@ -51,8 +144,9 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        revertUncommittedChanges();
+        apply(committedChanges.get(currentStatePointer));
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
     }
 
     /**
@@ -66,7 +160,69 @@ public class VersionedAddressBook extends AddressBook {
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return currentStatePointer < committedChanges.size();
+    }
+
+    /**
+     * Returns how much the history currently holds, and how much it may hold.
+     */
+    public HistoryStatistics getHistoryStatistics() {
+        return new HistoryStatistics(currentStatePointer, committedChanges.size() - currentStatePointer,
+                committedBytes, maxStates, maxBytes);
+    }
+
+    /**
+     * Estimates the memory kept alive by holding on to the state made of {@code changes}.
+     */
+    private static long estimateBytes(List<Change> changes) {
+        long total = 0;
+        for (Change change : changes) {
+            total += CHANGE_OVERHEAD_BYTES + change.estimateBytes();
+        }
+        return total;
+    }
+
+    /**
+     * Estimates the memory kept alive by holding on to {@code person}.
+     * This is only a rough guide for bounding the history, not an exact measurement.
+     */
+    private static long estimateBytes(Person person) {
+        long characters = person.getName().fullName.length() + person.getPhone().value.length()
+                + person.getEmail().value.length() + person.getAddress().value.length();
+        long elements = person.getTags().size() + person.getFriends().size()
+                + person.getTimeSlots().size();
+        return PERSON_OVERHEAD_BYTES + 2 * characters + ELEMENT_OVERHEAD_BYTES * elements;
+    }
+
+    /**
+     * Estimates the memory kept alive by holding on to every person in {@code persons}.
+     */
+    private static long estimateBytes(Collection<Person> persons) {
+        long total = 0;
+        for (Person person : persons) {
+            total += estimateBytes(person);
+        }
+        return total;
+    }
+
+    /**
+     * Brings the address book back to the state it was last committed at
+     */
+    private void revertUncommittedChanges() {
+        revert(uncommittedChanges);
+        uncommittedChanges = new ArrayList<>();
+    }
+
+    private void apply(List<Change> changes) {
+        for (Change change : changes) {
+            change.apply();
+        }
+    }
+
+    private void revert(List<Change> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert();
+        }
     }
 
     @Override
@@ -85,10 +241,184 @@ public class VersionedAddressBook extends AddressBook {
 
         // state check
         return super.equals(otherVersionedAddressBook)
-                && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
+                && committedChanges.equals(otherVersionedAddressBook.committedChanges)
                 && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
     }
 
+    /**
+     * A reversible change to the person list.
+     *
+     * Changes are applied and reverted through the {@code AddressBook} operations directly, so that they are not
+     * recorded again.
+     */
+    private abstract class Change {
+        abstract void apply();
+
+        abstract void revert();
+
+        abstract long estimateBytes();
+    }
+
+    /**
+     * {@code person} was added to the end of the person list.
+     */
+    private class PersonAdded extends Change {
+        private final Person person;
+
+        PersonAdded(Person person) {
+            this.person = person;
+        }
+
+        @Override
+        void apply() {
+            VersionedAddressBook.super.addPerson(person);
+        }
+
+        @Override
+        void revert() {
+            VersionedAddressBook.super.removePerson(person);
+        }
+
+        @Override
+        long estimateBytes() {
+            return VersionedAddressBook.estimateBytes(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof PersonAdded && person.equals(((PersonAdded) other).person));
+        }
+
+        @Override
+        public int hashCode() {
+            return person.hashCode();
+        }
+    }
+
+    /**
+     * {@code person} was removed from {@code position} in the person list.
+     */
+    private class PersonRemoved extends Change {
+        private final int position;
+        private final Person person;
+
+        PersonRemoved(int position, Person person) {
+            this.position = position;
+            this.person = person;
+        }
+
+        @Override
+        void apply() {
+            VersionedAddressBook.super.removePerson(person);
+        }
+
+        @Override
+        void revert() {
+            addPerson(position, person);
+        }
+
+        @Override
+        long estimateBytes() {
+            return VersionedAddressBook.estimateBytes(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof PersonRemoved
+                    && position == ((PersonRemoved) other).position
+                    && person.equals(((PersonRemoved) other).person));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(position, person);
+        }
+    }
+
+    /**
+     * {@code target} was replaced by {@code editedPerson} in the person list.
+     */
+    private class PersonReplaced extends Change {
+        private final Person target;
+        private final Person editedPerson;
+
+        PersonReplaced(Person target, Person editedPerson) {
+            this.target = target;
+            this.editedPerson = editedPerson;
+        }
+
+        @Override
+        void apply() {
+            VersionedAddressBook.super.updatePerson(target, editedPerson);
+        }
+
+        @Override
+        void revert() {
+            VersionedAddressBook.super.updatePerson(editedPerson, target);
+        }
+
+        @Override
+        long estimateBytes() {
+            return VersionedAddressBook.estimateBytes(target) + VersionedAddressBook.estimateBytes(editedPerson);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof PersonReplaced
+                    && target.equals(((PersonReplaced) other).target)
+                    && editedPerson.equals(((PersonReplaced) other).editedPerson));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(target, editedPerson);
+        }
+    }
+
+    /**
+     * The whole person list was replaced, e.g. by {@code resetData()}.
+     */
+    private class PersonsReset extends Change {
+        private final List<Person> before;
+        private final List<Person> after;
+
+        PersonsReset(List<Person> before, List<Person> after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        void apply() {
+            VersionedAddressBook.super.setPersons(after);
+        }
+
+        @Override
+        void revert() {
+            VersionedAddressBook.super.setPersons(before);
+        }
+
+        @Override
+        long estimateBytes() {
+            return VersionedAddressBook.estimateBytes(before) + VersionedAddressBook.estimateBytes(after);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof PersonsReset
+                    && before.equals(((PersonsReset) other).before)
+                    && after.equals(((PersonsReset) other).after));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(before, after);
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
@@ -1,11 +1,20 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.DayOfWeek;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashSet;
-import java.util.TreeMap;
-import java.util.TreeSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 
 import javafx.scene.paint.Color;
 import seedu.address.model.person.exceptions.TimeSlotNotOverlapException;
@@ -24,6 +33,13 @@ public class DeconflictTimeTable extends TimeTable {
     public static final LocalTime DEFAULT_START = LocalTime.parse("10:00");
     public static final LocalTime DEFAULT_END = LocalTime.parse("19:00");
 
+    // Cached inverse, kept up to date lazily by recomputing only the days in staleDays
+    private DeconflictTimeTable inverse;
+    private LocalTime inverseStart;
+    private LocalTime inverseEnd;
+    private final Map<DayOfWeek, List<TimeSlot>> inverseByDay = new EnumMap<>(DayOfWeek.class);
+    private final Set<DayOfWeek> staleDays = EnumSet.noneOf(DayOfWeek.class);
+
     public DeconflictTimeTable() {
         super();
     }
@@ -43,6 +59,99 @@ public class DeconflictTimeTable extends TimeTable {
         }
     }
 
+    /**
+     * Creates a {@code DeconflictTimeTable} containing the merged busy time of all {@code timeTables}.
+     *
+     * Each {@code TimeTable} is sorted once, after which all of them are merged in a single sweep that always
+     * advances the {@code TimeTable} with the earliest pending {@code TimeSlot}. The inverse is produced in the same
+     * sweep and is cached for {@code getInverse()}.
+     *
+     * @param timeTables {@code TimeTable}s to merge
+     * @return {@code DeconflictTimeTable} containing the merged {@code TimeSlot}s
+     */
+    public static DeconflictTimeTable merge(Collection<? extends TimeTable> timeTables) {
+        requireNonNull(timeTables);
+
+        PriorityQueue<SweepCursor> pending = new PriorityQueue<>();
+        LocalTime currStart = DEFAULT_START;
+        LocalTime currEnd = DEFAULT_END;
+
+        for (TimeTable timeTable : timeTables) {
+            if (timeTable.isEmpty()) {
+                continue;
+            }
+
+            currStart = timeTable.getEarliest().isBefore(currStart) ? timeTable.getEarliest() : currStart;
+            currEnd = timeTable.getLatest().isAfter(currEnd) ? timeTable.getLatest() : currEnd;
+
+            List<TimeSlot> sorted = new ArrayList<>(timeTable.getTimeSlots());
+            Collections.sort(sorted);
+            pending.add(new SweepCursor(sorted.iterator()));
+        }
+
+        DeconflictTimeTable busy = new DeconflictTimeTable();
+        busy.resetInverse(currStart, currEnd);
+        InverseBuilder inverseBuilder = new InverseBuilder(busy, currStart, currEnd);
+        TimeSlot merged = null;
+
+        while (!pending.isEmpty()) {
+            SweepCursor cursor = pending.poll();
+            TimeSlot next = cursor.current;
+
+            if (merged != null && (merged.isOverlap(next) || merged.isAdjacent(next))) {
+                if (next.getEndTime().isAfter(merged.getEndTime())) {
+                    merged = new TimeSlot(merged.getDayOfWeek(), merged.getStartTime(), next.getEndTime());
+                }
+            } else {
+                if (merged != null) {
+                    inverseBuilder.addBusy(merged);
+                    busy.addMergedTimeSlot(merged);
+                }
+                merged = new TimeSlot(next);
+            }
+
+            if (cursor.advance()) {
+                pending.add(cursor);
+            }
+        }
+
+        if (merged != null) {
+            inverseBuilder.addBusy(merged);
+            busy.addMergedTimeSlot(merged);
+        }
+        inverseBuilder.finish();
+
+        busy.staleDays.clear();
+        return busy;
+    }
+
+    /**
+     * Adds a {@code TimeSlot} already known not to overlap or be adjacent to any {@code TimeSlot} in this
+     * {@code DeconflictTimeTable}
+     */
+    private void addMergedTimeSlot(TimeSlot toAdd) {
+        toAdd.setColor(DECONFLICT_TIMESLOT_COLOR);
+        addTimeSlotWithoutColor(toAdd);
+    }
+
+    @Override
+    protected void addTimeSlotWithoutColor(TimeSlot toAdd) {
+        staleDays.add(toAdd.getDayOfWeek());
+        super.addTimeSlotWithoutColor(toAdd);
+    }
+
+    @Override
+    public void removeTimeSlot(TimeSlot toRemove) {
+        staleDays.add(toRemove.getDayOfWeek());
+        super.removeTimeSlot(toRemove);
+    }
+
+    @Override
+    public void clear() {
+        inverse = null;
+        super.clear();
+    }
+
     @Override
     /**
      * Adds {@code toAdd} to the {@code DeconflictTimeTable}
@@ -73,6 +182,10 @@ public class DeconflictTimeTable extends TimeTable {
     public Collection<TimeSlot> findOverlapOrAdjacent(TimeSlot toCheck) {
         Collection <TimeSlot> toReturn = new HashSet<>();
 
+        if (isTrackedByOccupancy(toCheck) && !occupancy.hasOverlapOrAdjacent(toCheck)) {
+            return toReturn;
+        }
+
         for (TimeSlot timeSlot : timeSlots) {
             if (timeSlot.isOverlap(toCheck) || timeSlot.isAdjacent(toCheck)) {
                 toReturn.add(timeSlot);
@@ -85,66 +198,240 @@ public class DeconflictTimeTable extends TimeTable {
      * Produces an inverse of the current {@code DeconflictTimeTable}, i.e. a {@code DeconflictTimeTable} with
      * {@code TimeSlot}s corresponding to the blanks in this {@code DeconflictTimeTable}
      *
-     * Used for showing green slots in the UI
+     * The inverse is cached, and only the days changed since the last call are recomputed, unless the earliest or
+     * latest time shown has changed. A copy of the cached inverse is returned, so changing it does not affect later
+     * calls.
      *
      * @return Inverse of the current {@code DeconflictTimeTable}
      */
     public DeconflictTimeTable getInverse() {
+        return copyOf(getInverseTimeSlots());
+    }
+
+    /**
+     * Produces the inverse of the current {@code DeconflictTimeTable} between {@code currStart} and {@code currEnd}
+     * on every day, like {@code getInverse()}, which spans the earliest to the latest time shown instead.
+     *
+     * @return Inverse of the current {@code DeconflictTimeTable} between {@code currStart} and {@code currEnd}
+     */
+    public DeconflictTimeTable getInverse(LocalTime currStart, LocalTime currEnd) {
+        return copyOf(getInverseTimeSlots(currStart, currEnd));
+    }
+
+    /**
+     * Returns the {@code TimeSlot}s of the inverse of the current {@code DeconflictTimeTable}, like
+     * {@code getInverse()}, without copying them into a new {@code DeconflictTimeTable}.
+     *
+     * Used for showing green slots in the UI. The returned collection is a read-only view of the cached inverse, so
+     * it should only be read until this {@code DeconflictTimeTable} is next changed. Use {@code getInverse()} for a
+     * {@code TimeTable} to keep.
+     */
+    public Collection<TimeSlot> getInverseTimeSlots() {
+        LocalTime currStart = !isEmpty() && getEarliest().isBefore(DEFAULT_START) ? getEarliest() : DEFAULT_START;
+        LocalTime currEnd = !isEmpty() && getLatest().isAfter(DEFAULT_END) ? getLatest() : DEFAULT_END;
+
+        return getInverseTimeSlots(currStart, currEnd);
+    }
+
+    /**
+     * Returns the {@code TimeSlot}s of the inverse between {@code currStart} and {@code currEnd} on every day, like
+     * {@code getInverse(LocalTime, LocalTime)}, as a read-only view of the cached inverse like
+     * {@code getInverseTimeSlots()}.
+     */
+    public Collection<TimeSlot> getInverseTimeSlots(LocalTime currStart, LocalTime currEnd) {
+        requireNonNull(currStart);
+        requireNonNull(currEnd);
+
+        if (inverse == null || !currStart.equals(inverseStart) || !currEnd.equals(inverseEnd)) {
+            resetInverse(currStart, currEnd);
+            staleDays.addAll(EnumSet.allOf(DayOfWeek.class));
+        }
+
+        for (DayOfWeek day : staleDays) {
+            rebuildInverse(day);
+        }
+        staleDays.clear();
+
+        return Collections.unmodifiableCollection(inverse.timeSlots);
+    }
+
+    /**
+     * Returns a {@code DeconflictTimeTable} of copies of {@code timeSlots}, which are known not to overlap
+     */
+    private static DeconflictTimeTable copyOf(Collection<TimeSlot> timeSlots) {
         DeconflictTimeTable toReturn = new DeconflictTimeTable();
+        for (TimeSlot timeSlot : timeSlots) {
+            toReturn.addTimeSlotWithoutColor(new TimeSlot(timeSlot));
+        }
+        toReturn.staleDays.clear();
+        return toReturn;
+    }
 
-        TreeMap<DayOfWeek, TreeSet <TimeSlot>> splitTimeSlots = splitByDay();
+    /**
+     * Discards the cached inverse, replacing it with an empty one spanning {@code currStart} to {@code currEnd}
+     */
+    private void resetInverse(LocalTime currStart, LocalTime currEnd) {
+        inverse = new DeconflictTimeTable();
+        inverseStart = currStart;
+        inverseEnd = currEnd;
+        inverseByDay.clear();
+    }
 
-        LocalTime currStart = getEarliest().isBefore(DEFAULT_START) ? getEarliest() : DEFAULT_START;
-        LocalTime currEnd = getLatest().isAfter(DEFAULT_END) ? getLatest() : DEFAULT_END;
+    /**
+     * Recomputes the {@code TimeSlot}s of the cached inverse on {@code day}
+     */
+    private void rebuildInverse(DayOfWeek day) {
+        List<TimeSlot> previous = inverseByDay.remove(day);
+        if (previous != null) {
+            for (TimeSlot timeSlot : previous) {
+                inverse.removeTimeSlot(timeSlot);
+            }
+        }
 
-        for (DayOfWeek day : splitTimeSlots.keySet()) {
-            if (splitTimeSlots.get(day).isEmpty()) {
-                toReturn.addTimeSlotWithoutColor(
-                        new TimeSlot(day, currStart, currEnd, DECONFLICT_INVERSE_TIMESLOT_COLOR));
-            } else {
-                TreeSet<TimeSlot> currSet = splitTimeSlots.get(day);
+        LocalTime cursor = inverseStart;
+        for (TimeSlot busy : getBusyOn(day)) {
+            LocalTime freeEnd = busy.getStartTime().isBefore(inverseEnd) ? busy.getStartTime() : inverseEnd;
+            if (cursor.isBefore(freeEnd)) {
+                addInverseTimeSlot(new TimeSlot(day, cursor, freeEnd, DECONFLICT_INVERSE_TIMESLOT_COLOR));
+            }
+            if (busy.getEndTime().isAfter(cursor)) {
+                cursor = busy.getEndTime();
+            }
+        }
 
-                if (!currStart.equals(currSet.first().getStartTime())) {
-                    toReturn.addTimeSlotWithoutColor(
-                            new TimeSlot(day, currStart, currSet.first().getStartTime(),
-                                    DECONFLICT_INVERSE_TIMESLOT_COLOR));
-                }
+        if (cursor.isBefore(inverseEnd)) {
+            addInverseTimeSlot(new TimeSlot(day, cursor, inverseEnd, DECONFLICT_INVERSE_TIMESLOT_COLOR));
+        }
+    }
 
-                for (TimeSlot curr : currSet) {
-                    if (currSet.higher(curr) != null) {
-                        TimeSlot next = currSet.higher(curr);
-                        toReturn.addTimeSlotWithoutColor(
-                                new TimeSlot(day, curr.getEndTime(), next.getStartTime(),
-                                        DECONFLICT_INVERSE_TIMESLOT_COLOR));
-                    }
-                }
+    /**
+     * Adds {@code toAdd} to the cached inverse, remembering which day it belongs to
+     */
+    private void addInverseTimeSlot(TimeSlot toAdd) {
+        inverse.addTimeSlotWithoutColor(toAdd);
+        inverseByDay.computeIfAbsent(toAdd.getDayOfWeek(), day -> new ArrayList<>()).add(toAdd);
+    }
 
-                if (!currEnd.equals(currSet.last().getEndTime())) {
-                    toReturn.addTimeSlotWithoutColor(
-                            new TimeSlot(day, currSet.last().getEndTime(), currEnd,
-                                    DECONFLICT_INVERSE_TIMESLOT_COLOR));
-                }
+    /**
+     * Returns the busy time on {@code day} in sorted order
+     *
+     * The runs are read off the occupancy bitmap when it is exact, so only the slots of {@code day} are visited.
+     */
+    private List<TimeSlot> getBusyOn(DayOfWeek day) {
+        List<TimeSlot> toReturn = new ArrayList<>();
+
+        if (isOccupancyExact()) {
+            // A TimeSlot ends at 23:59 at the latest, so every busy run is followed by a free minute
+            int start = occupancy.nextOccupied(day, 0);
+            while (start != -1) {
+                int end = occupancy.nextFree(day, start);
+                toReturn.add(new TimeSlot(day, TimeSlotBitmap.toLocalTime(start), TimeSlotBitmap.toLocalTime(end)));
+                start = occupancy.nextOccupied(day, end);
             }
+            return toReturn;
         }
 
+        for (TimeSlot timeSlot : timeSlots) {
+            if (timeSlot.getDayOfWeek().equals(day)) {
+                toReturn.add(timeSlot);
+            }
+        }
+        Collections.sort(toReturn);
         return toReturn;
     }
 
     /**
-     * Splits up the {@code TimeSlot}s in this {@code DeconflictTimeTable} by day, and sorts the {@code TimeSlot}s
-     * @return {@code TreeMap} containing the {@code TimeSlot}s split by day
+     * Position of the sweep in merge() within a single sorted {@code TimeTable}
      */
-    private TreeMap<DayOfWeek, TreeSet <TimeSlot>> splitByDay() {
-        TreeMap<DayOfWeek, TreeSet<TimeSlot>> toReturn = new TreeMap<>();
+    private static class SweepCursor implements Comparable<SweepCursor> {
+        private final Iterator<TimeSlot> remaining;
+        private TimeSlot current;
 
-        for (DayOfWeek day : DayOfWeek.values()) {
-            toReturn.put(day, new TreeSet<>());
+        SweepCursor(Iterator<TimeSlot> remaining) {
+            this.remaining = remaining;
+            this.current = remaining.next();
         }
 
-        for (TimeSlot timeSlot : timeSlots) {
-            toReturn.get(timeSlot.getDayOfWeek()).add(timeSlot);
+        /**
+         * Moves on to the next {@code TimeSlot}, returning false if there is none
+         */
+        boolean advance() {
+            if (!remaining.hasNext()) {
+                return false;
+            }
+            current = remaining.next();
+            return true;
         }
 
-        return toReturn;
+        @Override
+        public int compareTo(SweepCursor other) {
+            return current.compareTo(other.current);
+        }
+    }
+
+    /**
+     * Builds the inverse of a {@code DeconflictTimeTable} from its merged {@code TimeSlot}s, given in sorted order
+     */
+    private static class InverseBuilder {
+        private final DeconflictTimeTable owner;
+        private final LocalTime currStart;
+        private final LocalTime currEnd;
+
+        private DayOfWeek currDay;
+        private LocalTime cursor;
+
+        InverseBuilder(DeconflictTimeTable owner, LocalTime currStart, LocalTime currEnd) {
+            this.owner = owner;
+            this.currStart = currStart;
+            this.currEnd = currEnd;
+        }
+
+        /**
+         * Records {@code busy}, adding the free time before it on the same day
+         */
+        void addBusy(TimeSlot busy) {
+            advanceTo(busy.getDayOfWeek());
+
+            if (cursor.isBefore(busy.getStartTime())) {
+                addFree(currDay, cursor, busy.getStartTime());
+            }
+            cursor = busy.getEndTime();
+        }
+
+        /**
+         * Adds the free time after the last busy {@code TimeSlot} of the week
+         */
+        void finish() {
+            closeDay();
+            for (int i = (currDay == null) ? 1 : currDay.getValue() + 1; i <= DayOfWeek.values().length; i++) {
+                addFree(DayOfWeek.of(i), currStart, currEnd);
+            }
+        }
+
+        /**
+         * Closes the current day, and adds the whole of every day between it and {@code day} as free time
+         */
+        private void advanceTo(DayOfWeek day) {
+            if (day.equals(currDay)) {
+                return;
+            }
+
+            closeDay();
+            for (int i = (currDay == null) ? 1 : currDay.getValue() + 1; i < day.getValue(); i++) {
+                addFree(DayOfWeek.of(i), currStart, currEnd);
+            }
+            currDay = day;
+            cursor = currStart;
+        }
+
+        private void closeDay() {
+            if (currDay != null && cursor.isBefore(currEnd)) {
+                addFree(currDay, cursor, currEnd);
+            }
+        }
+
+        private void addFree(DayOfWeek day, LocalTime start, LocalTime end) {
+            owner.addInverseTimeSlot(new TimeSlot(day, start, end, DECONFLICT_INVERSE_TIMESLOT_COLOR));
+        }
     }
 }
@@ -1,6 +1,5 @@
 package seedu.address.model.person;
 
-import java.util.Set;
 import java.util.function.Predicate;
 
 /**
@@ -16,15 +15,10 @@ public class FriendListPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        Set<Friend> friendList = currentUser.getFriends();
         if (currentUser.getName().equals(person.getName())) {
             return false;
         }
-        for (Friend friend : friendList) {
-            if (person.getName().equals(friend.getFriendName())) {
-                return true;
-            }
-        }
-        return false;
+        // The friend list is a hash set keyed on name, so this is a single lookup
+        return currentUser.getFriends().contains(new Friend(person.getName()));
     }
 }
@@ -0,0 +1,169 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+import seedu.address.model.person.exceptions.TimeSlotOverlapException;
+
+/**
+ * Holds the {@code TimeSlot}s of a person, and builds their {@code TimeTable} only when it is first needed.
+ * Only a few timetables are ever displayed or compared, so most persons never need theirs built.
+ *
+ * Until the {@code TimeTable} is built, each {@code TimeSlot} is kept as its start and end in nanoseconds since the
+ * start of Monday. Once built, the {@code TimeTable} is kept instead, and changes made to it are seen by later
+ * callers.
+ */
+public class LazyTimeTable {
+
+    private static final long NANOS_PER_DAY = LocalTime.MAX.toNanoOfDay() + 1;
+
+    // Start and end of each TimeSlot, sorted by start; null once timeTable is built
+    private long[] slots;
+    private TimeTable timeTable;
+
+    /**
+     * Creates a {@code LazyTimeTable} holding the already built {@code timeTable}.
+     */
+    public LazyTimeTable(TimeTable timeTable) {
+        requireNonNull(timeTable);
+        this.timeTable = timeTable;
+    }
+
+    private LazyTimeTable(long[] slots) {
+        this.slots = slots;
+    }
+
+    /**
+     * Returns a {@code LazyTimeTable} that builds a {@code TimeTable} of {@code timeSlots} when first needed.
+     *
+     * @throws TimeSlotOverlapException if any of {@code timeSlots} overlap, as adding them to a {@code TimeTable}
+     * would
+     */
+    public static LazyTimeTable of(Collection<TimeSlot> timeSlots) throws TimeSlotOverlapException {
+        requireNonNull(timeSlots);
+
+        List<TimeSlot> sorted = new ArrayList<>(timeSlots);
+        sorted.sort(Comparator.comparingLong(timeSlot -> toWeekNanos(timeSlot.getDayOfWeek(),
+                timeSlot.getStartTime())));
+
+        long[] slots = new long[sorted.size() * 2];
+        for (int i = 0; i < sorted.size(); i++) {
+            TimeSlot timeSlot = sorted.get(i);
+            slots[2 * i] = toWeekNanos(timeSlot.getDayOfWeek(), timeSlot.getStartTime());
+            slots[2 * i + 1] = toWeekNanos(timeSlot.getDayOfWeek(), timeSlot.getEndTime());
+            // A TimeSlot never crosses midnight, so overlapping TimeSlots are always next to each other
+            if (i > 0 && slots[2 * i] < slots[2 * i - 1]) {
+                throw new TimeSlotOverlapException();
+            }
+        }
+        return new LazyTimeTable(slots);
+    }
+
+    /**
+     * Returns the {@code TimeTable}, building it if this is the first call.
+     */
+    public synchronized TimeTable get() {
+        if (timeTable == null) {
+            TimeTable built = new TimeTable();
+            for (TimeSlot timeSlot : toTimeSlots(slots)) {
+                built.addTimeSlot(timeSlot);
+            }
+            timeTable = built;
+            slots = null;
+        }
+        return timeTable;
+    }
+
+    /**
+     * Returns the {@code TimeSlot}s held, without building the {@code TimeTable}.
+     */
+    public synchronized Collection<TimeSlot> getTimeSlots() {
+        return timeTable == null ? toTimeSlots(slots) : timeTable.getTimeSlots();
+    }
+
+    /**
+     * Returns true if the {@code TimeTable} has been built.
+     */
+    public synchronized boolean isBuilt() {
+        return timeTable != null;
+    }
+
+    private static long toWeekNanos(DayOfWeek day, LocalTime time) {
+        return (day.getValue() - 1) * NANOS_PER_DAY + time.toNanoOfDay();
+    }
+
+    /**
+     * Returns the {@code TimeSlot}s whose start and end are held in consecutive pairs of {@code slots}.
+     */
+    private static Collection<TimeSlot> toTimeSlots(long[] slots) {
+        Collection<TimeSlot> timeSlots = new HashSet<>();
+        for (int i = 0; i < slots.length; i += 2) {
+            timeSlots.add(toTimeSlot(slots, i));
+        }
+        return timeSlots;
+    }
+
+    private static TimeSlot toTimeSlot(long[] slots, int index) {
+        DayOfWeek day = DayOfWeek.of((int) (slots[index] / NANOS_PER_DAY) + 1);
+        return new TimeSlot(day, LocalTime.ofNanoOfDay(slots[index] % NANOS_PER_DAY),
+                LocalTime.ofNanoOfDay(slots[index + 1] % NANOS_PER_DAY));
+    }
+
+    /**
+     * Returns the start and end of each {@code TimeSlot}, or null if the {@code TimeTable} has been built.
+     * The array returned is never changed.
+     */
+    private synchronized long[] getSlots() {
+        return slots;
+    }
+
+    /**
+     * Returns true if both hold the same {@code TimeSlot}s. When neither {@code TimeTable} is built, their sorted
+     * starts and ends are compared directly, without creating any {@code TimeSlot}.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+
+        if (!(other instanceof LazyTimeTable)) { // instanceof handles nulls
+            return false;
+        }
+
+        LazyTimeTable otherTimeTable = (LazyTimeTable) other;
+        long[] ownSlots = getSlots();
+        long[] otherSlots = otherTimeTable.getSlots();
+        if (ownSlots != null && otherSlots != null) {
+            return Arrays.equals(ownSlots, otherSlots);
+        }
+        return getTimeSlots().equals(otherTimeTable.getTimeSlots());
+    }
+
+    /**
+     * Returns the hash code of the set of {@code TimeSlot}s held, without creating the set when the
+     * {@code TimeTable} is not built.
+     */
+    @Override
+    public int hashCode() {
+        long[] ownSlots = getSlots();
+        if (ownSlots == null) {
+            return getTimeSlots().hashCode();
+        }
+
+        // A set's hash code is the sum of the hash codes of its elements
+        int hashCode = 0;
+        for (int i = 0; i < ownSlots.length; i += 2) {
+            hashCode += toTimeSlot(ownSlots, i).hashCode();
+        }
+        return hashCode;
+    }
+}
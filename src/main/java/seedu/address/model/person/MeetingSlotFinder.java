@@ -0,0 +1,376 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Finds the best slots for a meeting of a given length among the free time of a group of people
+ *
+ * Candidate slots are taken from the common free time of the group within the time window (see
+ * {@code DeconflictTimeTable.getInverseTimeSlots(LocalTime, LocalTime)}), or, if a minimum number of available people
+ * is given, from the times within the window when at least that many are free (see {@code QuorumTimeTable}). Slots
+ * are ranked by the number of people free, then by how close they start to the preferred time, then by how early
+ * they are in the week.
+ */
+public class MeetingSlotFinder {
+    public static final String MESSAGE_INVALID_WINDOW = "The time window should start before it ends.";
+    public static final Set<DayOfWeek> DEFAULT_DAYS = Collections.unmodifiableSet(
+            EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+    public static final int DEFAULT_LIMIT = 3;
+
+    private static final Comparator<MeetingSlot> DAY_AND_TIME_ORDER = Comparator
+            .comparing((MeetingSlot slot) -> slot.getTimeSlot().getDayOfWeek())
+            .thenComparing(slot -> slot.getTimeSlot().getStartTime());
+
+    private final Duration duration;
+    private final Set<DayOfWeek> days;
+    private final LocalTime windowStart;
+    private final LocalTime windowEnd;
+    private final Optional<LocalTime> preferredStart;
+    private final Optional<Integer> minAvailable;
+    private final int limit;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public MeetingSlotFinder(Duration duration, Set<DayOfWeek> days, LocalTime windowStart, LocalTime windowEnd,
+                             Optional<LocalTime> preferredStart, Optional<Integer> minAvailable, int limit) {
+        requireNonNull(duration);
+        requireNonNull(days);
+        requireNonNull(windowStart);
+        requireNonNull(windowEnd);
+        requireNonNull(preferredStart);
+        requireNonNull(minAvailable);
+        checkArgument(windowStart.isBefore(windowEnd), MESSAGE_INVALID_WINDOW);
+
+        this.duration = duration;
+        Set<DayOfWeek> daysCopy = EnumSet.noneOf(DayOfWeek.class);
+        daysCopy.addAll(days);
+        this.days = Collections.unmodifiableSet(daysCopy);
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.preferredStart = preferredStart;
+        this.minAvailable = minAvailable;
+        this.limit = limit;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Optional<Integer> getMinAvailable() {
+        return minAvailable;
+    }
+
+    /**
+     * Finds the best meeting slots among the free time of the people owning {@code timeTables}.
+     *
+     * Each stretch of free time contributes up to {@code limit} candidates that do not overlap, and candidates are kept
+     * in a bounded priority queue, so that only the {@code limit} best candidates are ever held at once.
+     *
+     * @param timeTables {@code TimeTable}s of the people in the group
+     * @return Up to {@code limit} meeting slots, best first
+     * @throws IllegalArgumentException if the minimum number of available people is not a valid quorum
+     */
+    public List<MeetingSlot> find(Collection<? extends TimeTable> timeTables) {
+        requireNonNull(timeTables);
+
+        int groupSize = timeTables.size();
+        Map<DayOfWeek, TreeSet<MeetingSlot>> freeTime = splitByDay(getFreeTime(timeTables, groupSize));
+
+        Comparator<MeetingSlot> ranking = getRanking();
+        PriorityQueue<MeetingSlot> best = new PriorityQueue<>(ranking.reversed());
+
+        for (DayOfWeek day : days) {
+            List<MeetingSlot> run = new ArrayList<>();
+
+            for (MeetingSlot free : freeTime.get(day)) {
+                if (!run.isEmpty() && !isAdjacent(run.get(run.size() - 1), free)) {
+                    offerPlacements(best, run, ranking);
+                    run.clear();
+                }
+                run.add(free);
+            }
+            offerPlacements(best, run, ranking);
+        }
+
+        List<MeetingSlot> toReturn = new ArrayList<>(best);
+        toReturn.sort(ranking);
+        return toReturn;
+    }
+
+    /**
+     * Returns the free time of the group within the time window, with the number of people free in each
+     * {@code MeetingSlot}
+     */
+    private Collection<MeetingSlot> getFreeTime(Collection<? extends TimeTable> timeTables, int groupSize) {
+        Collection<MeetingSlot> toReturn = new ArrayList<>();
+
+        if (!minAvailable.isPresent() || minAvailable.get() == groupSize) {
+            for (TimeSlot timeSlot : DeconflictTimeTable.merge(timeTables).getInverseTimeSlots(windowStart,
+                    windowEnd)) {
+                toReturn.add(new MeetingSlot(timeSlot, groupSize, groupSize));
+            }
+        } else {
+            QuorumTimeTable quorum = QuorumTimeTable.of(timeTables, minAvailable.get(), windowStart, windowEnd);
+            for (TimeSlot timeSlot : quorum.getTimeSlots()) {
+                toReturn.add(new MeetingSlot(timeSlot, quorum.getAttendance(timeSlot), groupSize));
+            }
+        }
+
+        return toReturn;
+    }
+
+    /**
+     * Returns {@code slots} grouped by their day, each day sorted by start time.
+     */
+    private Map<DayOfWeek, TreeSet<MeetingSlot>> splitByDay(Collection<MeetingSlot> slots) {
+        Map<DayOfWeek, TreeSet<MeetingSlot>> toReturn = new EnumMap<>(DayOfWeek.class);
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            toReturn.put(day, new TreeSet<>(DAY_AND_TIME_ORDER));
+        }
+
+        for (MeetingSlot slot : slots) {
+            toReturn.get(slot.getTimeSlot().getDayOfWeek()).add(slot);
+        }
+
+        return toReturn;
+    }
+
+    private static boolean isAdjacent(MeetingSlot first, MeetingSlot second) {
+        return first.getTimeSlot().isAdjacent(second.getTimeSlot());
+    }
+
+    /**
+     * Offers up to {@code limit} placements of the meeting within {@code run} that do not overlap: the best placement,
+     * then the best placement in what is left of the run on either side of the placements so far, and so on
+     */
+    private void offerPlacements(PriorityQueue<MeetingSlot> best, List<MeetingSlot> run,
+                                 Comparator<MeetingSlot> ranking) {
+        List<List<MeetingSlot>> parts = new ArrayList<>();
+        List<Optional<MeetingSlot>> bestInParts = new ArrayList<>();
+        parts.add(run);
+        bestInParts.add(findBestInRun(run, ranking));
+
+        for (int placed = 0; placed < limit; placed++) {
+            int bestPart = -1;
+            for (int i = 0; i < parts.size(); i++) {
+                if (bestInParts.get(i).isPresent() && (bestPart == -1
+                        || ranking.compare(bestInParts.get(i).get(), bestInParts.get(bestPart).get()) < 0)) {
+                    bestPart = i;
+                }
+            }
+            // Every later placement ranks lower, so none of them would be kept either
+            if (bestPart == -1 || !offer(best, bestInParts.get(bestPart).get())) {
+                return;
+            }
+
+            List<MeetingSlot> part = parts.remove(bestPart);
+            TimeSlot placement = bestInParts.remove(bestPart).get().getTimeSlot();
+            int placementStart = TimeSlotBitmap.toMinuteOfDay(placement.getStartTime());
+            int placementEnd = TimeSlotBitmap.toMinuteOfDay(placement.getEndTime());
+            for (List<MeetingSlot> rest : Arrays.asList(clipRun(part, 0, placementStart),
+                    clipRun(part, placementEnd, TimeSlotBitmap.MINUTES_PER_DAY))) {
+                parts.add(rest);
+                bestInParts.add(findBestInRun(rest, ranking));
+            }
+        }
+    }
+
+    /**
+     * Returns the part of {@code run} from {@code startMinute} to {@code endMinute}
+     */
+    private static List<MeetingSlot> clipRun(List<MeetingSlot> run, int startMinute, int endMinute) {
+        List<MeetingSlot> toReturn = new ArrayList<>();
+
+        for (MeetingSlot slot : run) {
+            TimeSlot timeSlot = slot.getTimeSlot();
+            int start = Math.max(startMinute, TimeSlotBitmap.toMinuteOfDay(timeSlot.getStartTime()));
+            int end = Math.min(endMinute, TimeSlotBitmap.toMinuteOfDay(timeSlot.getEndTime()));
+            if (start < end) {
+                toReturn.add(new MeetingSlot(new TimeSlot(timeSlot.getDayOfWeek(), TimeSlotBitmap.toLocalTime(start),
+                        TimeSlotBitmap.toLocalTime(end)), slot.getAttendance(), slot.getGroupSize()));
+            }
+        }
+
+        return toReturn;
+    }
+
+    /**
+     * Finds the best placement of the meeting within {@code run}, a sorted list of adjacent free {@code MeetingSlot}s
+     *
+     * The meeting is tried at the start of each {@code MeetingSlot}, ending at the end of each {@code MeetingSlot},
+     * and as close as possible to the preferred time, which covers every placement that can be ranked best.
+     */
+    private Optional<MeetingSlot> findBestInRun(List<MeetingSlot> run, Comparator<MeetingSlot> ranking) {
+        if (run.isEmpty()) {
+            return Optional.empty();
+        }
+
+        DayOfWeek day = run.get(0).getTimeSlot().getDayOfWeek();
+        int runStart = TimeSlotBitmap.toMinuteOfDay(run.get(0).getTimeSlot().getStartTime());
+        int runEnd = TimeSlotBitmap.toMinuteOfDay(run.get(run.size() - 1).getTimeSlot().getEndTime());
+        int length = (int) duration.toMinutes();
+        int latestStart = runEnd - length;
+
+        if (latestStart < runStart) {
+            return Optional.empty();
+        }
+
+        Set<Integer> starts = new TreeSet<>();
+        for (MeetingSlot slot : run) {
+            starts.add(TimeSlotBitmap.toMinuteOfDay(slot.getTimeSlot().getStartTime()));
+            starts.add(TimeSlotBitmap.toMinuteOfDay(slot.getTimeSlot().getEndTime()) - length);
+        }
+        preferredStart.ifPresent(preferred -> starts.add(TimeSlotBitmap.toMinuteOfDay(preferred)));
+
+        MeetingSlot toReturn = null;
+        for (int start : starts) {
+            int clampedStart = Math.max(runStart, Math.min(start, latestStart));
+            MeetingSlot candidate = new MeetingSlot(new TimeSlot(day, TimeSlotBitmap.toLocalTime(clampedStart),
+                    TimeSlotBitmap.toLocalTime(clampedStart + length)), getAttendance(run, clampedStart,
+                    clampedStart + length), run.get(0).getGroupSize());
+
+            if (toReturn == null || ranking.compare(candidate, toReturn) < 0) {
+                toReturn = candidate;
+            }
+        }
+
+        return Optional.of(toReturn);
+    }
+
+    /**
+     * Returns the number of people free for the whole of {@code start} to {@code end} within {@code run}
+     */
+    private static int getAttendance(List<MeetingSlot> run, int start, int end) {
+        int attendance = Integer.MAX_VALUE;
+
+        for (MeetingSlot slot : run) {
+            int slotStart = TimeSlotBitmap.toMinuteOfDay(slot.getTimeSlot().getStartTime());
+            int slotEnd = TimeSlotBitmap.toMinuteOfDay(slot.getTimeSlot().getEndTime());
+            if (slotStart < end && start < slotEnd) {
+                attendance = Math.min(attendance, slot.getAttendance());
+            }
+        }
+
+        return attendance;
+    }
+
+    /**
+     * Adds {@code candidate} to {@code best}, dropping the worst candidate if there are more than {@code limit}
+     *
+     * @return false if {@code candidate} itself was dropped
+     */
+    private boolean offer(PriorityQueue<MeetingSlot> best, MeetingSlot candidate) {
+        best.add(candidate);
+        return best.size() <= limit || best.poll() != candidate;
+    }
+
+    /**
+     * Returns the order of {@code MeetingSlot}s from best to worst
+     */
+    private Comparator<MeetingSlot> getRanking() {
+        return Comparator.comparing(MeetingSlot::getAttendance, Comparator.reverseOrder())
+                .thenComparing(this::getDistanceFromPreferred)
+                .thenComparing(DAY_AND_TIME_ORDER);
+    }
+
+    private long getDistanceFromPreferred(MeetingSlot slot) {
+        if (!preferredStart.isPresent()) {
+            return 0;
+        }
+
+        return Math.abs(Duration.between(preferredStart.get(), slot.getTimeSlot().getStartTime()).toMinutes());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof MeetingSlotFinder)) {
+            return false;
+        }
+
+        MeetingSlotFinder otherFinder = (MeetingSlotFinder) other;
+        return duration.equals(otherFinder.duration)
+                && days.equals(otherFinder.days)
+                && windowStart.equals(otherFinder.windowStart)
+                && windowEnd.equals(otherFinder.windowEnd)
+                && preferredStart.equals(otherFinder.preferredStart)
+                && minAvailable.equals(otherFinder.minAvailable)
+                && limit == otherFinder.limit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(duration, days, windowStart, windowEnd, preferredStart, minAvailable, limit);
+    }
+
+    /**
+     * Represents a candidate meeting {@code TimeSlot}, together with the number of people free during it
+     */
+    public static class MeetingSlot {
+        private final TimeSlot timeSlot;
+        private final int attendance;
+        private final int groupSize;
+
+        public MeetingSlot(TimeSlot timeSlot, int attendance, int groupSize) {
+            requireNonNull(timeSlot);
+            this.timeSlot = timeSlot;
+            this.attendance = attendance;
+            this.groupSize = groupSize;
+        }
+
+        public TimeSlot getTimeSlot() {
+            return timeSlot;
+        }
+
+        public int getAttendance() {
+            return attendance;
+        }
+
+        public int getGroupSize() {
+            return groupSize;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof MeetingSlot // instanceof handles nulls
+                    && timeSlot.equals(((MeetingSlot) other).timeSlot)
+                    && attendance == ((MeetingSlot) other).attendance
+                    && groupSize == ((MeetingSlot) other).groupSize);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(timeSlot, attendance, groupSize);
+        }
+
+        @Override
+        public String toString() {
+            return timeSlot + " (" + attendance + "/" + groupSize + " free)";
+        }
+    }
+}
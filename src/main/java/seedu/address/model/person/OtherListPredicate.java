@@ -1,6 +1,5 @@
 package seedu.address.model.person;
 
-import java.util.Set;
 import java.util.function.Predicate;
 
 /**
@@ -16,15 +15,9 @@ public class OtherListPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        Set<Friend> otherList = currentUser.getFriends();
         if (currentUser.getName().equals(person.getName())) {
             return false;
         }
-        for (Friend other : otherList) {
-            if (person.getName().equals(other.getFriendName())) {
-                return false;
-            }
-        }
-        return true;
+        return !currentUser.getFriends().contains(new Friend(person.getName()));
     }
 }
@@ -1,10 +1,15 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.model.tag.Tag;
@@ -15,6 +20,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    public static final String MESSAGE_TIME_ZONE_CONSTRAINTS =
+            "Time zones should be a region such as Asia/Singapore, or an offset from UTC such as +08:00";
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -24,18 +32,49 @@ public class Person {
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
 
-    //Timetable field (Currently only one)
-    private final TimeTable timeTable;
+    //Timetable field (Currently only one), built when first needed
+    private final LazyTimeTable timeTable;
 
     // Friend list of the person
     private Set<Friend> friendList;
 
+    // Time zone that the timetable is in, if it is not the default one
+    private final Optional<ZoneId> timeZone;
+
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address,
                   Set<Tag> tags, TimeTable timeTable, Set<Friend> friendList) {
-        requireAllNonNull(name, phone, email, address, tags, timeTable, friendList);
+        this(name, phone, email, address, tags, timeTable, friendList, Optional.empty());
+    }
+
+    /**
+     * Every field must be present and not null.
+     * {@code timeZone} is empty if the timetable is in the default time zone.
+     */
+    public Person(Name name, Phone phone, Email email, Address address,
+                  Set<Tag> tags, TimeTable timeTable, Set<Friend> friendList, Optional<ZoneId> timeZone) {
+        this(name, phone, email, address, tags, new LazyTimeTable(requireNonNull(timeTable)), friendList, timeZone);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * The {@code TimeTable} is only built from {@code timeTable} when it is first needed.
+     */
+    public Person(Name name, Phone phone, Email email, Address address,
+                  Set<Tag> tags, LazyTimeTable timeTable, Set<Friend> friendList) {
+        this(name, phone, email, address, tags, timeTable, friendList, Optional.empty());
+    }
+
+    /**
+     * Every field must be present and not null.
+     * The {@code TimeTable} is only built from {@code timeTable} when it is first needed. {@code timeZone} is empty if
+     * the timetable is in the default time zone.
+     */
+    public Person(Name name, Phone phone, Email email, Address address,
+                  Set<Tag> tags, LazyTimeTable timeTable, Set<Friend> friendList, Optional<ZoneId> timeZone) {
+        requireAllNonNull(name, phone, email, address, tags, timeTable, friendList, timeZone);
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -43,6 +82,7 @@ public class Person {
         this.tags.addAll(tags);
         this.friendList = friendList;
         this.timeTable = timeTable;
+        this.timeZone = timeZone;
     }
 
     public Name getName() {
@@ -62,9 +102,45 @@ public class Person {
     }
 
     public TimeTable getTimeTable() {
+        return timeTable.get();
+    }
+
+    /**
+     * Returns this person's {@code TimeTable} as held, without building it, so that it can be carried over to an
+     * edited copy of this person.
+     */
+    public LazyTimeTable getLazyTimeTable() {
         return timeTable;
     }
 
+    /**
+     * Returns the {@code TimeSlot}s of this person's {@code TimeTable}, without building the {@code TimeTable} if
+     * it has not been needed yet.
+     */
+    public Collection<TimeSlot> getTimeSlots() {
+        return timeTable.getTimeSlots();
+    }
+
+    /**
+     * Returns true if a given string is a valid time zone.
+     */
+    public static boolean isValidTimeZone(String test) {
+        try {
+            ZoneId.of(test);
+            return true;
+        } catch (DateTimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the time zone that the {@code TimeSlot}s of this person's {@code TimeTable} are in, or an empty
+     * {@code Optional} if they are in the default time zone of the app.
+     */
+    public Optional<ZoneId> getTimeZone() {
+        return timeZone;
+    }
+
     /**
      * Returns an immutable Friend set
      */
@@ -127,7 +203,8 @@ public class Person {
                 && otherPerson.getAddress().equals(getAddress())
                 && otherPerson.getTags().equals(getTags())
                 && otherPerson.getFriends().equals(getFriends())
-                && otherPerson.getTimeTable().equals(getTimeTable());
+                && otherPerson.getTimeZone().equals(getTimeZone())
+                && otherPerson.timeTable.equals(timeTable);
     }
 
     @Override
@@ -153,6 +230,6 @@ public class Person {
 
     public UserParameterHelper getData() {
         return new UserParameterHelper(this.name, this.phone, this.email, this.address, this.tags,
-                this.timeTable, this.friendList);
+                getTimeTable(), this.friendList, this.timeZone);
     }
 }
@@ -0,0 +1,156 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Represents a {@code TimeTable} of the times when at least a minimum number of people in a group are free
+ *
+ * Each {@code TimeSlot} in a {@code QuorumTimeTable} is a maximal stretch of time during which the number of free
+ * people stays the same, and that number is available through {@code getAttendance()}.
+ */
+public class QuorumTimeTable extends TimeTable {
+    public static final String MESSAGE_INVALID_QUORUM = "The minimum number of available people should be between "
+            + "1 and the number of people in the group.";
+
+    public static final Color QUORUM_TIMESLOT_COLOR = Color.LIGHTGREEN;
+    public static final LocalTime DEFAULT_START = DeconflictTimeTable.DEFAULT_START;
+    public static final LocalTime DEFAULT_END = DeconflictTimeTable.DEFAULT_END;
+
+    private final int groupSize;
+    private final int minAvailable;
+    private final Map<TimeSlot, Integer> attendance;
+
+    private QuorumTimeTable(int groupSize, int minAvailable) {
+        super();
+        this.groupSize = groupSize;
+        this.minAvailable = minAvailable;
+        this.attendance = new HashMap<>();
+    }
+
+    /**
+     * Creates a {@code QuorumTimeTable} of the times when at least {@code minAvailable} of the people owning
+     * {@code timeTables} are free.
+     *
+     * Every {@code TimeSlot} adds one to the busy count at its start minute and removes one at its end minute, after
+     * which each day is swept once to turn the running busy count into {@code TimeSlot}s. Times are counted to the
+     * minute; seconds are ignored.
+     *
+     * @param timeTables {@code TimeTable}s of the people in the group
+     * @param minAvailable Minimum number of people that must be free
+     * @return {@code QuorumTimeTable} containing the times when enough people are free
+     */
+    public static QuorumTimeTable of(Collection<? extends TimeTable> timeTables, int minAvailable) {
+        requireNonNull(timeTables);
+
+        LocalTime currStart = DEFAULT_START;
+        LocalTime currEnd = DEFAULT_END;
+        for (TimeTable timeTable : timeTables) {
+            if (!timeTable.isEmpty()) {
+                currStart = timeTable.getEarliest().isBefore(currStart) ? timeTable.getEarliest() : currStart;
+                currEnd = timeTable.getLatest().isAfter(currEnd) ? timeTable.getLatest() : currEnd;
+            }
+        }
+
+        return of(timeTables, minAvailable, currStart, currEnd);
+    }
+
+    /**
+     * Creates a {@code QuorumTimeTable} of the times between {@code currStart} and {@code currEnd} on every day when
+     * at least {@code minAvailable} of the people owning {@code timeTables} are free, like
+     * {@link #of(Collection, int)}, which spans the earliest to the latest time shown instead.
+     */
+    public static QuorumTimeTable of(Collection<? extends TimeTable> timeTables, int minAvailable,
+                                     LocalTime currStart, LocalTime currEnd) {
+        requireNonNull(timeTables);
+        requireNonNull(currStart);
+        requireNonNull(currEnd);
+        checkArgument(isValidQuorum(minAvailable, timeTables.size()), MESSAGE_INVALID_QUORUM);
+
+        int[][] busyChanges = new int[TimeSlotBitmap.DAYS_PER_WEEK][TimeSlotBitmap.MINUTES_PER_DAY + 1];
+        for (TimeTable timeTable : timeTables) {
+            for (TimeSlot timeSlot : timeTable.getTimeSlots()) {
+                int[] changes = busyChanges[timeSlot.getDayOfWeek().getValue() - 1];
+                changes[TimeSlotBitmap.toMinuteOfDay(timeSlot.getStartTime())]++;
+                changes[TimeSlotBitmap.toMinuteOfDay(timeSlot.getEndTime())]--;
+            }
+        }
+
+        QuorumTimeTable toReturn = new QuorumTimeTable(timeTables.size(), minAvailable);
+        int startMinute = TimeSlotBitmap.toMinuteOfDay(currStart);
+        int endMinute = TimeSlotBitmap.toMinuteOfDay(currEnd);
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            toReturn.addDay(day, busyChanges[day.getValue() - 1], startMinute, endMinute);
+        }
+
+        return toReturn;
+    }
+
+    /**
+     * Returns whether {@code minAvailable} is a valid quorum for a group of {@code groupSize} people.
+     */
+    public static boolean isValidQuorum(int minAvailable, int groupSize) {
+        return minAvailable >= 1 && minAvailable <= groupSize;
+    }
+
+    /**
+     * Sweeps through the busy count changes of {@code day}, adding a {@code TimeSlot} for every stretch of time
+     * between {@code startMinute} and {@code endMinute} in which enough people are free
+     */
+    private void addDay(DayOfWeek day, int[] busyChanges, int startMinute, int endMinute) {
+        int busy = 0;
+        int runStart = -1;
+        int runAvailable = -1;
+
+        for (int minute = 0; minute <= endMinute; minute++) {
+            busy += busyChanges[minute];
+            int available = (minute < startMinute || minute == endMinute) ? -1 : groupSize - busy;
+
+            if (available == runAvailable) {
+                continue;
+            }
+
+            if (runAvailable >= minAvailable) {
+                addAvailable(day, runStart, minute, runAvailable);
+            }
+            runStart = minute;
+            runAvailable = available;
+        }
+    }
+
+    /**
+     * Adds the {@code TimeSlot} from {@code startMinute} to {@code endMinute} of {@code day}, during which
+     * {@code available} people are free.
+     */
+    private void addAvailable(DayOfWeek day, int startMinute, int endMinute, int available) {
+        TimeSlot timeSlot = new TimeSlot(day, TimeSlotBitmap.toLocalTime(startMinute),
+                TimeSlotBitmap.toLocalTime(endMinute), QUORUM_TIMESLOT_COLOR);
+        addTimeSlotWithoutColor(timeSlot);
+        attendance.put(timeSlot, available);
+    }
+
+    public int getGroupSize() {
+        return groupSize;
+    }
+
+    public int getMinAvailable() {
+        return minAvailable;
+    }
+
+    /**
+     * Returns the number of people free during {@code timeSlot}, which must be a {@code TimeSlot} of this
+     * {@code QuorumTimeTable}, or 0 if it is not.
+     */
+    public int getAttendance(TimeSlot timeSlot) {
+        return attendance.getOrDefault(timeSlot, 0);
+    }
+}
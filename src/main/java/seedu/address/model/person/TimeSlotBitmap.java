@@ -0,0 +1,269 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * Represents the occupancy of a week as a fixed-resolution bitmap, one bit per minute.
+ *
+ * Each day is stored as its own array of words, which is only allocated once a {@code TimeSlot} is placed on that
+ * day. Overlap, adjacency and free/busy queries on a {@code TimeSlot} are answered with a few word operations
+ * instead of a scan over every {@code TimeSlot} in the {@code TimeTable}.
+ *
+ * A minute {@code m} is occupied by a {@code TimeSlot} if {@code start <= m < end}, so two {@code TimeSlot}s overlap
+ * exactly when they share an occupied minute, and adjacent {@code TimeSlot}s do not.
+ * Only {@code TimeSlot}s that start and end on a whole minute (see {@link #isAligned(TimeSlot)}) are represented
+ * exactly; callers should fall back to comparing {@code TimeSlot}s directly for any other {@code TimeSlot}.
+ */
+public class TimeSlotBitmap {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int DAYS_PER_WEEK = DayOfWeek.values().length;
+
+    private static final int WORDS_PER_DAY = (MINUTES_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+    private static final long ALL_ONES = -1L;
+
+    private final long[][] days;
+
+    public TimeSlotBitmap() {
+        days = new long[DAYS_PER_WEEK][];
+    }
+
+    /**
+     * Copy constructor
+     * @param input {@code TimeSlotBitmap} to be copied
+     */
+    public TimeSlotBitmap(TimeSlotBitmap input) {
+        this();
+        for (int i = 0; i < DAYS_PER_WEEK; i++) {
+            if (input.days[i] != null) {
+                days[i] = Arrays.copyOf(input.days[i], WORDS_PER_DAY);
+            }
+        }
+    }
+
+    /**
+     * Returns whether {@code timeSlot} can be represented exactly by this bitmap, i.e. it starts and ends on a minute.
+     */
+    public static boolean isAligned(TimeSlot timeSlot) {
+        return isAligned(timeSlot.getStartTime()) && isAligned(timeSlot.getEndTime());
+    }
+
+    private static boolean isAligned(LocalTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0;
+    }
+
+    /**
+     * Returns the minute of the day that {@code time} falls in.
+     */
+    public static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Returns the {@code LocalTime} at the start of {@code minuteOfDay}.
+     */
+    public static LocalTime toLocalTime(int minuteOfDay) {
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    /**
+     * Marks all minutes covered by {@code timeSlot} as occupied.
+     */
+    public void set(TimeSlot timeSlot) {
+        requireNonNull(timeSlot);
+        setRange(getOrCreateDay(timeSlot.getDayOfWeek()), startOf(timeSlot), endOf(timeSlot), true);
+    }
+
+    /**
+     * Marks all minutes covered by {@code timeSlot} as free.
+     */
+    public void clear(TimeSlot timeSlot) {
+        requireNonNull(timeSlot);
+        long[] day = days[indexOf(timeSlot.getDayOfWeek())];
+        if (day != null) {
+            setRange(day, startOf(timeSlot), endOf(timeSlot), false);
+        }
+    }
+
+    /**
+     * Marks the whole week as free.
+     */
+    public void clear() {
+        Arrays.fill(days, null);
+    }
+
+    /**
+     * Returns whether {@code minuteOfDay} on {@code day} is occupied.
+     */
+    public boolean isOccupied(DayOfWeek day, int minuteOfDay) {
+        long[] words = days[indexOf(day)];
+        return words != null && minuteOfDay >= 0 && minuteOfDay < MINUTES_PER_DAY
+                && (words[minuteOfDay / Long.SIZE] & (1L << (minuteOfDay % Long.SIZE))) != 0;
+    }
+
+    /**
+     * Returns whether any minute covered by {@code timeSlot} is occupied.
+     */
+    public boolean hasOverlap(TimeSlot timeSlot) {
+        requireNonNull(timeSlot);
+        long[] day = days[indexOf(timeSlot.getDayOfWeek())];
+        return day != null && anySet(day, startOf(timeSlot), endOf(timeSlot));
+    }
+
+    /**
+     * Returns whether any occupied minute overlaps with, or is adjacent to, {@code timeSlot}.
+     */
+    public boolean hasOverlapOrAdjacent(TimeSlot timeSlot) {
+        requireNonNull(timeSlot);
+        long[] day = days[indexOf(timeSlot.getDayOfWeek())];
+        if (day == null) {
+            return false;
+        }
+
+        int start = Math.max(startOf(timeSlot) - 1, 0);
+        int end = Math.min(endOf(timeSlot) + 1, MINUTES_PER_DAY);
+        return anySet(day, start, end);
+    }
+
+    /**
+     * Returns whether no minute on {@code day} is occupied.
+     */
+    public boolean isFree(DayOfWeek day) {
+        long[] words = days[indexOf(day)];
+        return words == null || !anySet(words, 0, MINUTES_PER_DAY);
+    }
+
+    /**
+     * Returns the first occupied minute on {@code day} at or after {@code fromMinute}, or -1 if there is none.
+     */
+    public int nextOccupied(DayOfWeek day, int fromMinute) {
+        long[] words = days[indexOf(day)];
+        return words == null ? -1 : nextBit(words, fromMinute, true);
+    }
+
+    /**
+     * Returns the first free minute on {@code day} at or after {@code fromMinute}, or -1 if there is none.
+     */
+    public int nextFree(DayOfWeek day, int fromMinute) {
+        long[] words = days[indexOf(day)];
+        if (words == null) {
+            return fromMinute < MINUTES_PER_DAY ? fromMinute : -1;
+        }
+        return nextBit(words, fromMinute, false);
+    }
+
+    private long[] getOrCreateDay(DayOfWeek day) {
+        int index = indexOf(day);
+        if (days[index] == null) {
+            days[index] = new long[WORDS_PER_DAY];
+        }
+        return days[index];
+    }
+
+    private static int indexOf(DayOfWeek day) {
+        return day.getValue() - 1;
+    }
+
+    private static int startOf(TimeSlot timeSlot) {
+        return toMinuteOfDay(timeSlot.getStartTime());
+    }
+
+    private static int endOf(TimeSlot timeSlot) {
+        return toMinuteOfDay(timeSlot.getEndTime());
+    }
+
+    /**
+     * Returns a mask with bits {@code from} (inclusive) to {@code to} (exclusive) set, within a single word.
+     */
+    private static long mask(int from, int to) {
+        long upper = (to == Long.SIZE) ? ALL_ONES : ~(ALL_ONES << to);
+        return upper & (ALL_ONES << from);
+    }
+
+    /**
+     * Sets or clears the bits {@code from} (inclusive) to {@code to} (exclusive) of {@code words}.
+     */
+    private static void setRange(long[] words, int from, int to, boolean value) {
+        for (int bit = from; bit < to; ) {
+            int word = bit / Long.SIZE;
+            int wordEnd = Math.min(to - word * Long.SIZE, Long.SIZE);
+            long mask = mask(bit % Long.SIZE, wordEnd);
+            if (value) {
+                words[word] |= mask;
+            } else {
+                words[word] &= ~mask;
+            }
+            bit = word * Long.SIZE + wordEnd;
+        }
+    }
+
+    /**
+     * Returns whether any of the bits {@code from} (inclusive) to {@code to} (exclusive) of {@code words} is set.
+     */
+    private static boolean anySet(long[] words, int from, int to) {
+        for (int bit = from; bit < to; ) {
+            int word = bit / Long.SIZE;
+            int wordEnd = Math.min(to - word * Long.SIZE, Long.SIZE);
+            if ((words[word] & mask(bit % Long.SIZE, wordEnd)) != 0) {
+                return true;
+            }
+            bit = word * Long.SIZE + wordEnd;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first bit at or after {@code from} that is equal to {@code value}, or -1.
+     */
+    private static int nextBit(long[] words, int from, boolean value) {
+        if (from < 0) {
+            from = 0;
+        }
+        for (int word = from / Long.SIZE; word < WORDS_PER_DAY; word++) {
+            long bits = value ? words[word] : ~words[word];
+            if (word == from / Long.SIZE) {
+                bits &= ALL_ONES << (from % Long.SIZE);
+            }
+            if (bits != 0) {
+                int index = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                return index < MINUTES_PER_DAY ? index : -1;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TimeSlotBitmap)) {
+            return false;
+        }
+
+        TimeSlotBitmap otherBitmap = (TimeSlotBitmap) other;
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (isFree(day) && otherBitmap.isFree(day)) {
+                continue;
+            }
+            if (!Arrays.equals(days[indexOf(day)], otherBitmap.days[indexOf(day)])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (DayOfWeek day : DayOfWeek.values()) {
+            long[] words = days[indexOf(day)];
+            hash = 31 * hash + (isFree(day) ? 0 : Arrays.hashCode(words));
+        }
+        return hash;
+    }
+}
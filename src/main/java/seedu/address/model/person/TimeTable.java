@@ -20,6 +20,11 @@ import seedu.address.model.person.exceptions.TimeTableEmptyException;
 public class TimeTable {
     protected Collection <TimeSlot> timeSlots;
 
+    // Occupancy of the week, used to answer overlap queries without scanning every TimeSlot
+    protected TimeSlotBitmap occupancy;
+    // Number of TimeSlots that do not fall on whole minutes, and hence are not tracked by the occupancy bitmap
+    private int unalignedCount;
+
     // Since Java does not have a built-in multiset, a map is used to simulate a multiset
     private TreeMap<LocalTime, Integer> earlistSet;
     private TreeMap<LocalTime, Integer> latestSet;
@@ -28,6 +33,8 @@ public class TimeTable {
 
     public TimeTable() {
         timeSlots = new HashSet<>();
+        occupancy = new TimeSlotBitmap();
+        unalignedCount = 0;
         earlistSet = new TreeMap<>();
         latestSet = new TreeMap<>();
         colorList = new HashMap<>();
@@ -67,6 +74,7 @@ public class TimeTable {
         }
 
         timeSlots.add(toAdd);
+        addOccupancy(toAdd);
         addColor(toAdd.getColor());
 
         if (earlistSet.containsKey(toAdd.getStartTime())) {
@@ -149,6 +157,7 @@ public class TimeTable {
         }
 
         timeSlots.remove(toRemove);
+        removeOccupancy(toRemove);
 
         int currCountEarlist = earlistSet.get(toRemove.getStartTime());
         earlistSet.remove(toRemove.getStartTime());
@@ -171,6 +180,10 @@ public class TimeTable {
      * @return Whether an overlapping {@code TimeSlot} exists in this {@code TimeTable}
      */
     public boolean hasOverlap(TimeSlot toCheck) {
+        if (isTrackedByOccupancy(toCheck)) {
+            return occupancy.hasOverlap(toCheck);
+        }
+
         for (TimeSlot timeSlot : timeSlots) {
             if (timeSlot.isOverlap(toCheck)) {
                 return true;
@@ -180,15 +193,66 @@ public class TimeTable {
         return false;
     }
 
+    /**
+     * Checks whether {@code toCheck} is free, i.e. does not overlap with any {@code TimeSlot}s in this
+     * {@code TimeTable}
+     * @param toCheck {@code TimeSlot} to be checked
+     * @return Whether {@code toCheck} is free
+     */
+    public boolean isFree(TimeSlot toCheck) {
+        return !hasOverlap(toCheck);
+    }
+
     public boolean isEmpty() {
         return timeSlots.isEmpty();
     }
 
+    /**
+     * Checks whether queries on {@code toCheck} can be answered exactly by the occupancy bitmap
+     * @param toCheck {@code TimeSlot} to be checked
+     */
+    protected boolean isTrackedByOccupancy(TimeSlot toCheck) {
+        return isOccupancyExact() && TimeSlotBitmap.isAligned(toCheck);
+    }
+
+    /**
+     * Checks whether every {@code TimeSlot} in this {@code TimeTable} is represented in the occupancy bitmap
+     */
+    protected boolean isOccupancyExact() {
+        return unalignedCount == 0;
+    }
+
+    /**
+     * Marks {@code toAdd} as occupied in the occupancy bitmap, if it can be represented there
+     * @param toAdd {@code TimeSlot} that was added
+     */
+    private void addOccupancy(TimeSlot toAdd) {
+        if (TimeSlotBitmap.isAligned(toAdd)) {
+            occupancy.set(toAdd);
+        } else {
+            unalignedCount++;
+        }
+    }
+
+    /**
+     * Marks {@code toRemove} as free in the occupancy bitmap, if it was represented there
+     * @param toRemove {@code TimeSlot} that was removed
+     */
+    private void removeOccupancy(TimeSlot toRemove) {
+        if (TimeSlotBitmap.isAligned(toRemove)) {
+            occupancy.clear(toRemove);
+        } else {
+            unalignedCount--;
+        }
+    }
+
     /**
      * Clears this [@code TimeTable} object
      */
     public void clear() {
         timeSlots = new HashSet<>();
+        occupancy = new TimeSlotBitmap();
+        unalignedCount = 0;
         earlistSet = new TreeMap<>();
         latestSet = new TreeMap<>();
         colorList = new HashMap<>();
@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves the {@code TimeSlot}s of a timetable from one time zone to another, so that the timetables of persons in
+ * different time zones can be compared.
+ *
+ * Each {@code TimeSlot} is taken as seconds from the start of the week in UTC, using the offsets from UTC that the two
+ * time zones have at a given instant, and is split in two if it then crosses midnight. A {@code TimeSlot} that wraps
+ * past the end of Sunday continues from the start of Monday, as every week is the same.
+ */
+public class TimeZoneShift {
+
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final int SECONDS_PER_WEEK = 7 * SECONDS_PER_DAY;
+
+    // A TimeSlot cannot end at midnight, so one ending at the end of a day ends at its last minute, as meet's default
+    // window does
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59);
+
+    private final int offsetSeconds;
+
+    private TimeZoneShift(int offsetSeconds) {
+        this.offsetSeconds = offsetSeconds;
+    }
+
+    /**
+     * Returns the shift from {@code fromZoneId} to {@code toZoneId}, with the offsets they have at {@code instant}.
+     */
+    public static TimeZoneShift between(ZoneId fromZoneId, ZoneId toZoneId, Instant instant) {
+        requireAllNonNull(fromZoneId, toZoneId, instant);
+        return new TimeZoneShift(toZoneId.getRules().getOffset(instant).getTotalSeconds()
+                - fromZoneId.getRules().getOffset(instant).getTotalSeconds());
+    }
+
+    /**
+     * Returns the timetable of each of {@code persons}, in order, moved from their time zone into {@code toZoneId}
+     * with the offsets the zones have now. Persons without a time zone are taken to be in {@code defaultZoneId}.
+     */
+    public static List<TimeTable> toTimeZone(List<Person> persons, ZoneId defaultZoneId, ZoneId toZoneId) {
+        requireAllNonNull(persons, defaultZoneId, toZoneId);
+        Instant now = Instant.now();
+        List<TimeTable> timeTables = new ArrayList<>();
+        for (Person person : persons) {
+            ZoneId zoneId = person.getTimeZone().orElse(defaultZoneId);
+            timeTables.add(between(zoneId, toZoneId, now).apply(person.getTimeTable()));
+        }
+        return timeTables;
+    }
+
+    /**
+     * Returns true if the two time zones have the same offset, so no {@code TimeSlot} moves.
+     */
+    public boolean isNone() {
+        return offsetSeconds == 0;
+    }
+
+    /**
+     * Returns a {@code TimeTable} of the {@code TimeSlot}s of {@code timeTable} moved into the other time zone, or
+     * {@code timeTable} itself if no {@code TimeSlot} moves.
+     */
+    public TimeTable apply(TimeTable timeTable) {
+        if (isNone()) {
+            return timeTable;
+        }
+
+        TimeTable shifted = new TimeTable();
+        for (TimeSlot timeSlot : timeTable.getTimeSlots()) {
+            int start = Math.floorMod(toSecondOfWeek(timeSlot.getDayOfWeek(), timeSlot.getStartTime()) + offsetSeconds,
+                    SECONDS_PER_WEEK);
+            int end = start + (int) timeSlot.getDuration().getSeconds();
+            int dayEnd = (start / SECONDS_PER_DAY + 1) * SECONDS_PER_DAY;
+
+            addPart(shifted, start, Math.min(end, dayEnd));
+            if (end > dayEnd) {
+                addPart(shifted, dayEnd % SECONDS_PER_WEEK, end - dayEnd + dayEnd % SECONDS_PER_WEEK);
+            }
+        }
+        return shifted;
+    }
+
+    /**
+     * Adds the {@code TimeSlot} from {@code start} to {@code end}, in seconds from the start of the week and within
+     * one day, to {@code timeTable}. Nothing is added if the {@code TimeSlot} lies in the last minute of the day.
+     */
+    private static void addPart(TimeTable timeTable, int start, int end) {
+        DayOfWeek day = DayOfWeek.of(start / SECONDS_PER_DAY + 1);
+        LocalTime startTime = LocalTime.ofSecondOfDay(start % SECONDS_PER_DAY);
+        LocalTime endTime = end % SECONDS_PER_DAY == 0 ? END_OF_DAY : LocalTime.ofSecondOfDay(end % SECONDS_PER_DAY);
+        if (TimeSlot.isValidTimeSlot(startTime, endTime)) {
+            timeTable.addTimeSlot(new TimeSlot(day, startTime, endTime));
+        }
+    }
+
+    private static int toSecondOfWeek(DayOfWeek day, LocalTime time) {
+        return (day.getValue() - 1) * SECONDS_PER_DAY + time.toSecondOfDay();
+    }
+}
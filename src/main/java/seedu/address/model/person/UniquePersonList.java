@@ -3,8 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,20 +23,22 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Person identities and positions are also kept in hash indexes, so that
+ * checking for duplicates and finding a person to replace do not need to scan the list.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private PersonIndex index = new PersonIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return index.contains(toCheck);
     }
 
     /**
@@ -39,7 +46,15 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsToRegister(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePersonForRegister);
+        return index.containsName(toCheck.getName());
+    }
+
+    /**
+     * Returns a person named {@code name} in the list, if there is one.
+     */
+    public Optional<Person> findByName(Name name) {
+        requireNonNull(name);
+        return index.getByName(name);
     }
 
     /**
@@ -51,9 +66,33 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        index.add(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a person at {@code position} in the list.
+     * The person must not already exist in the list.
+     */
+    public void add(int position, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        index.shiftPositions(position, 1);
+        index.add(toAdd, position);
+        internalList.add(position, toAdd);
+    }
+
+    /**
+     * Returns the position of {@code toFind} in the list, or -1 if the list does not contain it.
+     */
+    public int indexOf(Person toFind) {
+        requireNonNull(toFind);
+        Person indexed = index.get(toFind);
+        return toFind.equals(indexed) ? index.positionOf(indexed) : -1;
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -62,16 +101,19 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(index.get(target))) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        int position = index.positionOf(target);
+        index.remove(target);
+        if (index.contains(editedPerson)) {
+            index.add(target, position);
             throw new DuplicatePersonException();
         }
+        index.add(editedPerson, position);
 
-        internalList.set(index, editedPerson);
+        internalList.set(position, editedPerson);
     }
 
     /**
@@ -80,13 +122,18 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(index.get(toRemove))) {
             throw new PersonNotFoundException();
         }
+        int position = index.positionOf(toRemove);
+        index.shiftPositions(position + 1, -1);
+        index.remove(toRemove);
+        internalList.remove(position);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        index = new PersonIndex(replacement.index);
         internalList.setAll(replacement.internalList);
     }
 
@@ -96,10 +143,15 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        PersonIndex replacementIndex = new PersonIndex();
+        for (int i = 0; i < persons.size(); i++) {
+            if (replacementIndex.contains(persons.get(i))) {
+                throw new DuplicatePersonException();
+            }
+            replacementIndex.add(persons.get(i), i);
         }
 
+        index = replacementIndex;
         internalList.setAll(persons);
     }
 
@@ -128,16 +180,104 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Hash indexes on the identity fields of the persons in a {@code UniquePersonList}, and their positions in it.
+     *
+     * Two persons have the same identity if they share a name and either a phone or an email, so a person is indexed
+     * under both its (name, phone) and (name, email) pairs, as well as under its name alone. Its position is kept
+     * under its (name, phone) pair.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static class PersonIndex {
+        private final Map<Name, List<Person>> byName;
+        private final Map<List<Object>, Person> byNameAndPhone;
+        private final Map<List<Object>, Person> byNameAndEmail;
+        private final Map<List<Object>, Integer> positions;
+
+        PersonIndex() {
+            byName = new HashMap<>();
+            byNameAndPhone = new HashMap<>();
+            byNameAndEmail = new HashMap<>();
+            positions = new HashMap<>();
+        }
+
+        PersonIndex(PersonIndex toCopy) {
+            byName = new HashMap<>();
+            toCopy.byName.forEach((name, persons) -> byName.put(name, new ArrayList<>(persons)));
+            byNameAndPhone = new HashMap<>(toCopy.byNameAndPhone);
+            byNameAndEmail = new HashMap<>(toCopy.byNameAndEmail);
+            positions = new HashMap<>(toCopy.positions);
+        }
+
+        /**
+         * Returns true if an indexed person has the same identity as {@code toCheck}.
+         */
+        boolean contains(Person toCheck) {
+            return byNameAndPhone.containsKey(phoneKey(toCheck)) || byNameAndEmail.containsKey(emailKey(toCheck));
+        }
+
+        boolean containsName(Name name) {
+            return byName.containsKey(name);
+        }
+
+        Optional<Person> getByName(Name name) {
+            return Optional.ofNullable(byName.get(name)).map(persons -> persons.get(0));
+        }
+
+        /**
+         * Returns the indexed person with the same name and phone as {@code toFind}, or null if there is none.
+         */
+        Person get(Person toFind) {
+            return byNameAndPhone.get(phoneKey(toFind));
+        }
+
+        /**
+         * Returns the position of {@code toFind}, which must be indexed.
+         */
+        int positionOf(Person toFind) {
+            return positions.get(phoneKey(toFind));
+        }
+
+        /**
+         * Indexes {@code toAdd} at {@code position}. {@code toAdd} must not have the same identity as any indexed
+         * person, and no indexed person may be at {@code position}.
+         */
+        void add(Person toAdd, int position) {
+            byName.computeIfAbsent(toAdd.getName(), name -> new ArrayList<>()).add(toAdd);
+            byNameAndPhone.put(phoneKey(toAdd), toAdd);
+            byNameAndEmail.put(emailKey(toAdd), toAdd);
+            positions.put(phoneKey(toAdd), position);
+        }
+
+        /**
+         * Moves every indexed person at or after {@code from}, which is at most the number of indexed persons, by
+         * {@code offset} positions.
+         * This takes time in proportion to the number of persons, as does moving them in the list itself.
+         */
+        void shiftPositions(int from, int offset) {
+            if (from < positions.size()) {
+                positions.replaceAll((key, position) -> position >= from ? position + offset : position);
+            }
+        }
+
+        /**
+         * Removes {@code toRemove}, which must be indexed, from the index.
+         */
+        void remove(Person toRemove) {
+            List<Person> named = byName.get(toRemove.getName());
+            named.remove(toRemove);
+            if (named.isEmpty()) {
+                byName.remove(toRemove.getName());
             }
+            byNameAndPhone.remove(phoneKey(toRemove));
+            byNameAndEmail.remove(emailKey(toRemove));
+            positions.remove(phoneKey(toRemove));
+        }
+
+        private static List<Object> phoneKey(Person person) {
+            return Arrays.asList(person.getName(), person.getPhone());
+        }
+
+        private static List<Object> emailKey(Person person) {
+            return Arrays.asList(person.getName(), person.getEmail());
         }
-        return true;
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import java.time.ZoneId;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.model.tag.Tag;
@@ -23,8 +25,16 @@ public class UserParameterHelper {
     // Friend list of the person
     private Set<Friend> friendList;
 
+    // Time zone of the timetable, if it is not the default one
+    private final Optional<ZoneId> timeZone;
+
     public UserParameterHelper(Name name, Phone phone, Email email, Address address, Set<Tag> tags, TimeTable timeTable,
                                Set<Friend> friendList) {
+        this(name, phone, email, address, tags, timeTable, friendList, Optional.empty());
+    }
+
+    public UserParameterHelper(Name name, Phone phone, Email email, Address address, Set<Tag> tags, TimeTable timeTable,
+                               Set<Friend> friendList, Optional<ZoneId> timeZone) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -32,6 +42,7 @@ public class UserParameterHelper {
         this.tags = tags;
         this.timeTable = timeTable;
         this.friendList = friendList;
+        this.timeZone = timeZone;
     }
 
     public Name getName() {
@@ -61,4 +72,8 @@ public class UserParameterHelper {
     public Set<Friend> getFriendList() {
         return friendList;
     }
+
+    public Optional<ZoneId> getTimeZone() {
+        return timeZone;
+    }
 }
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book files between the xml and binary formats.
+ * Every field stored in the xml format is also stored in the binary format, so converting a file to the other
+ * format and back gives the same address book.
+ */
+public class AddressBookFormatConverter {
+
+    /**
+     * Converts the xml address book at {@code xmlFilePath} to a binary address book at {@code binaryFilePath}.
+     *
+     * @throws DataConversionException if the xml file is not in the correct format.
+     */
+    public static void xmlToBinary(Path xmlFilePath, Path binaryFilePath) throws DataConversionException,
+                                                                                 IOException {
+        convert(new XmlAddressBookStorage(xmlFilePath), new BinaryAddressBookStorage(binaryFilePath));
+    }
+
+    /**
+     * Converts the binary address book at {@code binaryFilePath} to an xml address book at {@code xmlFilePath}.
+     *
+     * @throws DataConversionException if the binary file is not in the correct format.
+     */
+    public static void binaryToXml(Path binaryFilePath, Path xmlFilePath) throws DataConversionException,
+                                                                                 IOException {
+        convert(new BinaryAddressBookStorage(binaryFilePath), new XmlAddressBookStorage(xmlFilePath));
+    }
+
+    /**
+     * Converts the address book file of {@code storage} in place to the format {@code storage} saves in, if it is a
+     * binary address book and {@code storage} saves in xml, or the other way round. Does nothing if there is no
+     * such file. Called when the app starts, so that an address book is kept when the binary format is switched on
+     * or off.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static void convertToFormatOf(AddressBookStorage storage) throws DataConversionException, IOException {
+        Path filePath = storage.getAddressBookFilePath();
+        if (!Files.isRegularFile(filePath)) {
+            return;
+        }
+
+        boolean isBinaryFile = BinaryAddressBookStorage.isBinaryFile(filePath);
+        if (isBinaryFile == storage instanceof BinaryAddressBookStorage) {
+            return;
+        }
+        convert(isBinaryFile ? new BinaryAddressBookStorage(filePath) : new XmlAddressBookStorage(filePath), storage);
+    }
+
+    /**
+     * Reads the address book from {@code source} and saves it to {@code target}.
+     */
+    private static void convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source.getAddressBookFilePath());
+        requireNonNull(target.getAddressBookFilePath());
+
+        ReadOnlyAddressBook addressBook = source.readAddressBook().orElseThrow(() -> new FileNotFoundException(
+                "File not found : " + source.getAddressBookFilePath().toAbsolutePath()));
+        target.saveAddressBook(addressBook);
+    }
+}
@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.PersonListChange;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -42,4 +44,14 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} to the storage, where it differs from the address book last read
+     * from or saved to the storage only by {@code changes}. Storages that can write only the persons changed do so,
+     * and the others save the whole address book.
+     * @param addressBook cannot be null.
+     * @param changes the changes made to the person list since, in order, or null if they are not known.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<PersonListChange> changes) throws IOException;
+
 }
@@ -0,0 +1,269 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Friend;
+import seedu.address.model.person.LazyTimeTable;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.exceptions.TimeSlotOverlapException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A binary address book file, as written by {@link BinaryAddressBookStorage}, read into memory.
+ *
+ * Opening the file copies its contents into memory in a single read and closes it, so the file can be replaced
+ * right away, and then reads its name table and the offset of each person record. The records are then decoded from
+ * the copy, independently of each other, so that the persons of a large file can be decoded in parallel.
+ */
+class BinaryAddressBookFile {
+
+    private static final String MESSAGE_CORRUPTED_RECORD = "Record of person %1$d is corrupted";
+
+    /** Oldest format version that can still be read */
+    private static final int OLDEST_FORMAT_VERSION = 1;
+    /** First format version that stores the time zone of each person */
+    private static final int TIME_ZONE_FORMAT_VERSION = 2;
+
+    private final ByteBuffer buffer;
+    private final int version;
+    private final String[] names;
+    // Start of each person record, after its length
+    private final int[] recordOffsets;
+    private final int[] recordLengths;
+
+    // Persons share the tags and friends decoded for each name; guarded by this
+    private final Tag[] tags;
+    private final Friend[] friends;
+
+    private BinaryAddressBookFile(ByteBuffer buffer, int version, String[] names, int[] recordOffsets,
+                                  int[] recordLengths) {
+        this.buffer = buffer;
+        this.version = version;
+        this.names = names;
+        this.recordOffsets = recordOffsets;
+        this.recordLengths = recordLengths;
+        this.tags = new Tag[names.length];
+        this.friends = new Friend[names.length];
+    }
+
+    /**
+     * Reads {@code file} into memory and reads its name table and person record offsets.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    static BinaryAddressBookFile open(Path file) throws DataConversionException, IOException {
+        requireNonNull(file);
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new DataConversionException(
+                        new IllegalValueException("Binary address book " + file + " is too large to be read"));
+            }
+            buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Reads until the buffer is full or the file ends
+            }
+            buffer.flip();
+        }
+
+        try {
+            byte[] magic = new byte[BinaryAddressBookStorage.MAGIC.length];
+            buffer.get(magic);
+            if (!Arrays.equals(magic, BinaryAddressBookStorage.MAGIC)) {
+                throw new DataConversionException(new IllegalValueException("Not a binary address book: " + file));
+            }
+            int version = buffer.getInt();
+            if (version < OLDEST_FORMAT_VERSION || version > BinaryAddressBookStorage.FORMAT_VERSION) {
+                throw new DataConversionException(
+                        new IllegalValueException("Unsupported binary address book version " + version));
+            }
+
+            String[] names = new String[buffer.getInt()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = readString(buffer);
+            }
+
+            int personCount = buffer.getInt();
+            int[] recordOffsets = new int[personCount];
+            int[] recordLengths = new int[personCount];
+            for (int i = 0; i < personCount; i++) {
+                recordLengths[i] = buffer.getInt();
+                recordOffsets[i] = buffer.position();
+                // Fails if the record runs past the end of the file
+                buffer.position(Math.addExact(recordOffsets[i], recordLengths[i]));
+            }
+            return new BinaryAddressBookFile(buffer, version, names, recordOffsets, recordLengths);
+        } catch (BufferUnderflowException | IllegalArgumentException | ArithmeticException
+                | NegativeArraySizeException e) {
+            // Truncated or corrupted data may show up as any of these
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the number of persons in the file.
+     */
+    int size() {
+        return recordOffsets.length;
+    }
+
+    /**
+     * Decodes the person at {@code index}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the person, or the person's
+     * record is not in the correct format.
+     */
+    Person getPerson(int index) throws IllegalValueException {
+        // Each caller reads through its own view of the contents, so calls do not interfere with each other
+        ByteBuffer record = buffer.duplicate();
+        record.limit(recordOffsets[index] + recordLengths[index]);
+        record.position(recordOffsets[index]);
+        try {
+            return readPerson(record);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_RECORD, index + 1), e);
+        }
+    }
+
+    /**
+     * Decodes all the persons in the file, in order. Large files are decoded in parallel.
+     *
+     * @throws IllegalValueException for the first person whose record violates any data constraints or is not in
+     * the correct format.
+     */
+    List<Person> getPersons() throws IllegalValueException {
+        return PersonConverter.convertAll(size(), this::getPerson);
+    }
+
+    /**
+     * Decodes the person whose record is at the position of {@code in}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the person.
+     */
+    private Person readPerson(ByteBuffer in) throws IllegalValueException {
+        Name name = readValue(in, Name::isValidName, Name::new, Name.MESSAGE_CONSTRAINTS);
+        Phone phone = readValue(in, Phone::isValidPhone, Phone::new, Phone.MESSAGE_CONSTRAINTS);
+        Email email = readValue(in, Email::isValidEmail, Email::new, Email.MESSAGE_CONSTRAINTS);
+        Address address = readValue(in, Address::isValidAddress, Address::new, Address.MESSAGE_CONSTRAINTS);
+        Optional<ZoneId> timeZone = Optional.empty();
+        if (version >= TIME_ZONE_FORMAT_VERSION) {
+            String zoneId = readString(in);
+            if (!zoneId.isEmpty()) {
+                if (!Person.isValidTimeZone(zoneId)) {
+                    throw new IllegalValueException(Person.MESSAGE_TIME_ZONE_CONSTRAINTS);
+                }
+                timeZone = Optional.of(ZoneId.of(zoneId));
+            }
+        }
+
+        Set<Tag> personTags = new HashSet<>();
+        int tagCount = in.getInt();
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(getTag(in.getInt()));
+        }
+
+        Set<Friend> personFriends = new HashSet<>();
+        int friendCount = in.getInt();
+        for (int i = 0; i < friendCount; i++) {
+            personFriends.add(getFriend(in.getInt()));
+        }
+
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        int timeSlotCount = in.getInt();
+        for (int i = 0; i < timeSlotCount; i++) {
+            int day = in.get();
+            long start = in.getLong();
+            long end = in.getLong();
+            try {
+                timeSlots.add(new TimeSlot(DayOfWeek.of(day), LocalTime.ofNanoOfDay(start),
+                        LocalTime.ofNanoOfDay(end)));
+            } catch (DateTimeException | IllegalArgumentException e) {
+                throw new IllegalValueException(TimeSlot.MESSAGE_INVALID_TIME_SLOT);
+            }
+        }
+
+        LazyTimeTable timeTable;
+        try {
+            timeTable = LazyTimeTable.of(timeSlots);
+        } catch (TimeSlotOverlapException e) {
+            throw new IllegalValueException(TimeSlot.MESSAGE_INVALID_TIME_SLOT);
+        }
+
+        return new Person(name, phone, email, address, personTags, timeTable, personFriends, timeZone);
+    }
+
+    private synchronized Tag getTag(int index) throws IllegalValueException {
+        if (tags[index] == null) {
+            if (!Tag.isValidTagName(names[index])) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags[index] = new Tag(names[index]);
+        }
+        return tags[index];
+    }
+
+    private synchronized Friend getFriend(int index) throws IllegalValueException {
+        if (friends[index] == null) {
+            if (!Name.isValidName(names[index])) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            friends[index] = new Friend(new Name(names[index]));
+        }
+        return friends[index];
+    }
+
+    /**
+     * Reads a string and converts it with {@code constructor}, after checking it with {@code validator}.
+     */
+    private static <T> T readValue(ByteBuffer in, Predicate<String> validator, Function<String, T> constructor,
+                                   String constraints) throws IllegalValueException {
+        String value = readString(in);
+        if (!validator.test(value)) {
+            throw new IllegalValueException(constraints);
+        }
+        return constructor.apply(value);
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string from {@code in}.
+     *
+     * @throws BufferUnderflowException if the length runs past the end of the record.
+     */
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,220 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.PersonListChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Friend;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with the magic bytes {@code FTAB} and a format version. A table of the distinct tag and friend
+ * names follows, which persons then refer to by index, so each name is stored and kept in memory only once.
+ * Each person is stored as a record prefixed by its length in bytes. Strings are stored as UTF-8 prefixed by their
+ * length in bytes, and the times of a {@code TimeSlot} as nanoseconds of the day. The time zone of a person is stored
+ * as its ID, or an empty string if they have none; files of version 1, written before persons had time zones, are
+ * still read.
+ * The file is read through a {@link BinaryAddressBookFile}, which finds each record from the length prefixes and
+ * decodes all the records from a copy of the file in memory.
+ *
+ * A file without the magic bytes is read as an xml address book, so that an existing address book can be switched
+ * to this format. It is written in this format on the next save.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int FORMAT_VERSION = 2;
+
+    static final byte[] MAGIC = {'F', 'T', 'A', 'B'};
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private int backupCount;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a storage that keeps {@code backupCount} previous versions of the file when saving.
+     */
+    public BinaryAddressBookStorage(Path filePath, int backupCount) {
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+        if (!isBinaryFile(filePath)) {
+            logger.info("AddressBook file " + filePath + " is not in binary format, reading it as xml");
+            return new XmlAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        try {
+            BinaryAddressBookFile binaryFile = BinaryAddressBookFile.open(filePath);
+            return Optional.of(new UniqueAddressBookBuilder().addPersons(binaryFile.getPersons()).build());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, backupCount, out -> writeTo(new DataOutputStream(out), addressBook));
+    }
+
+    /**
+     * Saves the whole address book, as this format cannot write only the persons changed.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<PersonListChange> changes)
+            throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Returns true if {@code filePath} starts with the magic bytes of this format.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        byte[] start = new byte[MAGIC.length];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            int read = 0;
+            while (read < start.length) {
+                int count = in.read(start, read, start.length - read);
+                if (count == -1) {
+                    return false;
+                }
+                read += count;
+            }
+        }
+        return Arrays.equals(start, MAGIC);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format: the header, the table of tag and friend names,
+     * then one length-prefixed record per person.
+     */
+    private static void writeTo(DataOutputStream out, ReadOnlyAddressBook addressBook) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+
+        Map<String, Integer> names = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                names.putIfAbsent(tag.tagName, names.size());
+            }
+            for (Friend friend : person.getFriends()) {
+                names.putIfAbsent(friend.getFriendName().fullName, names.size());
+            }
+        }
+
+        out.write(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(names.size());
+        for (String name : names.keySet()) {
+            writeString(out, name);
+        }
+
+        out.writeInt(persons.size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : persons) {
+            recordBytes.reset();
+            writePerson(record, person, names);
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+    }
+
+    /**
+     * Writes the record of {@code person} to {@code out}, with its tags and friends as indices into {@code names}.
+     */
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> names)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeString(out, person.getTimeZone().map(ZoneId::getId).orElse(""));
+
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(names.get(tag.tagName));
+        }
+
+        out.writeInt(person.getFriends().size());
+        for (Friend friend : person.getFriends()) {
+            out.writeInt(names.get(friend.getFriendName().fullName));
+        }
+
+        Collection<TimeSlot> timeSlots = person.getTimeSlots();
+        out.writeInt(timeSlots.size());
+        for (TimeSlot timeSlot : timeSlots) {
+            out.writeByte(timeSlot.getDayOfWeek().getValue());
+            out.writeLong(timeSlot.getStartTime().toNanoOfDay());
+            out.writeLong(timeSlot.getEndTime().toNanoOfDay());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+}
@@ -0,0 +1,191 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.PersonListChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves the address book on a background thread, combining saves requested in quick succession into one.
+ *
+ * A save starts {@code debounceMillis} after the first request of a burst and writes the address book from the
+ * latest request, so a burst of changes costs a single write. With a {@code debounceMillis} of 0, every request is
+ * saved immediately on the calling thread.
+ *
+ * The model keeps changing while a save waits, so the saver keeps its own copy of the person list and brings it up
+ * to date with the changes passed in each request. The person list is only copied on the first request, and on
+ * requests whose changes are not known.
+ */
+public class DebouncedAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(DebouncedAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long debounceMillis;
+    private final Consumer<IOException> saveFailureHandler;
+    private final ScheduledExecutorService executor;
+
+    // Held while saving, so that saves are written in the order they were taken from pending
+    private final Object saveLock = new Object();
+
+    // Whether a save has been requested and not started yet; guarded by this
+    private boolean isSavePending;
+    // Whether a copy of the person list was taken, so that later changes can be applied to it; guarded by this
+    private boolean hasPersons;
+    // Copy of the person list to save, or null if savedPersons is brought up to date instead; guarded by this
+    private List<Person> pendingPersons;
+    // Changes to apply to pendingPersons, or to savedPersons if there is no pendingPersons; guarded by this
+    private List<PersonListChange> pendingListChanges = new ArrayList<>();
+    // Changes to pass on to the storage, or null if they are not known; guarded by this
+    private List<PersonListChange> pendingChanges = new ArrayList<>();
+
+    // The person list as of the last save started; guarded by saveLock
+    private List<Person> savedPersons;
+
+    /**
+     * Creates a saver writing to {@code addressBookStorage}.
+     *
+     * @param debounceMillis How long to wait for further changes before saving
+     * @param saveFailureHandler Called with the exception when a save fails
+     */
+    public DebouncedAddressBookSaver(AddressBookStorage addressBookStorage, long debounceMillis,
+                                     Consumer<IOException> saveFailureHandler) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(saveFailureHandler);
+
+        this.addressBookStorage = addressBookStorage;
+        this.debounceMillis = debounceMillis;
+        this.saveFailureHandler = saveFailureHandler;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests {@code addressBook} to be saved in full, replacing any earlier request that has not been saved yet.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requestSave(addressBook, null);
+    }
+
+    /**
+     * Requests {@code addressBook} to be saved, replacing any earlier request that has not been saved yet.
+     *
+     * @param changes The changes made to the person list since the previous request, or null if they are not known
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook, List<PersonListChange> changes) {
+        requireNonNull(addressBook);
+
+        if (debounceMillis <= 0) {
+            synchronized (saveLock) {
+                save(addressBook, changes);
+            }
+            return;
+        }
+
+        synchronized (this) {
+            if (changes == null || !hasPersons) {
+                pendingPersons = new ArrayList<>(addressBook.getPersonList());
+                pendingListChanges.clear();
+                hasPersons = true;
+            } else {
+                pendingListChanges.addAll(changes);
+            }
+
+            if (changes == null) {
+                pendingChanges = null;
+            } else if (pendingChanges != null) {
+                pendingChanges.addAll(changes);
+            }
+
+            if (!isSavePending) {
+                isSavePending = true;
+                executor.schedule(this::savePending, debounceMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Saves the address book waiting to be saved, if any, without waiting for the debounce window to end.
+     * Blocks until the address book is saved.
+     */
+    public void flush() {
+        savePending();
+    }
+
+    /**
+     * Saves the address book waiting to be saved, if any, after applying the changes made since it was taken.
+     * Only one save runs at a time.
+     */
+    private void savePending() {
+        synchronized (saveLock) {
+            List<Person> persons;
+            List<PersonListChange> listChanges;
+            List<PersonListChange> changes;
+            synchronized (this) {
+                if (!isSavePending) {
+                    return;
+                }
+                persons = pendingPersons;
+                listChanges = pendingListChanges;
+                changes = pendingChanges;
+                isSavePending = false;
+                pendingPersons = null;
+                pendingListChanges = new ArrayList<>();
+                pendingChanges = new ArrayList<>();
+            }
+
+            if (persons != null) {
+                savedPersons = persons;
+            }
+            for (PersonListChange change : listChanges) {
+                change.applyTo(savedPersons);
+            }
+            save(new PersonListSnapshot(savedPersons), changes);
+        }
+    }
+
+    /**
+     * Saves {@code addressBook}, writing only {@code changes} if they are known, and reports any failure to the
+     * save failure handler.
+     */
+    private void save(ReadOnlyAddressBook addressBook, List<PersonListChange> changes) {
+        try {
+            addressBookStorage.saveAddressBookChanges(addressBook, changes);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + e.getMessage());
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * An address book viewing the saver's copy of the person list, which only changes between saves.
+     */
+    private static class PersonListSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        PersonListSnapshot(List<Person> persons) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.PersonListChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as an xml snapshot together with a journal of the changes made since.
+ *
+ * Given the changes made to the person list since the last read or save, saving appends only the persons those
+ * changes removed and added to the journal, so the cost of a save depends on the size of the change rather than the
+ * size of the address book. Without the changes, or once the journal grows past {@code compactionThresholdBytes},
+ * the whole address book is written to the snapshot and the journal is emptied. Reading replays the journal on top
+ * of the snapshot.
+ *
+ * The journal is a text file next to the snapshot. Its first line holds the checksum of the snapshot it applies to,
+ * so a journal left behind by an interrupted compaction is ignored. Each save then appends one batch of lines:
+ * {@code - <index>} removes the person at that index, {@code + <index> <person xml>} inserts a person at that index,
+ * and a final {@code .} marks the batch as complete. Batches that were not completed are ignored.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String HEADER_PREFIX = "snapshot ";
+    private static final String REMOVE_PREFIX = "- ";
+    private static final String INSERT_PREFIX = "+ ";
+    private static final String END_OF_BATCH = ".";
+    private static final String PERSON_ELEMENT = "person";
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final XmlAddressBookStorage snapshotStorage;
+    private final boolean isSyncedOnSave;
+    private final long compactionThresholdBytes;
+
+    // Number of persons last read from or written to filePath, or -1 if the journal cannot be appended to
+    private int savedPersonCount = -1;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, true, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a storage keeping its snapshot at {@code filePath}.
+     *
+     * @param isSyncedOnSave Whether each save waits for the journal to reach the disk
+     * @param compactionThresholdBytes Size of the journal at which it is folded into the snapshot
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isSyncedOnSave, long compactionThresholdBytes) {
+        this(filePath, isSyncedOnSave, compactionThresholdBytes, 0);
+    }
+
+    /**
+     * Creates a storage keeping its snapshot at {@code filePath}.
+     *
+     * @param isSyncedOnSave Whether each save waits for the journal to reach the disk
+     * @param compactionThresholdBytes Size of the journal at which it is folded into the snapshot
+     * @param backupCount Number of previous snapshots kept when the journal is folded into a new one
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isSyncedOnSave, long compactionThresholdBytes,
+                                       int backupCount) {
+        requireNonNull(filePath);
+
+        this.filePath = filePath;
+        this.journalPath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.snapshotStorage = new XmlAddressBookStorage(filePath, backupCount);
+        this.isSyncedOnSave = isSyncedOnSave;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. Only the journal of this storage's own file is replayed; any other
+     * {@code filePath} is read as a plain xml file.
+     *
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            savedPersonCount = -1;
+            return Optional.empty();
+        }
+
+        List<XmlAdaptedPerson> persons = XmlFileStorage.loadDataFromSaveFile(filePath).getPersons();
+        boolean isJournalValid = replayJournal(persons);
+
+        try {
+            ReadOnlyAddressBook addressBook = new XmlSerializableAddressBook(persons).toModelType();
+            savedPersonCount = isJournalValid ? persons.size() : -1;
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Only this storage's own file is journaled; the
+     * address book is written in full to any other {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        compact(addressBook);
+    }
+
+    /**
+     * Appends a batch removing and adding the persons in {@code changes} to the journal. The whole address book is
+     * written to the snapshot instead if {@code changes} is null or does not lead from the persons last read or
+     * saved to the person list of {@code addressBook}.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<PersonListChange> changes)
+            throws IOException {
+        requireNonNull(addressBook);
+
+        if (changes == null || savedPersonCount < 0 || !Files.exists(journalPath)) {
+            compact(addressBook);
+            return;
+        }
+
+        Optional<String> batch = getBatch(changes, savedPersonCount, addressBook.getPersonList().size());
+        if (!batch.isPresent()) {
+            compact(addressBook);
+            return;
+        }
+        if (batch.get().isEmpty()) {
+            return;
+        }
+
+        try {
+            appendToJournal(batch.get());
+        } catch (IOException e) {
+            // Part of the batch may have been written, so the next save starts a fresh journal instead
+            savedPersonCount = -1;
+            throw e;
+        }
+        savedPersonCount = addressBook.getPersonList().size();
+        if (Files.size(journalPath) > compactionThresholdBytes) {
+            compact(addressBook);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to the snapshot and starts an empty journal for it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        savedPersonCount = -1;
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+
+        String header = HEADER_PREFIX + getChecksum(filePath) + "\n";
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap(header.getBytes(StandardCharsets.UTF_8)));
+            if (isSyncedOnSave) {
+                channel.force(false);
+            }
+        }
+        savedPersonCount = addressBook.getPersonList().size();
+        logger.fine("Compacted address book journal " + journalPath);
+    }
+
+    /**
+     * Appends {@code batch} to the end of the journal, forcing it to disk if saves are synced.
+     */
+    private void appendToJournal(String batch) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(batch.getBytes(StandardCharsets.UTF_8)));
+            if (isSyncedOnSave) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Applies the complete batches in the journal to {@code persons}.
+     *
+     * @return true if the journal belongs to the snapshot and ends with a complete batch, so it can be appended to.
+     * @throws DataConversionException if a complete batch in the journal is not in the correct format.
+     */
+    private boolean replayJournal(List<XmlAdaptedPerson> persons) throws DataConversionException, IOException {
+        if (!Files.exists(journalPath)) {
+            return false;
+        }
+
+        String[] lines = FileUtil.readFromFile(journalPath).split("\n", -1);
+        if (!lines[0].equals(HEADER_PREFIX + getChecksum(filePath))) {
+            logger.info("Ignoring journal " + journalPath + " as it was not written for " + filePath);
+            return false;
+        }
+
+        // The last element is what follows the last line break: empty, or a line cut short by a crash
+        List<String> batch = new ArrayList<>();
+        int appliedBatches = 0;
+        for (int i = 1; i < lines.length - 1; i++) {
+            if (!lines[i].equals(END_OF_BATCH)) {
+                batch.add(lines[i]);
+                continue;
+            }
+            applyBatch(batch, persons);
+            batch.clear();
+            appliedBatches++;
+        }
+        logger.info("Replayed " + appliedBatches + " changes from journal " + journalPath);
+
+        // Appending after an incomplete batch would make it part of the next one
+        return batch.isEmpty() && lines[lines.length - 1].isEmpty();
+    }
+
+    /**
+     * Applies the entries of one complete {@code batch} to {@code persons}, in order.
+     */
+    private void applyBatch(List<String> batch, List<XmlAdaptedPerson> persons) throws DataConversionException {
+        try {
+            for (String line : batch) {
+                if (line.startsWith(REMOVE_PREFIX)) {
+                    int index = Integer.parseInt(line.substring(REMOVE_PREFIX.length()));
+                    persons.remove(index);
+                } else if (line.startsWith(INSERT_PREFIX)) {
+                    int separator = line.indexOf(' ', INSERT_PREFIX.length());
+                    int index = Integer.parseInt(line.substring(INSERT_PREFIX.length(), separator));
+                    persons.add(index, XmlUtil.fromXmlFragment(line.substring(separator + 1), XmlAdaptedPerson.class));
+                } else {
+                    throw new DataConversionException(new IllegalValueException("Unknown journal entry: " + line));
+                }
+            }
+        } catch (NumberFormatException | IndexOutOfBoundsException | JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the journal lines that apply {@code changes} to a list of {@code oldSize} persons, or an empty
+     * {@code Optional} if the changes do not fit such a list or do not leave it with {@code newSize} persons.
+     * Only the persons added are marshalled.
+     */
+    private static Optional<String> getBatch(List<PersonListChange> changes, int oldSize, int newSize) {
+        StringBuilder batch = new StringBuilder();
+        int size = oldSize;
+        for (PersonListChange change : changes) {
+            int position = change.getPosition();
+            List<Person> removed = change.getRemoved();
+            List<Person> added = change.getAdded();
+            if (position < 0 || position + removed.size() > size) {
+                return Optional.empty();
+            }
+
+            for (int i = 0; i < removed.size(); i++) {
+                batch.append(REMOVE_PREFIX).append(position).append('\n');
+            }
+            for (int i = 0; i < added.size(); i++) {
+                batch.append(INSERT_PREFIX).append(position + i).append(' ')
+                        .append(toRecord(new XmlAdaptedPerson(added.get(i)))).append('\n');
+            }
+            size += added.size() - removed.size();
+        }
+        if (size != newSize) {
+            return Optional.empty();
+        }
+        if (batch.length() == 0) {
+            return Optional.of("");
+        }
+
+        batch.append(END_OF_BATCH).append('\n');
+        return Optional.of(batch.toString());
+    }
+
+    /**
+     * Returns {@code person} as a single line of XML for the journal.
+     */
+    private static String toRecord(XmlAdaptedPerson person) {
+        try {
+            return XmlUtil.toXmlFragment(PERSON_ELEMENT, XmlAdaptedPerson.class, person);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    private static long getChecksum(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        checksum.update(Files.readAllBytes(file));
+        return checksum.getValue();
+    }
+}
@@ -14,9 +14,18 @@ import seedu.address.security.AppUsers;
 public class JsonAppUsersStorage implements AppUsersStorage {
 
     private Path filePath;
+    private int backupCount;
 
     public JsonAppUsersStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a storage that keeps {@code backupCount} previous versions of the file when saving.
+     */
+    public JsonAppUsersStorage(Path filePath, int backupCount) {
         this.filePath = filePath;
+        this.backupCount = backupCount;
     }
 
     @Override
@@ -40,7 +49,7 @@ public class JsonAppUsersStorage implements AppUsersStorage {
 
     @Override
     public void saveAppUsers(AppUsers appUsers) throws IOException {
-        JsonUtil.saveJsonFile(appUsers, filePath);
+        JsonUtil.saveJsonFile(appUsers, filePath, backupCount);
     }
 
 }
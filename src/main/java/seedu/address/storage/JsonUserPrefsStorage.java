@@ -14,9 +14,18 @@ import seedu.address.model.UserPrefs;
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     private Path filePath;
+    private int backupCount;
 
     public JsonUserPrefsStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a storage that keeps {@code backupCount} previous versions of the file when saving.
+     */
+    public JsonUserPrefsStorage(Path filePath, int backupCount) {
         this.filePath = filePath;
+        this.backupCount = backupCount;
     }
 
     @Override
@@ -40,7 +49,7 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     @Override
     public void saveUserPrefs(UserPrefs userPrefs) throws IOException {
-        JsonUtil.saveJsonFile(userPrefs, filePath);
+        JsonUtil.saveJsonFile(userPrefs, filePath, backupCount);
     }
 
 }
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Converts the stored person at a given index into the model's {@code Person}.
+ *
+ * @param <E> Exception thrown if the stored person cannot be converted
+ */
+@FunctionalInterface
+interface PersonConverter<E extends Exception> {
+
+    /** Smallest number of persons worth converting in parallel */
+    int PARALLEL_CONVERSION_THRESHOLD = 256;
+
+    Person convert(int index) throws E;
+
+    /**
+     * Converts the stored persons at indices {@code 0} to {@code count - 1} with {@code converter}, and returns them
+     * in the same order. The conversions must be independent of each other, so that large numbers of persons can be
+     * converted in parallel on the common {@code ForkJoinPool}.
+     *
+     * @throws E for the first stored person, in index order, that cannot be converted, as converting them in order
+     * would
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Exception> List<Person> convertAll(int count, PersonConverter<E> converter) throws E {
+        Person[] persons = new Person[count];
+        Exception[] errors = new Exception[count];
+
+        IntStream indices = IntStream.range(0, count);
+        if (count >= PARALLEL_CONVERSION_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                persons[i] = converter.convert(i);
+            } catch (Exception e) {
+                // Only converter.convert() throws checked exceptions here, and those are of type E
+                errors[i] = e;
+            }
+        });
+
+        for (Exception error : errors) {
+            if (error != null) {
+                throw (E) error;
+            }
+        }
+        return Arrays.asList(persons);
+    }
+}
@@ -0,0 +1,351 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.PersonListChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as one small xml file per person, together with an index file.
+ *
+ * The index file lists the ids of the person files in order. The person files are kept in a directory next to the
+ * index file, and each holds a single person as {@code <id>.xml}. A person file is never changed once written:
+ * a changed person is written to a new file, the index is replaced, and only then is the old file deleted. A crash
+ * therefore leaves the index pointing at complete person files.
+ *
+ * Given the changes made to the person list since the last read or save, saving only writes the persons those changes
+ * added, so a command touching two persons writes two person files and the index, whatever the size of the address
+ * book. Without the changes, or when the files in use are not known, every person is written.
+ *
+ * A file that is not an index is read as an xml address book, so that an existing address book can be switched to
+ * this format. It is written in this format on the next save.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String INDEX_HEADER = "sharded address book 1";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String SHARD_DIRECTORY_SUFFIX = ".persons";
+    private static final String SHARD_FILE_SUFFIX = ".xml";
+    private static final String PERSON_ELEMENT = "person";
+
+    private final Path filePath;
+    private final Path shardDirectory;
+    private final XmlAddressBookStorage xmlStorage;
+    private final boolean isSyncedOnSave;
+
+    // The shard ids in the index at filePath, or null if not known
+    private List<Long> savedShardIds;
+    // Shards that are not in the index, deleted after the next save
+    private final Set<Long> staleShards = new HashSet<>();
+    private long nextShardId;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage keeping its index at {@code filePath}.
+     *
+     * @param isSyncedOnSave Whether each save waits for the person files to reach the disk
+     */
+    public ShardedAddressBookStorage(Path filePath, boolean isSyncedOnSave) {
+        requireNonNull(filePath);
+
+        this.filePath = filePath;
+        this.shardDirectory = filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+        this.xmlStorage = new XmlAddressBookStorage(filePath);
+        this.isSyncedOnSave = isSyncedOnSave;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getShardDirectoryPath() {
+        return shardDirectory;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. Only this storage's own file is read as an index; any other
+     * {@code filePath} is read as a plain xml file.
+     *
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the index or a person file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return xmlStorage.readAddressBook(filePath);
+        }
+        savedShardIds = null;
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        String[] lines = FileUtil.readFromFile(filePath).split("\n");
+        if (!lines[0].equals(INDEX_HEADER)) {
+            logger.info("AddressBook file " + filePath + " is not an index, reading it as xml");
+            return xmlStorage.readAddressBook(filePath);
+        }
+
+        List<Long> shardIds = new ArrayList<>();
+        List<XmlAdaptedPerson> adaptedPersons = new ArrayList<>();
+        try {
+            for (int i = 1; i < lines.length; i++) {
+                long shardId = Long.parseLong(lines[i]);
+                shardIds.add(shardId);
+                adaptedPersons.add(XmlUtil.fromXmlFragment(FileUtil.readFromFile(getShardPath(shardId)),
+                        XmlAdaptedPerson.class));
+            }
+        } catch (NumberFormatException | NoSuchFileException | JAXBException e) {
+            throw new DataConversionException(e);
+        }
+
+        AddressBook addressBook;
+        try {
+            addressBook = new UniqueAddressBookBuilder().addPersons(XmlAdaptedPerson.toModelType(adaptedPersons))
+                    .build();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        // Person files left behind by an interrupted save are not in the index
+        Set<Long> existingShardIds = listShardIds();
+        nextShardId = Math.max(getNextShardId(existingShardIds), getNextShardId(shardIds));
+        existingShardIds.removeAll(shardIds);
+        staleShards.addAll(existingShardIds);
+
+        savedShardIds = shardIds;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Only this storage's own file is written as an index;
+     * the address book is written in full as xml to any other {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            xmlStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        saveAddressBookChanges(addressBook, null);
+    }
+
+    /**
+     * Writes a person file for each person added by {@code changes}, and an index of the resulting person list.
+     * Every person is written if {@code changes} is null or does not lead from the index at {@code filePath} to the
+     * person list of {@code addressBook}.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<PersonListChange> changes)
+            throws IOException {
+        requireNonNull(addressBook);
+
+        if (savedShardIds == null) {
+            // Nothing on disk is known to be in use, so every existing person file is replaced
+            Set<Long> existingShardIds = listShardIds();
+            nextShardId = getNextShardId(existingShardIds);
+            staleShards.addAll(existingShardIds);
+            savedShardIds = new ArrayList<>();
+            changes = null;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        // The shard of each person, or null for the persons that are to be written
+        List<Long> shardIds = new ArrayList<>(savedShardIds);
+        Set<Long> removedShardIds = new HashSet<>();
+        if (changes == null || !applyChanges(changes, shardIds, removedShardIds)
+                || shardIds.size() != persons.size()) {
+            removedShardIds.addAll(savedShardIds);
+            shardIds = new ArrayList<>(Collections.nCopies(persons.size(), null));
+        }
+
+        List<Long> writtenShardIds = new ArrayList<>();
+        try {
+            for (int i = 0; i < shardIds.size(); i++) {
+                if (shardIds.get(i) == null) {
+                    long shardId = nextShardId++;
+                    writtenShardIds.add(shardId);
+                    writeShard(shardId, persons.get(i));
+                    shardIds.set(i, shardId);
+                }
+            }
+            if (shardIds.equals(savedShardIds)) {
+                return;
+            }
+            FileUtil.writeToFileAtomically(filePath, toIndex(shardIds), 0);
+        } catch (IOException e) {
+            // The index still refers to the person files it did before, but the changes are lost, so the next save
+            // writes every person
+            staleShards.addAll(writtenShardIds);
+            savedShardIds = null;
+            throw e;
+        }
+
+        removedShardIds.remove(null);
+        staleShards.addAll(removedShardIds);
+        savedShardIds = shardIds;
+        deleteStaleShards();
+        logger.fine("Wrote " + writtenShardIds.size() + " of " + shardIds.size() + " person files to "
+                + shardDirectory);
+    }
+
+    /**
+     * Applies {@code changes} to {@code shardIds}, putting null in place of each person added, and collects the ids
+     * taken out into {@code removedShardIds}.
+     *
+     * @return false if a change does not fit {@code shardIds}
+     */
+    private static boolean applyChanges(List<PersonListChange> changes, List<Long> shardIds,
+                                        Set<Long> removedShardIds) {
+        for (PersonListChange change : changes) {
+            int position = change.getPosition();
+            int removedCount = change.getRemoved().size();
+            if (position < 0 || position + removedCount > shardIds.size()) {
+                return false;
+            }
+
+            List<Long> replaced = shardIds.subList(position, position + removedCount);
+            removedShardIds.addAll(replaced);
+            replaced.clear();
+            replaced.addAll(Collections.nCopies(change.getAdded().size(), null));
+        }
+        return true;
+    }
+
+    /**
+     * Writes {@code person} to a new person file with the id {@code shardId}.
+     */
+    private void writeShard(long shardId, Person person) throws IOException {
+        String record;
+        try {
+            record = XmlUtil.toXmlFragment(PERSON_ELEMENT, XmlAdaptedPerson.class, new XmlAdaptedPerson(person));
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+
+        Files.createDirectories(shardDirectory);
+        // A new person file is not in the index yet, so it can be written in place
+        try (FileChannel channel = FileChannel.open(getShardPath(shardId), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap(record.getBytes(StandardCharsets.UTF_8)));
+            if (isSyncedOnSave) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Deletes the person files no longer in the index. A person file that cannot be deleted is tried again on the
+     * next save.
+     */
+    private void deleteStaleShards() {
+        Set<Long> deleted = new HashSet<>();
+        for (Long shardId : staleShards) {
+            try {
+                Files.deleteIfExists(getShardPath(shardId));
+                deleted.add(shardId);
+            } catch (IOException e) {
+                logger.warning("Failed to delete person file " + getShardPath(shardId) + ": " + e.getMessage());
+            }
+        }
+        staleShards.removeAll(deleted);
+    }
+
+    /**
+     * Returns the ids of the person files in the shard directory.
+     */
+    private Set<Long> listShardIds() throws IOException {
+        Set<Long> shardIds = new HashSet<>();
+        if (!Files.isDirectory(shardDirectory)) {
+            return shardIds;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory, "*" + SHARD_FILE_SUFFIX)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                try {
+                    shardIds.add(Long.parseLong(
+                            fileName.substring(0, fileName.length() - SHARD_FILE_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    // Not a person file, so it is left alone
+                }
+            }
+        }
+        return shardIds;
+    }
+
+    private Path getShardPath(long shardId) {
+        return shardDirectory.resolve(shardId + SHARD_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns an id greater than all of {@code shardIds}.
+     */
+    private static long getNextShardId(Collection<Long> shardIds) {
+        long max = 0;
+        for (long shardId : shardIds) {
+            max = Math.max(max, shardId);
+        }
+        return max + 1;
+    }
+
+    /**
+     * Returns the contents of the index file listing {@code shardIds}, in order.
+     */
+    private static String toIndex(List<Long> shardIds) {
+        StringBuilder index = new StringBuilder(INDEX_HEADER).append('\n');
+        for (long shardId : shardIds) {
+            index.append(shardId).append('\n');
+        }
+        return index.toString();
+    }
+}
@@ -40,7 +40,13 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, AppUsersS
     /**
      * Saves the current version of the Address Book to the hard disk.
      *   Creates the data file if it is missing.
+     *   The save may happen later on another thread, together with the saves for any further changes.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
+
+    /**
+     * Saves any change to the Address Book that is still waiting to be saved, blocking until it is saved.
+     */
+    void flushAddressBook();
 }
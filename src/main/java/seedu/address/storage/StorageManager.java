@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,6 +13,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.PersonListChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.security.AppUsers;
@@ -25,13 +27,25 @@ public class StorageManager extends ComponentManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private AppUsersStorage appUsersStorage;
+    private DebouncedAddressBookSaver addressBookSaver;
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
                           AppUsersStorage appUsersStorage) {
+        this(addressBookStorage, userPrefsStorage, appUsersStorage, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves changes to the address book after waiting {@code saveDelayMillis}
+     * for further changes, on a background thread. Changes are saved immediately if {@code saveDelayMillis} is 0.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          AppUsersStorage appUsersStorage, long saveDelayMillis) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.appUsersStorage = appUsersStorage;
+        this.addressBookSaver = new DebouncedAddressBookSaver(addressBookStorage, saveDelayMillis,
+            e -> raise(new DataSavingExceptionEvent(e)));
     }
 
     // ================ UserPrefs methods ==============================
@@ -97,16 +111,23 @@ public class StorageManager extends ComponentManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<PersonListChange> changes)
+            throws IOException {
+        logger.fine("Attempting to write changes to data file: " + getAddressBookFilePath());
+        addressBookStorage.saveAddressBookChanges(addressBook, changes);
+    }
+
+    @Override
+    public void flushAddressBook() {
+        addressBookSaver.flush();
+    }
 
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        addressBookSaver.requestSave(event.data, event.changes);
     }
 
 }
@@ -0,0 +1,34 @@
+package seedu.address.storage;
+
+import java.util.Collection;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Builds the model's {@code AddressBook} from the persons read from a file, which must not contain duplicates.
+ */
+class UniqueAddressBookBuilder {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    /**
+     * Adds {@code persons} to the {@code AddressBook} in order.
+     *
+     * @throws IllegalValueException if any of {@code persons} is the same person as one already added.
+     */
+    UniqueAddressBookBuilder addPersons(Collection<Person> persons) throws IllegalValueException {
+        for (Person person : persons) {
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        return this;
+    }
+
+    AddressBook build() {
+        return addressBook;
+    }
+}
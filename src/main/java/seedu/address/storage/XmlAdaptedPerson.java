@@ -1,9 +1,11 @@
 package seedu.address.storage;
 
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -13,10 +15,11 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Friend;
+import seedu.address.model.person.LazyTimeTable;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
-import seedu.address.model.person.TimeTable;
+import seedu.address.model.person.TimeSlot;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -34,6 +37,8 @@ public class XmlAdaptedPerson {
     private String email;
     @XmlElement(required = true)
     private String address;
+    @XmlElement
+    private String timeZone;
 
     @XmlElement
     private List<XmlAdaptedTag> tagged = new ArrayList<>();
@@ -55,10 +60,20 @@ public class XmlAdaptedPerson {
      */
     public XmlAdaptedPerson(String name, String phone, String email, String address,
                             List<XmlAdaptedTag> tagged) {
+        this(name, phone, email, address, tagged, null);
+    }
+
+    /**
+     * Constructs an {@code XmlAdaptedPerson} with the given person details and time zone, which is null for the
+     * default time zone.
+     */
+    public XmlAdaptedPerson(String name, String phone, String email, String address,
+                            List<XmlAdaptedTag> tagged, String timeZone) {
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
+        this.timeZone = timeZone;
         if (tagged != null) {
             this.tagged = new ArrayList<>(tagged);
         }
@@ -74,13 +89,14 @@ public class XmlAdaptedPerson {
         phone = source.getPhone().value;
         email = source.getEmail().value;
         address = source.getAddress().value;
+        timeZone = source.getTimeZone().map(ZoneId::getId).orElse(null);
         tagged = source.getTags().stream()
                 .map(XmlAdaptedTag::new)
                 .collect(Collectors.toList());
         friendList = source.getFriends().stream()
                 .map(XmlAdaptedFriend::new)
                 .collect(Collectors.toList());
-        timeSlotList = source.getTimeTable().getTimeSlots().stream()
+        timeSlotList = source.getTimeSlots().stream()
                 .map(XmlAdaptedTimeSlot::new)
                 .collect(Collectors.toList());
     }
@@ -133,15 +149,33 @@ public class XmlAdaptedPerson {
         }
         final Address modelAddress = new Address(address);
 
+        if (timeZone != null && !Person.isValidTimeZone(timeZone)) {
+            throw new IllegalValueException(Person.MESSAGE_TIME_ZONE_CONSTRAINTS);
+        }
+        final Optional<ZoneId> modelTimeZone = Optional.ofNullable(timeZone).map(ZoneId::of);
+
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
         final Set<Friend> friendList = new HashSet<>(friendSet);
 
-        TimeTable timeTable = new TimeTable();
+        final List<TimeSlot> timeSlots = new ArrayList<>();
         for (XmlAdaptedTimeSlot ts : timeSlotList) {
-            timeTable.addTimeSlot(ts.toModelType());
+            timeSlots.add(ts.toModelType());
         }
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags, timeTable, friendList);
+        final LazyTimeTable timeTable = LazyTimeTable.of(timeSlots);
+        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags, timeTable, friendList,
+                modelTimeZone);
+    }
+
+    /**
+     * Converts each of {@code adaptedPersons} into the model's Person object, in the same order.
+     * The conversions are independent of each other, so large lists are converted in parallel.
+     *
+     * @throws IllegalValueException for the first adapted person in {@code adaptedPersons} that violates any
+     * data constraints
+     */
+    public static List<Person> toModelType(List<XmlAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        return PersonConverter.convertAll(adaptedPersons.size(), i -> adaptedPersons.get(i).toModelType());
     }
 
     @Override
@@ -159,6 +193,7 @@ public class XmlAdaptedPerson {
                 && Objects.equals(phone, otherPerson.phone)
                 && Objects.equals(email, otherPerson.email)
                 && Objects.equals(address, otherPerson.address)
+                && Objects.equals(timeZone, otherPerson.timeZone)
                 && tagged.equals(otherPerson.tagged)
                 && friendList.equals(otherPerson.friendList);
     }
@@ -2,17 +2,19 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.DoubleConsumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.model.PersonListChange;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -23,9 +25,18 @@ public class XmlAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(XmlAddressBookStorage.class);
 
     private Path filePath;
+    private int backupCount;
 
     public XmlAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a storage that keeps {@code backupCount} previous versions of the file when saving.
+     */
+    public XmlAddressBookStorage(Path filePath, int backupCount) {
         this.filePath = filePath;
+        this.backupCount = backupCount;
     }
 
     public Path getAddressBookFilePath() {
@@ -43,17 +54,26 @@ public class XmlAddressBookStorage implements AddressBookStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+                                                                                 IOException {
+        return readAddressBook(filePath, new ProgressLogger(filePath));
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, reporting the fraction of the file read so far to
+     * {@code progressListener} as reading proceeds.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, DoubleConsumer progressListener)
+            throws DataConversionException, IOException {
         requireNonNull(filePath);
+        requireNonNull(progressListener);
 
         if (!Files.exists(filePath)) {
             logger.info("AddressBook file " + filePath + " not found");
             return Optional.empty();
         }
 
-        XmlSerializableAddressBook xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(filePath);
         try {
-            return Optional.of(xmlAddressBook.toModelType());
+            return Optional.of(XmlFileStorage.loadAddressBookFromSaveFile(filePath, progressListener));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +94,38 @@ public class XmlAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableAddressBook(addressBook));
+        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableAddressBook(addressBook), backupCount);
+    }
+
+    /**
+     * Saves the whole address book, as this format cannot write only the persons changed.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<PersonListChange> changes)
+            throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Logs the progress of reading a file every {@code LOGGED_PROGRESS_STEP} of the file.
+     */
+    private static class ProgressLogger implements DoubleConsumer {
+        private static final double LOGGED_PROGRESS_STEP = 0.1;
+
+        private final Path filePath;
+        private double loggedProgress = 0;
+
+        ProgressLogger(Path filePath) {
+            this.filePath = filePath;
+        }
+
+        @Override
+        public void accept(double progress) {
+            if (progress - loggedProgress >= LOGGED_PROGRESS_STEP || (progress == 1 && loggedProgress < 1)) {
+                logger.fine(String.format("Read %.0f%% of %s", progress * 100, filePath));
+                loggedProgress = progress;
+            }
+        }
     }
 
 }
@@ -1,24 +1,59 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
 import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleConsumer;
 
 import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
 
 /**
  * Stores addressbook data in an XML file
  */
 public class XmlFileStorage {
+
+    private static final String ADDRESS_BOOK_ELEMENT = "addressbook";
+    private static final String PERSON_ELEMENT = "persons";
+
+    /** Smallest change in the fraction of the file read that is reported to a progress listener */
+    private static final double PROGRESS_STEP = 0.01;
+
+    /** Number of persons read before they are converted together, in parallel */
+    private static final int CONVERSION_BATCH_SIZE = 4096;
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
     /**
      * Saves the given addressbook data to the specified file.
      */
-    public static void saveDataToFile(Path file, XmlSerializableAddressBook addressBook)
-            throws FileNotFoundException {
+    public static void saveDataToFile(Path file, XmlSerializableAddressBook addressBook) throws IOException {
+        saveDataToFile(file, addressBook, 0);
+    }
+
+    /**
+     * Saves the given addressbook data to the specified file, keeping {@code backupCount} previous versions of it.
+     */
+    public static void saveDataToFile(Path file, XmlSerializableAddressBook addressBook, int backupCount)
+            throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, addressBook);
+            XmlUtil.saveDataToFile(file, addressBook, backupCount);
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
@@ -36,4 +71,120 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Returns the address book in the file, reading and converting a batch of persons at a time. Unlike
+     * {@link #loadDataFromSaveFile(Path)}, no intermediate copy of the whole address book is held in memory.
+     *
+     * @param progressListener Called with the fraction of the file read so far, from 0 to 1, as reading proceeds
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the persons.
+     */
+    public static AddressBook loadAddressBookFromSaveFile(Path file, DoubleConsumer progressListener)
+            throws DataConversionException, IllegalValueException, IOException {
+        requireNonNull(file);
+        requireNonNull(progressListener);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        long fileSize = Math.max(Files.size(file), 1);
+        double reportedProgress = 0;
+        UniqueAddressBookBuilder addressBook = new UniqueAddressBookBuilder();
+        try (CountingInputStream in = new CountingInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                if (reader.nextTag() != XMLStreamConstants.START_ELEMENT
+                        || !reader.getLocalName().equals(ADDRESS_BOOK_ELEMENT)) {
+                    throw new DataConversionException(
+                            new IllegalValueException("Unexpected root element " + reader.getLocalName()));
+                }
+                reader.next();
+
+                List<XmlAdaptedPerson> batch = new ArrayList<>();
+                while (reader.hasNext()) {
+                    if (reader.getEventType() != XMLStreamConstants.START_ELEMENT
+                            || !reader.getLocalName().equals(PERSON_ELEMENT)) {
+                        reader.next();
+                        continue;
+                    }
+
+                    // Moves the reader past the person's element
+                    batch.add(XmlUtil.getDataFromReader(reader, XmlAdaptedPerson.class));
+                    if (batch.size() < CONVERSION_BATCH_SIZE) {
+                        continue;
+                    }
+                    addressBook.addPersons(XmlAdaptedPerson.toModelType(batch));
+                    batch.clear();
+
+                    double progress = (double) in.getBytesRead() / fileSize;
+                    if (progress - reportedProgress >= PROGRESS_STEP) {
+                        reportedProgress = Math.min(progress, 1);
+                        progressListener.accept(reportedProgress);
+                    }
+                }
+                addressBook.addPersons(XmlAdaptedPerson.toModelType(batch));
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | JAXBException e) {
+            throw new DataConversionException(e);
+        }
+        if (reportedProgress < 1) {
+            progressListener.accept(1);
+        }
+        return addressBook.build();
+    }
+
+    /**
+     * Returns a factory for the readers that stream persons out of the data file.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // The file is plain data, so there is nothing to resolve outside of it
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * An {@code InputStream} that counts the bytes read through it.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long bytesRead = 0;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getBytesRead() {
+            return bytesRead;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                bytesRead++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) {
+                bytesRead += count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            bytesRead += skipped;
+            return skipped;
+        }
+    }
+
 }
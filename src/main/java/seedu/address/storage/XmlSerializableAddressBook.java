@@ -10,7 +10,6 @@ import javax.xml.bind.annotation.XmlRootElement;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to XML format
@@ -39,6 +38,17 @@ public class XmlSerializableAddressBook {
         persons.addAll(src.getPersonList().stream().map(XmlAdaptedPerson::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Creates an XmlSerializableAddressBook holding {@code persons}.
+     */
+    XmlSerializableAddressBook(List<XmlAdaptedPerson> persons) {
+        this.persons = new ArrayList<>(persons);
+    }
+
+    List<XmlAdaptedPerson> getPersons() {
+        return persons;
+    }
+
     /**
      * Converts this addressbook into the model's {@code AddressBook} object.
      *
@@ -46,15 +56,7 @@ public class XmlSerializableAddressBook {
      * {@code XmlAdaptedPerson}.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (XmlAdaptedPerson p : persons) {
-            Person person = p.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
-        return addressBook;
+        return new UniqueAddressBookBuilder().addPersons(XmlAdaptedPerson.toModelType(persons)).build();
     }
 
     @Override
@@ -5,6 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_USERNAME;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.PasswordField;
@@ -141,7 +142,8 @@ public class LoginWindow extends UiPart<Stage> {
     public void handleNewResultAvailableEvent(NewResultAvailableEvent e) {
         //Prevents this message from showing on login box, but only on ResultDisplay
         if (!e.message.equals("Successfully Displayed UI")) {
-            label.setText(e.message);
+            // Results of background commands, such as exportall, are posted from other threads
+            Platform.runLater(() -> label.setText(e.message));
         }
     }
 }
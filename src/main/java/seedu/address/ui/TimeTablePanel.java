@@ -15,6 +15,7 @@ import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.TimeTableChangedEvent;
 import seedu.address.model.person.DeconflictTimeTable;
+import seedu.address.model.person.QuorumTimeTable;
 import seedu.address.model.person.TimeSlot;
 import seedu.address.model.person.TimeTable;
 
@@ -128,19 +129,33 @@ public class TimeTablePanel extends UiPart<Region> {
         timeTablePanelMainGrid.clearGrid();
         updateDimensions();
 
+        if (timeTableLastLoaded instanceof QuorumTimeTable) {
+            reloadQuorumTimeTable((QuorumTimeTable) timeTableLastLoaded);
+            return;
+        }
+
         for (TimeSlot timeSlot : timeTableLastLoaded.getTimeSlots()) {
             timeTablePanelMainGrid.addTimeSlot(timeSlot, currRowDimensions, currColDimensions, currStartHour);
         }
 
         if (timeTableLastLoaded instanceof DeconflictTimeTable) {
-            DeconflictTimeTable inverse = ((DeconflictTimeTable) timeTableLastLoaded).getInverse();
-
-            for (TimeSlot timeSlot : inverse.getTimeSlots()) {
+            for (TimeSlot timeSlot : ((DeconflictTimeTable) timeTableLastLoaded).getInverseTimeSlots()) {
                 timeTablePanelMainGrid.addTimeSlot(timeSlot, currRowDimensions, currColDimensions, currStartHour);
             }
         }
     }
 
+    /**
+     * Loads a {@code QuorumTimeTable}, showing the number of free people on each {@code TimeSlot}
+     */
+    private void reloadQuorumTimeTable(QuorumTimeTable quorumTimeTable) {
+        for (TimeSlot timeSlot : quorumTimeTable.getTimeSlots()) {
+            String caption = quorumTimeTable.getAttendance(timeSlot) + "/" + quorumTimeTable.getGroupSize();
+            timeTablePanelMainGrid.addTimeSlot(timeSlot, currRowDimensions, currColDimensions, currStartHour,
+                    caption);
+        }
+    }
+
     // To be changed if 7-day week is desired
     private int getCurrNumRow() {
         return 5;
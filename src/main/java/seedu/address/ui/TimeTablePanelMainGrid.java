@@ -57,13 +57,26 @@ public class TimeTablePanelMainGrid extends UiPart<Region> {
      * @param currStart Start hour in the grid
      */
     public void addTimeSlot(TimeSlot input, double currRowDim, double currColDim, LocalTime currStart) {
+        addTimeSlot(input, currRowDim, currColDim, currStart, null);
+    }
+
+    /**
+     * Adds a {@code TimeTablePanelTimeSlot} with a caption to the {@code TimeTablePanelMainGrid}
+     * @param input {@code TimeSlot} to add
+     * @param currRowDim Dimensions of the rows in the current grid
+     * @param currColDim Dimensions of the columns in the current grid
+     * @param currStart Start hour in the grid
+     * @param caption Text to be shown on the {@code TimeSlot}, or null for none
+     */
+    public void addTimeSlot(TimeSlot input, double currRowDim, double currColDim, LocalTime currStart,
+                            String caption) {
 
         // Currently only supports 5-day work week
         if (input.getDayOfWeek() == DayOfWeek.SATURDAY || input.getDayOfWeek() == DayOfWeek.SUNDAY) {
             return;
         }
 
-        TimeTablePanelTimeSlot panelTimeSlot = new TimeTablePanelTimeSlot(input, currRowDim, currColDim);
+        TimeTablePanelTimeSlot panelTimeSlot = new TimeTablePanelTimeSlot(input, currRowDim, currColDim, caption);
         mainGrid.add(panelTimeSlot.getBox(), getColIndex(input, currStart), getRowIndex(input));
     }
 
@@ -1,6 +1,9 @@
 package seedu.address.ui;
 
+import javafx.scene.Node;
+import javafx.scene.layout.StackPane;
 import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Text;
 import seedu.address.model.person.TimeSlot;
 
 
@@ -9,17 +12,43 @@ import seedu.address.model.person.TimeSlot;
  */
 public class TimeTablePanelTimeSlot {
     public final TimeSlot timeSlot;
-    private Rectangle box;
+    private Node box;
 
     public TimeTablePanelTimeSlot(TimeSlot timeSlot, double currRowDimensions, double currColDimensions) {
+        this(timeSlot, currRowDimensions, currColDimensions, null);
+    }
+
+    /**
+     * Creates a {@code TimeTablePanelTimeSlot} with {@code caption} shown over it, or no caption if it is null
+     */
+    public TimeTablePanelTimeSlot(TimeSlot timeSlot, double currRowDimensions, double currColDimensions,
+                                  String caption) {
         this.timeSlot = timeSlot;
 
-        box = new Rectangle(currColDimensions * timeSlot.getDuration().toMinutes() / 60.0, currRowDimensions);
-        box.setTranslateX(timeSlot.getStartTime().getMinute() / 60.0 * currColDimensions);
-        box.setFill(timeSlot.getColor());
-        box.setOpacity(0.5);
-        box.setArcHeight(10);
-        box.setArcWidth(10);
+        Rectangle rectangle = createRectangle(timeSlot, currRowDimensions, currColDimensions);
+        if (caption == null) {
+            this.box = rectangle;
+            return;
+        }
+
+        StackPane stack = new StackPane(rectangle, new Text(caption));
+        stack.setTranslateX(rectangle.getTranslateX());
+        rectangle.setTranslateX(0);
+        this.box = stack;
+    }
+
+    /**
+     * Creates the {@code Rectangle} representing {@code timeSlot}
+     */
+    private static Rectangle createRectangle(TimeSlot timeSlot, double currRowDimensions, double currColDimensions) {
+        Rectangle rectangle = new Rectangle(currColDimensions * timeSlot.getDuration().toMinutes() / 60.0,
+                currRowDimensions);
+        rectangle.setTranslateX(timeSlot.getStartTime().getMinute() / 60.0 * currColDimensions);
+        rectangle.setFill(timeSlot.getColor());
+        rectangle.setOpacity(0.5);
+        rectangle.setArcHeight(10);
+        rectangle.setArcWidth(10);
+        return rectangle;
     }
 
     @Override
@@ -40,7 +69,7 @@ public class TimeTablePanelTimeSlot {
         return timeSlot.equals(card.timeSlot);
     }
 
-    public Rectangle getBox() {
+    public Node getBox() {
         return box;
     }
 }
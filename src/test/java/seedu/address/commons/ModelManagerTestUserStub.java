@@ -3,6 +3,7 @@ package seedu.address.commons;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.ZoneId;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,6 +16,7 @@ import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.TimeTableChangedEvent;
 import seedu.address.commons.events.security.LogoutEvent;
 import seedu.address.model.AddressBook;
+import seedu.address.model.HistoryStatistics;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.User;
@@ -234,6 +236,11 @@ public class ModelManagerTestUserStub extends ComponentManager implements Model
         versionedAddressBook.commit();
     }
 
+    @Override
+    public HistoryStatistics getAddressBookHistoryStatistics() {
+        return versionedAddressBook.getHistoryStatistics();
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -299,6 +306,12 @@ public class ModelManagerTestUserStub extends ComponentManager implements Model
         return this.user;
     }
 
+    @Override
+    public ZoneId getTimeZone() {
+        // The timetables of the test data are in Singapore time, whatever the time zone of the machine running them
+        return ZoneId.of("Asia/Singapore");
+    }
+
     @Override
     public void commandLogout() {
         raise(new LogoutEvent());
@@ -1,14 +1,30 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.testutil.Assert;
 
 public class FileUtilTest {
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +37,67 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_backupsKept_oldestDropped() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("folder").resolve("data.txt");
+        for (int version = 1; version <= 4; version++) {
+            FileUtil.writeToFileAtomically(file, "version " + version, 2);
+        }
+
+        assertEquals("version 4", FileUtil.readFromFile(file));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupPath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 3)));
+        assertEquals(3, countFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("data.txt");
+        FileUtil.writeToFileAtomically(file, "old contents", 0);
+
+        Assert.assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, 0, out -> {
+            out.write("new con".getBytes());
+            throw new IOException();
+        }));
+
+        assertEquals("old contents", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_permissionsKept() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("data.txt");
+        FileUtil.writeToFileAtomically(file, "old contents", 0);
+        assumeTrue("Test skipped without POSIX permissions.",
+                Files.getFileAttributeView(file, PosixFileAttributeView.class) != null);
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r--r--");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFileAtomically(file, "new contents", 0);
+
+        assertEquals("new contents", FileUtil.readFromFile(file));
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_newFile_defaultPermissions() throws Exception {
+        Path directory = testFolder.getRoot().toPath();
+        Path plainFile = directory.resolve("plain.txt");
+        FileUtil.writeToFile(plainFile, "contents");
+        assumeTrue("Test skipped without POSIX permissions.",
+                Files.getFileAttributeView(plainFile, PosixFileAttributeView.class) != null);
+
+        Path file = directory.resolve("data.txt");
+        FileUtil.writeToFileAtomically(file, "contents", 0);
+
+        assertEquals(Files.getPosixFilePermissions(plainFile), Files.getPosixFilePermissions(file));
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
 }
@@ -1,16 +1,24 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.Locale;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.util.IcsImportResult.SkipReason;
+import seedu.address.model.person.TimeSlot;
 import seedu.address.model.person.TimeTable;
 import seedu.address.testutil.TestUtil;
 import seedu.address.testutil.TypicalTimeSlots;
@@ -20,6 +28,7 @@ public class IcsUtilTest {
     private static final Path EMPTY_FILE = TEST_DATA_FOLDER.resolve("empty.ics");
     private static final Path MISSING_FILE = TEST_DATA_FOLDER.resolve("missing.ics");
     private static final Path REAL_FILE = TEST_DATA_FOLDER.resolve("real.ics");
+    private static final Path DUPLICATES_FILE = TEST_DATA_FOLDER.resolve("duplicates.ics");
     private static final Path TEMP_FILE = TestUtil.getFilePathInSandboxFolder("temp.ics");
 
     private static final TimeTable TYPICAL_TIMETABLE = TypicalTimeSlots.getTypicalTimeTable();
@@ -56,6 +65,71 @@ public class IcsUtilTest {
         assertEquals(11, dataFromFile.getTimeSlots().size());
     }
 
+    @Test
+    public void importTimeTableFromFile_validFile_skippedEventsCounted() throws Exception {
+        IcsImportResult result = IcsUtil.getInstance().importTimeTableFromFile(REAL_FILE, ZONE_ID);
+        assertEquals(11, result.getTimeTable().getTimeSlots().size());
+        assertEquals(3, result.getSkippedCount(SkipReason.NOT_RECURRING));
+        assertEquals(3, result.getSkippedCount());
+    }
+
+    @Test
+    public void importTimeTableFromFile_termAfterEvents_eventsSkipped() throws Exception {
+        IcsImportResult result = IcsUtil.getInstance().importTimeTableFromFile(REAL_FILE, ZONE_ID,
+                LocalDate.of(2019, 1, 14), LocalDate.of(2019, 5, 4));
+        assertTrue(result.getTimeTable().isEmpty());
+        assertEquals(11, result.getSkippedCount(SkipReason.OUTSIDE_TERM));
+        assertEquals(3, result.getSkippedCount(SkipReason.NOT_RECURRING));
+    }
+
+    @Test
+    public void importTimeTableFromFile_repeatedEvents_deduplicated() throws Exception {
+        IcsImportResult result = IcsUtil.getInstance().importTimeTableFromFile(DUPLICATES_FILE, ZONE_ID);
+
+        TimeTable expected = new TimeTable();
+        expected.addTimeSlot(new TimeSlot(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(10, 0)));
+        expected.addTimeSlot(new TimeSlot(DayOfWeek.TUESDAY, LocalTime.of(14, 0), LocalTime.of(16, 0)));
+        assertEquals(expected, result.getTimeTable());
+        assertEquals(1, result.getSkippedCount(SkipReason.DUPLICATE));
+        assertEquals(1, result.getSkippedCount(SkipReason.NOT_RECURRING));
+        assertEquals(0, result.getSkippedCount(SkipReason.MISSING_TIME));
+    }
+
+    @Test
+    public void importTimeTableFromFile_moreEventsThanOneBatch_allRead() throws Exception {
+        StringBuilder ics = new StringBuilder("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n");
+        for (int week = 0; week < 1000; week++) {
+            ics.append("BEGIN:VEVENT\r\nDTSTART:20180813T000000Z\r\nDTEND:20180813T020000Z\r\n")
+                    .append("RRULE:FREQ=WEEKLY;COUNT=1;BYDAY=MO\r\nEND:VEVENT\r\n");
+        }
+        ics.append("BEGIN:VEVENT\r\nDTSTART:20180817T020000Z\r\nDTEND:20180817T040000Z\r\n")
+                .append("RRULE:FREQ=WEEKLY;COUNT=1;BYDAY=FR\r\nEND:VEVENT\r\nEND:VCALENDAR\r\n");
+        Files.createDirectories(TEMP_FILE.getParent());
+        Files.write(TEMP_FILE, ics.toString().getBytes());
+
+        IcsImportResult result = IcsUtil.getInstance().importTimeTableFromFile(TEMP_FILE, ZONE_ID);
+        assertEquals(2, result.getTimeTable().getTimeSlots().size());
+        assertEquals(999, result.getSkippedCount(SkipReason.DUPLICATE));
+    }
+
+    @Test
+    public void importTimeTableFromFile_lowerCaseKeywordsInTurkishLocale_eventsRead() throws Exception {
+        String ics = "begin:vcalendar\r\nversion:2.0\r\nbegin:vevent\r\ndtstart:20180813T000000Z\r\n"
+                + "dtend:20180813T020000Z\r\nrrule:FREQ=WEEKLY;COUNT=1;BYDAY=MO\r\nend:vevent\r\nend:vcalendar\r\n";
+        Files.createDirectories(TEMP_FILE.getParent());
+        Files.write(TEMP_FILE, ics.getBytes());
+
+        // Upper-casing "begin" in the Turkish locale gives a dotted capital I
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            IcsImportResult result = IcsUtil.getInstance().importTimeTableFromFile(TEMP_FILE, ZONE_ID);
+            assertEquals(1, result.getTimeTable().getTimeSlots().size());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     //save
     @Test
     public void saveTimeTableToFile_nullFile_throwsNullPointerException() throws Exception {
@@ -84,4 +158,13 @@ public class IcsUtilTest {
 
         assertEquals(expected, TYPICAL_TIMETABLE);
     }
+
+    //the offset of each TimeSlot is that of its own occurrence, so the timetable survives a daylight saving change.
+    @Test
+    public void saveThenRead_zoneWithDaylightSaving_success() throws Exception {
+        ZoneId zoneId = ZoneId.of("America/New_York");
+        IcsUtil.getInstance().saveTimeTableToFile(TYPICAL_TIMETABLE, zoneId, TEMP_FILE);
+
+        assertEquals(TYPICAL_TIMETABLE, IcsUtil.getInstance().readTimeTableFromFile(TEMP_FILE, zoneId));
+    }
 }
@@ -0,0 +1,140 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+import biweekly.Biweekly;
+import biweekly.component.VEvent;
+
+import seedu.address.model.person.TimeSlot;
+
+public class RecurrenceExpanderTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Shanghai");
+
+    // Monday 13 August 2018, 8am to 10am in ZONE_ID
+    private static final String MONDAY_MORNING = "DTSTART:20180813T000000Z\r\nDTEND:20180813T020000Z\r\n";
+
+    private final RecurrenceExpander expander = new RecurrenceExpander();
+
+    @Test
+    public void expand_severalDays_oneTimeSlotPerDay() {
+        VEvent vEvent = parseVEvent(MONDAY_MORNING + "RRULE:FREQ=WEEKLY;COUNT=6;BYDAY=MO,WE\r\n");
+
+        assertEquals(timeSlots(slot(DayOfWeek.MONDAY, 8, 10), slot(DayOfWeek.WEDNESDAY, 8, 10)),
+                expand(vEvent));
+    }
+
+    @Test
+    public void expand_daily_everyDayUntilCount() {
+        VEvent vEvent = parseVEvent(MONDAY_MORNING + "RRULE:FREQ=DAILY;COUNT=3\r\n");
+
+        assertEquals(timeSlots(slot(DayOfWeek.MONDAY, 8, 10), slot(DayOfWeek.TUESDAY, 8, 10),
+                slot(DayOfWeek.WEDNESDAY, 8, 10)), expand(vEvent));
+    }
+
+    @Test
+    public void expand_exceptionDates_excludedOccurrencesLeftOut() {
+        // The only Thursday is an exception
+        VEvent vEvent = parseVEvent(MONDAY_MORNING + "RRULE:FREQ=WEEKLY;COUNT=2;BYDAY=MO,TH\r\n"
+                + "EXDATE:20180816T000000Z\r\n");
+
+        assertEquals(timeSlots(slot(DayOfWeek.MONDAY, 8, 10)), expand(vEvent));
+    }
+
+    @Test
+    public void expand_recurrenceDates_addedToRule() {
+        VEvent vEvent = parseVEvent(MONDAY_MORNING + "RRULE:FREQ=WEEKLY;COUNT=2;BYDAY=MO\r\n"
+                + "RDATE:20180817T060000Z\r\n");
+
+        assertEquals(timeSlots(slot(DayOfWeek.MONDAY, 8, 10), slot(DayOfWeek.FRIDAY, 14, 16)), expand(vEvent));
+    }
+
+    @Test
+    public void expand_dateOnlyValuesInOtherSystemTimeZone_writtenDatesUsed() {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            // Midnight in Kiritimati (UTC+14) is the previous day in ZONE_ID and in Los Angeles
+            TimeZone.setDefault(TimeZone.getTimeZone("Pacific/Kiritimati"));
+            VEvent vEvent = parseVEvent(MONDAY_MORNING + "RRULE:FREQ=WEEKLY;COUNT=2;BYDAY=MO,TH\r\n"
+                    + "EXDATE;VALUE=DATE:20180816\r\n" + "RDATE;VALUE=DATE:20180817\r\n");
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Los_Angeles"));
+
+            assertEquals(timeSlots(slot(DayOfWeek.MONDAY, 8, 10), slot(DayOfWeek.FRIDAY, 8, 10)), expand(vEvent));
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    public void expand_interval_termStartsInSkippedWeek() {
+        // Occurs on the Mondays of 13 and 27 August, and on the Wednesday of 22 August
+        VEvent vEvent = parseVEvent(MONDAY_MORNING + "RRULE:FREQ=WEEKLY;INTERVAL=2;BYDAY=MO\r\n"
+                + "RDATE:20180822T000000Z\r\n");
+
+        assertEquals(timeSlots(slot(DayOfWeek.WEDNESDAY, 8, 10)),
+                expander.expand(vEvent, ZONE_ID, LocalDate.of(2018, 8, 20), LocalDate.of(2018, 8, 26)));
+        assertEquals(timeSlots(slot(DayOfWeek.MONDAY, 8, 10), slot(DayOfWeek.WEDNESDAY, 8, 10)),
+                expander.expand(vEvent, ZONE_ID, LocalDate.of(2018, 8, 20), LocalDate.of(2018, 8, 27)));
+    }
+
+    @Test
+    public void expand_untilBeforeTerm_noTimeSlots() {
+        VEvent vEvent = parseVEvent(MONDAY_MORNING + "RRULE:FREQ=WEEKLY;BYDAY=MO;UNTIL=20180901T000000Z\r\n");
+
+        assertTrue(expander.expand(vEvent, ZONE_ID, LocalDate.of(2018, 10, 1), LocalDate.of(2018, 12, 1))
+                .isEmpty());
+    }
+
+    @Test
+    public void expand_daysInUtc_convertedToZone() {
+        // Sunday 11pm in UTC is Monday 7am in ZONE_ID
+        VEvent vEvent = parseVEvent("DTSTART:20180812T230000Z\r\nDTEND:20180813T010000Z\r\n"
+                + "RRULE:FREQ=WEEKLY;COUNT=4;BYDAY=SU,TU\r\n");
+
+        assertEquals(timeSlots(slot(DayOfWeek.MONDAY, 7, 9), slot(DayOfWeek.WEDNESDAY, 7, 9)), expand(vEvent));
+    }
+
+    @Test
+    public void expand_notWeekly_firstOccurrenceOnly() {
+        VEvent vEvent = parseVEvent(MONDAY_MORNING + "RRULE:FREQ=MONTHLY;COUNT=3\r\n");
+
+        assertEquals(timeSlots(slot(DayOfWeek.MONDAY, 8, 10)), expand(vEvent));
+    }
+
+    @Test
+    public void expand_sameRecurrence_expandedOnce() {
+        String rule = MONDAY_MORNING + "RRULE:FREQ=WEEKLY;COUNT=6;BYDAY=MO,WE\r\n";
+
+        assertSame(expand(parseVEvent(rule)), expand(parseVEvent(rule)));
+    }
+
+    private Set<TimeSlot> expand(VEvent vEvent) {
+        return expander.expand(vEvent, ZONE_ID, LocalDate.MIN, LocalDate.MAX);
+    }
+
+    private static VEvent parseVEvent(String properties) {
+        return Biweekly.parse("BEGIN:VCALENDAR\r\nVERSION:2.0\r\nBEGIN:VEVENT\r\n" + properties
+                + "END:VEVENT\r\nEND:VCALENDAR\r\n").first().getEvents().get(0);
+    }
+
+    private static TimeSlot slot(DayOfWeek day, int startHour, int endHour) {
+        return new TimeSlot(day, LocalTime.of(startHour, 0), LocalTime.of(endHour, 0));
+    }
+
+    private static Set<TimeSlot> timeSlots(TimeSlot... timeSlots) {
+        return new HashSet<>(Arrays.asList(timeSlots));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class WeekZoneOffsetsTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_nonPositiveWeeks_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        WeekZoneOffsets.of(ZoneId.of("Europe/London"), LocalDate.of(2018, 3, 20), 0);
+    }
+
+    @Test
+    public void getOffset_weekWithGap_sameAsZoneRules() {
+        // Clocks in London go forward at 01:00 on 25 March 2018
+        assertSameAsZoneRules(ZoneId.of("Europe/London"), LocalDate.of(2018, 3, 20));
+    }
+
+    @Test
+    public void getOffset_weekWithOverlap_sameAsZoneRules() {
+        // Clocks in New York go back at 02:00 on 4 November 2018
+        assertSameAsZoneRules(ZoneId.of("America/New_York"), LocalDate.of(2018, 11, 1));
+    }
+
+    @Test
+    public void getOffset_weekAcrossDateLine_sameAsZoneRules() {
+        // Samoa skipped 30 December 2011
+        assertSameAsZoneRules(ZoneId.of("Pacific/Apia"), LocalDate.of(2011, 12, 27));
+    }
+
+    @Test
+    public void getOffset_fixedOffset_sameOffset() {
+        WeekZoneOffsets offsets = WeekZoneOffsets.of(ZoneOffset.ofHours(8), LocalDate.of(2018, 3, 20));
+        assertEquals(ZoneOffset.ofHours(8), offsets.getOffset(LocalDateTime.of(2018, 3, 22, 12, 0)));
+    }
+
+    @Test
+    public void getOffset_outsideSpan_sameAsZoneRules() {
+        ZoneId zoneId = ZoneId.of("Europe/London");
+        WeekZoneOffsets offsets = WeekZoneOffsets.of(zoneId, LocalDate.of(2018, 1, 1));
+        LocalDateTime summer = LocalDateTime.of(2018, 7, 1, 12, 0);
+        assertEquals(zoneId.getRules().getOffset(summer), offsets.getOffset(summer));
+    }
+
+    /**
+     * Asserts that the offset of every minute of the span of a week from {@code firstDay} is the one given by the
+     * rules of {@code zoneId}.
+     */
+    private static void assertSameAsZoneRules(ZoneId zoneId, LocalDate firstDay) {
+        ZoneRules zoneRules = zoneId.getRules();
+        WeekZoneOffsets offsets = WeekZoneOffsets.of(zoneId, firstDay);
+        LocalDateTime end = firstDay.plusDays(8).atStartOfDay();
+        for (LocalDateTime time = firstDay.atStartOfDay(); time.isBefore(end); time = time.plusMinutes(1)) {
+            assertEquals(time.toString(), zoneRules.getOffset(time), offsets.getOffset(time));
+        }
+    }
+}
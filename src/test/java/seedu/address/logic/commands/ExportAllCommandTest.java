@@ -0,0 +1,182 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.IcsUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.User;
+import seedu.address.model.person.Friend;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class ExportAllCommandTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Shanghai");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void constructor_nullPath_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new ExportAllCommand(null, null, false);
+    }
+
+    @Test
+    public void execute_allPersons_oneFilePerPerson() throws Exception {
+        Path folder = testFolder.getRoot().toPath().resolve("all");
+        CompletableFuture<String> exportResult = new CompletableFuture<>();
+        ExportAllCommand command = new ExportAllCommand(folder, null, false, exportResult::complete);
+
+        CommandResult commandResult = command.execute(new ModelStubWithAddressBook(null), commandHistory);
+        assertEquals(String.format(ExportAllCommand.MESSAGE_EXPORT_STARTED, 8, folder),
+                commandResult.feedbackToUser);
+        assertEquals(String.format(ExportAllCommand.MESSAGE_EXPORT_SUCCESS, 8, 8, folder), exportResult.get());
+
+        assertEquals(getFileNames(TypicalPersons.getTypicalPersons()), listFileNames(folder));
+        assertEquals(ALICE.getTimeTable(),
+                IcsUtil.getInstance().readTimeTableFromFile(folder.resolve("Alice_Pauline.ics"), ZONE_ID));
+    }
+
+    @Test
+    public void execute_group_onlyPersonsWithTag() throws Exception {
+        Path folder = testFolder.getRoot().toPath().resolve("group");
+        CompletableFuture<String> exportResult = new CompletableFuture<>();
+        ExportAllCommand command = new ExportAllCommand(folder, new Tag("friends"), false, exportResult::complete);
+
+        command.execute(new ModelStubWithAddressBook(null), commandHistory);
+        exportResult.get();
+
+        assertEquals(new HashSet<>(Arrays.asList("Alice_Pauline.ics", "Benson_Meier.ics", "Daniel_Meier.ics")),
+                listFileNames(folder));
+    }
+
+    @Test
+    public void execute_friends_onlyFriendsOfUser() throws Exception {
+        Path folder = testFolder.getRoot().toPath().resolve("friends");
+        Person alice = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getTags(), ALICE.getTimeTable(),
+                new HashSet<>(Arrays.asList(new Friend(CARL.getName()), new Friend(ELLE.getName()))));
+        CompletableFuture<String> exportResult = new CompletableFuture<>();
+        ExportAllCommand command = new ExportAllCommand(folder, null, true, exportResult::complete);
+
+        command.execute(new ModelStubWithAddressBook(new User(alice.getData())), commandHistory);
+        exportResult.get();
+
+        assertEquals(getFileNames(Arrays.asList(CARL, ELLE)), listFileNames(folder));
+    }
+
+    @Test
+    public void execute_friendsNotLoggedIn_throwsCommandException() throws Exception {
+        ExportAllCommand command = new ExportAllCommand(testFolder.getRoot().toPath(), null, true);
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(ExportAllCommand.MESSAGE_NOT_LOGGED_IN);
+        command.execute(new ModelStubWithAddressBook(null), commandHistory);
+    }
+
+    @Test
+    public void execute_noPersonsWithTag_throwsCommandException() throws Exception {
+        ExportAllCommand command = new ExportAllCommand(testFolder.getRoot().toPath(), new Tag("nobody"), false);
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(ExportAllCommand.MESSAGE_EMPTY);
+        command.execute(new ModelStubWithAddressBook(null), commandHistory);
+    }
+
+    /**
+     * Tests that every timetable exported is imported back into the same person.
+     */
+    @Test
+    public void execute_exportAllThenImportAll_allImported() throws Exception {
+        Path folder = testFolder.getRoot().toPath().resolve("roundtrip");
+        CompletableFuture<String> exportResult = new CompletableFuture<>();
+        ExportAllCommand exportAllCommand = new ExportAllCommand(folder, null, false, exportResult::complete);
+        exportAllCommand.execute(new ModelStubWithAddressBook(null), commandHistory);
+        exportResult.get();
+
+        ModelStubWithAddressBook modelStub = new ModelStubWithAddressBook(null);
+        CommandResult commandResult = new ImportAllCommand(folder).execute(modelStub, commandHistory);
+
+        assertTrue(commandResult.feedbackToUser.startsWith(
+                String.format(ImportAllCommand.MESSAGE_IMPORT_SUCCESS, 8, 8, folder)));
+        for (Person person : TypicalPersons.getTypicalPersons()) {
+            assertEquals(person.getTimeTable(), modelStub.getPerson(person).getTimeTable());
+        }
+    }
+
+    @Test
+    public void execute_sharedName_namedAfterPhoneAndImportedBack() throws Exception {
+        Path folder = testFolder.getRoot().toPath().resolve("shared");
+        Person otherAlice = new PersonBuilder(ALICE).withPhone("99999999").withEmail("other@example.com").build();
+        ModelStubWithAddressBook modelStub = new ModelStubWithAddressBook(null);
+        modelStub.addPerson(otherAlice);
+        CompletableFuture<String> exportResult = new CompletableFuture<>();
+        ExportAllCommand command = new ExportAllCommand(folder, null, false, exportResult::complete);
+
+        command.execute(modelStub, commandHistory);
+        assertEquals(String.format(ExportAllCommand.MESSAGE_EXPORT_SUCCESS, 9, 9, folder), exportResult.get());
+
+        Set<String> fileNames = listFileNames(folder);
+        assertEquals(9, fileNames.size());
+        assertFalse(fileNames.contains("Alice_Pauline.ics"));
+        assertTrue(fileNames.contains(ALICE.getPhone().value + ".ics"));
+        assertTrue(fileNames.contains("99999999.ics"));
+
+        CommandResult commandResult = new ImportAllCommand(folder).execute(modelStub, commandHistory);
+        assertTrue(commandResult.feedbackToUser.startsWith(
+                String.format(ImportAllCommand.MESSAGE_IMPORT_SUCCESS, 9, 9, folder)));
+    }
+
+    @Test
+    public void equals() {
+        Path folder = testFolder.getRoot().toPath();
+        ExportAllCommand exportAllCommand = new ExportAllCommand(folder, new Tag("friends"), false);
+
+        assertTrue(exportAllCommand.equals(exportAllCommand));
+        assertTrue(exportAllCommand.equals(new ExportAllCommand(folder, new Tag("friends"), false)));
+        assertTrue(!exportAllCommand.equals(new ExportAllCommand(folder, null, false)));
+        assertTrue(!exportAllCommand.equals(new ExportAllCommand(folder, new Tag("friends"), true)));
+        assertTrue(!exportAllCommand.equals(null));
+    }
+
+    private static Set<String> getFileNames(List<Person> persons) {
+        return persons.stream().map(person -> person.getName().fullName.replace(' ', '_') + ".ics")
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<String> listFileNames(Path folder) throws Exception {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+}
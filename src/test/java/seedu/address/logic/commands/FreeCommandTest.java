@@ -1,23 +1,56 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalTimeSlots.MON_10_TO_12;
+import static seedu.address.testutil.TypicalTimeSlots.MON_8_TO_12;
+import static seedu.address.testutil.TypicalTimeSlots.TUE_10_TO_12;
+import static seedu.address.testutil.TypicalTimeSlots.WED_10_TO_12;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.User;
+import seedu.address.model.person.DeconflictTimeTable;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.QuorumTimeTable;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.TimeTable;
+import seedu.address.testutil.PersonBuilder;
 
 public class FreeCommandTest {
+    // Busy on Monday from 8:00 to 12:00 and on Tuesday from 10:00 to 12:00
+    private static final User USER = new User(ALICE.getData());
+    // Busy on Monday from 8:00 to 12:00
+    private static final Person BUSY_FRIEND = new PersonBuilder().withName("Amy Bee").withPhone("11111111")
+            .withTimeTable(timeTableOf(MON_8_TO_12)).build();
+    // Busy on Wednesday from 10:00 to 12:00
+    private static final Person OTHER_FRIEND = new PersonBuilder().withName("Bob Choo").withPhone("22222222")
+            .withTimeTable(timeTableOf(WED_10_TO_12)).build();
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    private CommandHistory commandHistory = new CommandHistory();
+
     @Test
     public void constructor_nullIndex_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -51,7 +84,95 @@ public class FreeCommandTest {
 
         // different indices -> returns false
         assertFalse(freeOne.equals(freeOneAndTwo));
+
+        // different minimum available -> returns false
+        assertFalse(freeOneAndTwo.equals(new FreeCommand(containsOneAndTwo, Optional.of(2))));
     }
 
-    // TODO: Execution tests
+    @Test
+    public void execute_minAvailable_showsTimesWhenEnoughAreFree() throws Exception {
+        ModelStubWithFriends model = new ModelStubWithFriends();
+        FreeCommand command = new FreeCommand(Arrays.asList(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), Optional.of(2));
+
+        CommandResult commandResult = command.execute(model, commandHistory);
+
+        QuorumTimeTable expectedTimeTable = QuorumTimeTable.of(Arrays.asList(USER.getTimeTable(),
+                BUSY_FRIEND.getTimeTable(), OTHER_FRIEND.getTimeTable()), 2);
+        assertEquals(expectedTimeTable, model.timeTable);
+        // Only Bob Choo is free on Monday morning, while the two friends are free when the user is busy on Tuesday
+        assertEquals(0, ((QuorumTimeTable) model.timeTable).getAttendance(MON_8_TO_12));
+        assertEquals(2, ((QuorumTimeTable) model.timeTable).getAttendance(TUE_10_TO_12));
+        assertEquals(String.format(FreeCommand.MESSAGE_QUORUM_SUCCESS, 2, 3) + "Amy Bee, Bob Choo",
+                commandResult.feedbackToUser);
+    }
+
+    @Test
+    public void execute_minAvailableMoreThanGroup_throwsCommandException() throws Exception {
+        FreeCommand command = new FreeCommand(Collections.singletonList(INDEX_FIRST_PERSON), Optional.of(3));
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(QuorumTimeTable.MESSAGE_INVALID_QUORUM);
+        command.execute(new ModelStubWithFriends(), commandHistory);
+    }
+
+    @Test
+    public void execute_friendInOtherTimeZone_freeTimesInUserTimeZone() throws Exception {
+        User user = new User(new PersonBuilder().withName("Zoe Tan").withTimeTable(timeTableOf(MON_8_TO_12))
+                .withTimeZone("+08:00").build().getData());
+        // Busy on Monday from 10:00 to 12:00 in UTC, which is from 18:00 to 20:00 in the user's time zone
+        Person londonFriend = new PersonBuilder().withName("Amy Bee").withPhone("11111111")
+                .withTimeTable(timeTableOf(MON_10_TO_12)).withTimeZone("UTC").build();
+        ModelStubWithFriends model = new ModelStubWithFriends(user, londonFriend);
+
+        new FreeCommand(Collections.singletonList(INDEX_FIRST_PERSON)).execute(model, commandHistory);
+
+        TimeTable shiftedFriendTimeTable = timeTableOf(new TimeSlot(DayOfWeek.MONDAY, LocalTime.parse("18:00"),
+                LocalTime.parse("20:00")));
+        assertEquals(DeconflictTimeTable.merge(Arrays.asList(user.getTimeTable(), shiftedFriendTimeTable)),
+                model.timeTable);
+    }
+
+    /**
+     * Returns a {@code TimeTable} with the given {@code TimeSlot}s.
+     */
+    private static TimeTable timeTableOf(TimeSlot... timeSlots) {
+        TimeTable timeTable = new TimeTable();
+        for (TimeSlot timeSlot : timeSlots) {
+            timeTable.addTimeSlot(timeSlot);
+        }
+        return timeTable;
+    }
+
+    /**
+     * A Model stub with a logged in user and their friends, which keeps the last {@code TimeTable} shown.
+     */
+    private class ModelStubWithFriends extends ModelStub {
+        private final User user;
+        private final ObservableList<Person> friends;
+        private TimeTable timeTable;
+
+        ModelStubWithFriends() {
+            this(USER, BUSY_FRIEND, OTHER_FRIEND);
+        }
+
+        ModelStubWithFriends(User user, Person... friends) {
+            this.user = user;
+            this.friends = FXCollections.observableArrayList(friends);
+        }
+
+        @Override
+        public User getUser() {
+            return user;
+        }
+
+        @Override
+        public ObservableList<Person> getCurrentFriendList() {
+            return FXCollections.unmodifiableObservableList(friends);
+        }
+
+        @Override
+        public void updateTimeTable(TimeTable timeTable) {
+            this.timeTable = timeTable;
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Friend;
+import seedu.address.model.person.LazyTimeTable;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for FriendCommand.
+ */
+public class FriendCommandTest {
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_friendThenList_userAndListsRefreshed() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Amy").withPhone("11111111").build());
+        addressBook.addPerson(new PersonBuilder().withName("Bob").withPhone("22222222").build());
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        model.matchUserToPerson("Amy");
+        model.getFriendList();
+        model.getOtherList();
+
+        new FriendCommand(INDEX_FIRST_PERSON).execute(model, commandHistory);
+        new ListCommand().execute(model, commandHistory);
+
+        assertTrue(model.getUser().getFriends().contains(new Friend(new Name("Bob"))));
+        assertEquals(Collections.singletonList("Bob"), getNames(model.getCurrentFriendList()));
+        assertEquals(Collections.emptyList(), getNames(model.getCurrentOtherList()));
+    }
+
+    @Test
+    public void execute_friend_friendTimeTableNotBuilt() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(withUnbuiltTimeTable(new PersonBuilder().withName("Amy").withPhone("11111111").build()));
+        addressBook.addPerson(withUnbuiltTimeTable(new PersonBuilder().withName("Bob").withPhone("22222222").build()));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        model.matchUserToPerson("Amy");
+        model.getOtherList();
+
+        new FriendCommand(INDEX_FIRST_PERSON).execute(model, commandHistory);
+
+        // Only the user's timetable is built, as it is displayed
+        Person friend = model.getAddressBook().getPersonList().stream()
+                .filter(person -> person.getName().fullName.equals("Bob")).findFirst().get();
+        assertTrue(friend.getFriends().contains(new Friend(new Name("Amy"))));
+        assertFalse(friend.getLazyTimeTable().isBuilt());
+    }
+
+    private static Person withUnbuiltTimeTable(Person person) throws Exception {
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getTags(), LazyTimeTable.of(person.getTimeSlots()), person.getFriends());
+    }
+
+    private static List<String> getNames(List<Person> persons) {
+        return persons.stream().map(person -> person.getName().fullName).collect(Collectors.toList());
+    }
+}
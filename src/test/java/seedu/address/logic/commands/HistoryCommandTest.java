@@ -1,11 +1,13 @@
 package seedu.address.logic.commands;
 
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import org.junit.Test;
 
 import seedu.address.commons.ModelManagerTestUserStub;
 import seedu.address.logic.CommandHistory;
+import seedu.address.model.HistoryStatistics;
 import seedu.address.model.Model;
 
 public class HistoryCommandTest {
@@ -32,4 +34,16 @@ public class HistoryCommandTest {
         assertCommandSuccess(new HistoryCommand(), model, history, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_statistics() {
+        model.addPerson(ALICE);
+        model.commitAddressBook();
+        expectedModel.addPerson(ALICE);
+        expectedModel.commitAddressBook();
+
+        HistoryStatistics statistics = model.getAddressBookHistoryStatistics();
+        String expectedMessage = String.format(HistoryCommand.MESSAGE_STATISTICS, 1, 0, statistics.getMaxStates(),
+                statistics.getEstimatedBytes() / 1024, statistics.getMaxBytes() / 1024);
+        assertCommandSuccess(new HistoryCommand(true), model, history, expectedMessage, expectedModel);
+    }
 }
@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.User;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.TimeTable;
+import seedu.address.testutil.TypicalTimeSlots;
+
+public class ImportAllCommandTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ImportAllCommandTest");
+    private static final Path MISSING_FOLDER = TEST_DATA_FOLDER.resolve("missing");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void constructor_nullPath_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new ImportAllCommand(null);
+    }
+
+    @Test
+    public void execute_missingFolder_throwsCommandException() throws Exception {
+        ModelStubWithAddressBook modelStub = new ModelStubWithAddressBook(new User(ALICE.getData()));
+        Command command = new ImportAllCommand(MISSING_FOLDER);
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(ImportAllCommand.MESSAGE_IO_ERROR, MISSING_FOLDER));
+
+        command.execute(modelStub, commandHistory);
+    }
+
+    /**
+     * Tests that each file is imported into the person it names, in a single commit, and that every file which could
+     * not be imported is reported.
+     */
+    @Test
+    public void execute_folder_importsMatchingFilesInOneCommit() throws Exception {
+        ModelStubWithAddressBook modelStub = new ModelStubWithAddressBook(new User(ALICE.getData()));
+        Command command = new ImportAllCommand(TEST_DATA_FOLDER);
+
+        CommandResult commandResult = command.execute(modelStub, commandHistory);
+
+        String expectedMessage = String.format(ImportAllCommand.MESSAGE_IMPORT_SUCCESS, 2, 5, TEST_DATA_FOLDER)
+                + String.format(ImportAllCommand.MESSAGE_FILES_IMPORTED, "98765432.ics, Alice_Pauline.ics")
+                + String.format(ImportAllCommand.MESSAGE_FILES_OVERLAP_TIMESLOT, "heinz@example.com.ics")
+                + String.format(ImportAllCommand.MESSAGE_FILES_EMPTY, "daniel_meier.ics")
+                + String.format(ImportAllCommand.MESSAGE_FILES_NO_PERSON, "nobody.ics");
+        assertEquals(expectedMessage, commandResult.feedbackToUser);
+        assertEquals(1, modelStub.getCommitCount());
+
+        // Alice is matched by name, Benson by phone, and Carl by email
+        TimeTable aliceTimeTable = new TimeTable(Collections.singletonList(
+                new TimeSlot(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(10, 0))));
+        assertEquals(aliceTimeTable, modelStub.getPerson(ALICE).getTimeTable());
+        assertEquals(TypicalTimeSlots.getTypicalTimeTable(), modelStub.getPerson(BENSON).getTimeTable());
+        assertEquals(CARL, modelStub.getPerson(CARL));
+        assertEquals(DANIEL, modelStub.getPerson(DANIEL));
+
+        // Alice is the user, so her new timetable is shown
+        assertEquals(aliceTimeTable, modelStub.getTimeTable());
+    }
+
+    @Test
+    public void execute_noIcsFiles_nothingCommitted() throws Exception {
+        ModelStubWithAddressBook modelStub = new ModelStubWithAddressBook(new User(ALICE.getData()));
+        Path emptyFolder = testFolder.newFolder().toPath();
+        Command command = new ImportAllCommand(emptyFolder);
+
+        CommandResult commandResult = command.execute(modelStub, commandHistory);
+
+        assertEquals(String.format(ImportAllCommand.MESSAGE_NO_FILES, emptyFolder), commandResult.feedbackToUser);
+        assertEquals(0, modelStub.getCommitCount());
+    }
+
+    @Test
+    public void equals() {
+        ImportAllCommand importAllCommand = new ImportAllCommand(TEST_DATA_FOLDER);
+
+        assertTrue(importAllCommand.equals(importAllCommand));
+        assertTrue(importAllCommand.equals(new ImportAllCommand(TEST_DATA_FOLDER)));
+        assertTrue(!importAllCommand.equals(new ImportAllCommand(MISSING_FOLDER)));
+        assertTrue(!importAllCommand.equals(null));
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.User;
+import seedu.address.model.person.MeetingSlotFinder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.TimeTable;
+import seedu.address.testutil.PersonBuilder;
+
+public class MeetCommandTest {
+
+    // Busy on Monday from 8:00 to 12:00
+    private static final User USER = new User(ALICE.getData());
+    private static final Person FRIEND = new PersonBuilder().withName("Amy Bee").withPhone("11111111").build();
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_windowBeyondDefaultHours_slotsAcrossWindow() throws Exception {
+        MeetingSlotFinder finder = new MeetingSlotFinder(Duration.ofMinutes(60), EnumSet.of(DayOfWeek.MONDAY),
+                LocalTime.parse("08:00"), LocalTime.parse("22:00"), Optional.of(LocalTime.parse("21:00")),
+                Optional.empty(), 2);
+
+        assertSlotsFound(finder, "1. Monday 21:00 - 22:00 (2/2 free)\n2. Monday 20:00 - 21:00 (2/2 free)");
+    }
+
+    @Test
+    public void execute_longFreeTime_severalSlots() throws Exception {
+        MeetingSlotFinder finder = new MeetingSlotFinder(Duration.ofMinutes(60), EnumSet.of(DayOfWeek.MONDAY),
+                LocalTime.parse("09:00"), LocalTime.parse("18:00"), Optional.empty(), Optional.empty(), 3);
+
+        assertSlotsFound(finder, "1. Monday 12:00 - 13:00 (2/2 free)\n2. Monday 13:00 - 14:00 (2/2 free)\n"
+                + "3. Monday 14:00 - 15:00 (2/2 free)");
+    }
+
+    @Test
+    public void execute_friendInOtherTimeZone_slotsInUserTimeZone() throws Exception {
+        User user = new User(new PersonBuilder(ALICE).withTimeZone("+08:00").build().getData());
+        // Busy on Monday from 1:00 to 5:00 in UTC, which is from 9:00 to 13:00 in the user's time zone
+        Person friend = new PersonBuilder().withName("Amy Bee").withPhone("11111111")
+                .withTimeTable(new TimeTable(Collections.singletonList(new TimeSlot(DayOfWeek.MONDAY,
+                        LocalTime.parse("01:00"), LocalTime.parse("05:00")))))
+                .withTimeZone("UTC").build();
+        MeetingSlotFinder finder = new MeetingSlotFinder(Duration.ofMinutes(60), EnumSet.of(DayOfWeek.MONDAY),
+                LocalTime.parse("09:00"), LocalTime.parse("18:00"), Optional.empty(), Optional.empty(), 1);
+
+        assertSlotsFound(new ModelStubWithFriend(user, friend), finder, "1. Monday 13:00 - 14:00 (2/2 free)");
+    }
+
+    /**
+     * Executes a {@code MeetCommand} with {@code finder} for the user and their friend, and asserts that the
+     * {@code expectedSlots} are found.
+     */
+    private void assertSlotsFound(MeetingSlotFinder finder, String expectedSlots) throws Exception {
+        assertSlotsFound(new ModelStubWithFriend(USER, FRIEND), finder, expectedSlots);
+    }
+
+    /**
+     * Executes a {@code MeetCommand} with {@code finder} for the user and their friend in {@code model}, and asserts
+     * that the {@code expectedSlots} are found.
+     */
+    private void assertSlotsFound(ModelStubWithFriend model, MeetingSlotFinder finder, String expectedSlots)
+            throws Exception {
+        MeetCommand command = new MeetCommand(Collections.singletonList(INDEX_FIRST_PERSON), finder);
+
+        CommandResult commandResult = command.execute(model, commandHistory);
+
+        assertEquals(String.format(MeetCommand.MESSAGE_MEET_SUCCESS, model.friend.getName(), expectedSlots),
+                commandResult.feedbackToUser);
+    }
+
+    /**
+     * A Model stub with a logged in user who has a single friend.
+     */
+    private class ModelStubWithFriend extends ModelStub {
+        private final User user;
+        private final Person friend;
+
+        ModelStubWithFriend(User user, Person friend) {
+            this.user = user;
+            this.friend = friend;
+        }
+
+        @Override
+        public User getUser() {
+            return user;
+        }
+
+        @Override
+        public ObservableList<Person> getCurrentFriendList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(friend));
+        }
+    }
+}
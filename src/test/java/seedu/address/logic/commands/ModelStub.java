@@ -1,8 +1,10 @@
 package seedu.address.logic.commands;
 
+import java.time.ZoneId;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.HistoryStatistics;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.User;
@@ -128,6 +130,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public HistoryStatistics getAddressBookHistoryStatistics() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void matchUserToPerson(String name) {
         throw new AssertionError("This method should not be called.");
@@ -138,6 +145,12 @@ public class ModelStub implements Model {
         return null;
     }
 
+    @Override
+    public ZoneId getTimeZone() {
+        // The timetables of the test data are in Singapore time, whatever the time zone of the machine running them
+        return ZoneId.of("Asia/Singapore");
+    }
+
     @Override
     public void clearUser() {
         throw new AssertionError("This method should not be called.");
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.User;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeTable;
+import seedu.address.testutil.TypicalPersons;
+
+/**
+ * A Model stub holding the typical persons, for commands that act on many persons.
+ */
+public class ModelStubWithAddressBook extends ModelStub {
+    private final AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+    private final User user;
+    private TimeTable timeTable = new TimeTable();
+    private int commitCount = 0;
+
+    public ModelStubWithAddressBook(User user) {
+        this.user = user;
+    }
+
+    /**
+     * Returns the person in the address book that is the same person as {@code person}.
+     */
+    public Person getPerson(Person person) {
+        return addressBook.getPersonList().stream().filter(person::isSamePerson).findFirst().get();
+    }
+
+    public int getCommitCount() {
+        return commitCount;
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        requireNonNull(person);
+        addressBook.addPerson(person);
+    }
+
+    @Override
+    public void updatePerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        addressBook.updatePerson(target, editedPerson);
+    }
+
+    @Override
+    public void commitAddressBook() {
+        commitCount++;
+    }
+
+    @Override
+    public void updateTimeTable(TimeTable newTimeTable) {
+        requireNonNull(newTimeTable);
+        timeTable = newTimeTable;
+    }
+
+    @Override
+    public TimeTable getTimeTable() {
+        return timeTable;
+    }
+
+    @Override
+    public User getUser() {
+        return user;
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -14,12 +15,16 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.AuthReturn;
+import seedu.address.commons.CommandsEnum;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportAllCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportAllCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectCommand;
@@ -74,6 +79,23 @@ public class AdressBookParserTest {
         assertTrue(command instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_exportAll() throws Exception {
+        CommandsEnum commandType = parser.parseCommand(ExportAllCommand.COMMAND_WORD + " foldername friends");
+        assertEquals(CommandsEnum.EXPORTALL, commandType);
+        assertEquals(AuthReturn.COMMAND_LOGINFIRST, commandType.isCommandAllowed(commandType, false));
+        assertEquals(AuthReturn.COMMAND_ALLOWED, commandType.isCommandAllowed(commandType, true));
+        command = parser.parseCommandArguments();
+        assertEquals(new ExportAllCommand(Paths.get(getImportExportPath("foldername")), null, true), command);
+    }
+
+    @Test
+    public void parseCommandAlias_exportAll() throws Exception {
+        assertEquals(CommandsEnum.EXPORTALL, parser.parseCommand(ExportAllCommand.COMMAND_WORD_ALIAS + " foldername"));
+        command = parser.parseCommandArguments();
+        assertEquals(new ExportAllCommand(Paths.get(getImportExportPath("foldername")), null, false), command);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -116,10 +138,10 @@ public class AdressBookParserTest {
     public void parseCommand_history() throws Exception {
         parser.parseCommand(HistoryCommand.COMMAND_WORD);
         command = parser.parseCommandArguments();
-        assertTrue(command instanceof HistoryCommand);
-        parser.parseCommand(HistoryCommand.COMMAND_WORD + " 3");
+        assertEquals(new HistoryCommand(), command);
+        parser.parseCommand(HistoryCommand.COMMAND_WORD + " " + HistoryCommand.STATISTICS_KEYWORD);
         command = parser.parseCommandArguments();
-        assertTrue(command instanceof HistoryCommand);
+        assertEquals(new HistoryCommand(true), command);
 
         try {
             parser.parseCommand("histories");
@@ -134,10 +156,35 @@ public class AdressBookParserTest {
     public void parseCommandAlias_history() throws Exception {
         parser.parseCommand(HistoryCommand.COMMAND_WORD_ALIAS);
         command = parser.parseCommandArguments();
-        assertTrue(command instanceof HistoryCommand);
-        parser.parseCommand(HistoryCommand.COMMAND_WORD_ALIAS + " 3");
+        assertEquals(new HistoryCommand(), command);
+        parser.parseCommand(HistoryCommand.COMMAND_WORD_ALIAS + " " + HistoryCommand.STATISTICS_KEYWORD);
         command = parser.parseCommandArguments();
-        assertTrue(command instanceof HistoryCommand);
+        assertEquals(new HistoryCommand(true), command);
+    }
+
+    @Test
+    public void parseCommand_historyWithUnknownArgument_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE));
+        parser.parseCommand(HistoryCommand.COMMAND_WORD + " 3");
+        parser.parseCommandArguments();
+    }
+
+    @Test
+    public void parseCommand_importAll() throws Exception {
+        CommandsEnum commandType = parser.parseCommand(ImportAllCommand.COMMAND_WORD + " foldername");
+        assertEquals(CommandsEnum.IMPORTALL, commandType);
+        assertEquals(AuthReturn.COMMAND_LOGINFIRST, commandType.isCommandAllowed(commandType, false));
+        assertEquals(AuthReturn.COMMAND_ALLOWED, commandType.isCommandAllowed(commandType, true));
+        command = parser.parseCommandArguments();
+        assertEquals(new ImportAllCommand(Paths.get(getImportExportPath("foldername"))), command);
+    }
+
+    @Test
+    public void parseCommandAlias_importAll() throws Exception {
+        assertEquals(CommandsEnum.IMPORTALL, parser.parseCommand(ImportAllCommand.COMMAND_WORD_ALIAS + " foldername"));
+        command = parser.parseCommandArguments();
+        assertEquals(new ImportAllCommand(Paths.get(getImportExportPath("foldername"))), command);
     }
 
     @Test
@@ -232,4 +279,10 @@ public class AdressBookParserTest {
         parser.parseCommand("unknownCommand");
     }
 
+    /**
+     * Returns the path that import and export commands resolve {@code folderName} to.
+     */
+    private static String getImportExportPath(String folderName) {
+        return System.getProperty("user.dir") + "\\" + ParserUtil.IMPORT_EXPORT_FOLDER + "\\" + folderName;
+    }
 }
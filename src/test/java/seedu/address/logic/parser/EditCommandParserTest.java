@@ -24,14 +24,18 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME_ZONE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Optional;
+
 import org.junit.Test;
 
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -39,6 +43,9 @@ import seedu.address.testutil.EditPersonDescriptorBuilder;
 public class EditCommandParserTest {
 
     private static final String TAG_EMPTY = " " + PREFIX_TAG;
+    private static final String TIME_ZONE_EMPTY = " " + PREFIX_TIME_ZONE;
+    private static final String VALID_TIME_ZONE = "Europe/London";
+    private static final String TIME_ZONE_DESC = " " + PREFIX_TIME_ZONE + VALID_TIME_ZONE;
 
     private static final String MESSAGE_INVALID_FORMAT =
             String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditCommand.MESSAGE_USAGE);
@@ -58,6 +65,8 @@ public class EditCommandParserTest {
         assertParseFailure(parser, INVALID_PHONE_DESC, Phone.MESSAGE_CONSTRAINTS); // invalid phone
         assertParseFailure(parser, INVALID_EMAIL_DESC, Email.MESSAGE_CONSTRAINTS); // invalid email
         assertParseFailure(parser, INVALID_TAG_DESC, Tag.MESSAGE_CONSTRAINTS); // invalid tag
+        assertParseFailure(parser, " " + PREFIX_TIME_ZONE + "Mars/Olympus",
+                Person.MESSAGE_TIME_ZONE_CONSTRAINTS); // invalid time zone
         // invalid phone followed by valid email
         assertParseFailure(parser, INVALID_PHONE_DESC + EMAIL_DESC_AMY, Phone.MESSAGE_CONSTRAINTS);
 
@@ -130,6 +139,12 @@ public class EditCommandParserTest {
         descriptor = new EditPersonDescriptorBuilder().withTags(VALID_TAG_FRIEND).build();
         expectedCommand = new EditCommand(descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
+
+        // time zone
+        userInput = TIME_ZONE_DESC;
+        descriptor = new EditPersonDescriptorBuilder().withTimeZone(VALID_TIME_ZONE).build();
+        expectedCommand = new EditCommand(descriptor);
+        assertParseSuccess(parser, userInput, expectedCommand);
     }
 
     @Test
@@ -172,4 +187,13 @@ public class EditCommandParserTest {
 
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_resetTimeZone_success() {
+        EditPersonDescriptor descriptor = new EditPersonDescriptor();
+        descriptor.setTimeZone(Optional.empty());
+        EditCommand expectedCommand = new EditCommand(descriptor);
+
+        assertParseSuccess(parser, TIME_ZONE_EMPTY, expectedCommand);
+    }
 }
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_PATH_FORBIDDEN;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ExportAllCommand;
+import seedu.address.model.tag.Tag;
+
+public class ExportAllCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportAllCommand.MESSAGE_USAGE);
+
+    private ExportAllCommandParser parser = new ExportAllCommandParser();
+
+    private final Path folderPath = Paths.get(System.getProperty("user.dir") + "\\"
+            + ParserUtil.IMPORT_EXPORT_FOLDER + "\\" + "foldername");
+
+    @Test
+    public void parse_folderOnly_exportsAllPersons() {
+        assertParseSuccess(parser, " foldername", new ExportAllCommand(folderPath, null, false));
+    }
+
+    @Test
+    public void parse_friendsAndTag_exportsTaggedFriends() {
+        assertParseSuccess(parser, " foldername friends g/cs2103",
+                new ExportAllCommand(folderPath, new Tag("cs2103"), true));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " foldername enemies", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " foldername g/invalid tag", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " parent_folder/foldername", MESSAGE_PATH_FORBIDDEN);
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Optional;
 
 import org.junit.Test;
 
@@ -34,10 +35,19 @@ public class FreeCommandParserTest {
 
         assertParseSuccess(parser, "1", new FreeCommand(containsOne));
         assertParseSuccess(parser, "1 2", new FreeCommand(containsOneAndTwo));
+        assertParseSuccess(parser, "1 2 min/2", new FreeCommand(containsOneAndTwo, Optional.of(2)));
+
+        // repeated indices are only counted once
+        assertParseSuccess(parser, "1 1 min/2", new FreeCommand(containsOne, Optional.of(2)));
+        assertParseSuccess(parser, "1 2 1", new FreeCommand(containsOneAndTwo));
     }
 
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1 min/0",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1 min/a",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
     }
 }
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.HistoryCommand;
+
+public class HistoryCommandParserTest {
+    private HistoryCommandParser parser = new HistoryCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsHistoryCommand() {
+        assertParseSuccess(parser, "  ", new HistoryCommand());
+        assertParseSuccess(parser, " " + HistoryCommand.STATISTICS_KEYWORD + " ", new HistoryCommand(true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, "foo", expectedMessage);
+        assertParseFailure(parser, "3", expectedMessage);
+        assertParseFailure(parser, HistoryCommand.STATISTICS_KEYWORD + " 3", expectedMessage);
+    }
+}
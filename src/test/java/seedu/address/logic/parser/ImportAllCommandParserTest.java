@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_PATH_FORBIDDEN;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ImportAllCommand;
+
+public class ImportAllCommandParserTest {
+    private ImportAllCommandParser parser = new ImportAllCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportAllCommand() {
+        String applicationPath = System.getProperty("user.dir");
+        String userInput = "foldername";
+        String folderPath = applicationPath + "\\" + ParserUtil.IMPORT_EXPORT_FOLDER + "\\" + userInput;
+
+        assertParseSuccess(parser, userInput, new ImportAllCommand(Paths.get(folderPath)));
+    }
+
+    @Test
+    public void parse_validArgsForwardSlash_failure() {
+        assertParseFailure(parser, "parent_folder/foldername", MESSAGE_PATH_FORBIDDEN);
+    }
+
+    @Test
+    public void parse_invalidArgsBlank_failure() {
+        assertParseFailure(parser, "   ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportAllCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MeetCommand;
+import seedu.address.model.person.MeetingSlotFinder;
+
+public class MeetCommandParserTest {
+
+    private MeetCommandParser parser = new MeetCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsMeetCommand() {
+        Collection<Index> containsOneAndTwo = new ArrayList<>();
+        containsOneAndTwo.add(INDEX_FIRST_PERSON);
+        containsOneAndTwo.add(INDEX_SECOND_PERSON);
+
+        MeetingSlotFinder defaultFinder = new MeetingSlotFinder(Duration.ofMinutes(60),
+                MeetingSlotFinder.DEFAULT_DAYS, LocalTime.MIN, LocalTime.parse("23:59"), Optional.empty(),
+                Optional.empty(), MeetingSlotFinder.DEFAULT_LIMIT);
+        assertParseSuccess(parser, "1 2 dur/60", new MeetCommand(containsOneAndTwo, defaultFinder));
+
+        // repeated indices are only counted once
+        assertParseSuccess(parser, "1 2 2 1 dur/60", new MeetCommand(containsOneAndTwo, defaultFinder));
+
+        MeetingSlotFinder fullFinder = new MeetingSlotFinder(Duration.ofMinutes(90),
+                EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY), LocalTime.parse("09:00"), LocalTime.parse("18:00"),
+                Optional.of(LocalTime.parse("14:00")), Optional.of(2), 5);
+        assertParseSuccess(parser, "1 2 dur/90 day/Mon day/Tuesday time/9-18 pref/14 top/5 min/2",
+                new MeetCommand(containsOneAndTwo, fullFinder));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MeetCommand.MESSAGE_USAGE);
+
+        // missing duration
+        assertParseFailure(parser, "1 2", expectedMessage);
+
+        // invalid index
+        assertParseFailure(parser, "a dur/60", expectedMessage);
+
+        // invalid day
+        assertParseFailure(parser, "1 dur/60 day/Someday", expectedMessage);
+
+        // window ends before it starts
+        assertParseFailure(parser, "1 dur/60 time/18-9", expectedMessage);
+    }
+}
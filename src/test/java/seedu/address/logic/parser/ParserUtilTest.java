@@ -5,10 +5,13 @@ import static org.junit.Assert.assertTrue;
 
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.Rule;
@@ -33,11 +36,13 @@ public class ParserUtilTest {
     private static final String INVALID_TIMESLOT = "something";
     private static final String INVALID_DAY = "someday";
     private static final String INVALID_TIME = "24:00";
+    private static final String INVALID_TIME_ZONE = "Mars/Olympus";
 
     private static final String VALID_NAME = "Rachel Walker";
     private static final String VALID_PHONE = "123456";
     private static final String VALID_ADDRESS = "123 Main Street #0505";
     private static final String VALID_EMAIL = "rachel@example.com";
+    private static final String VALID_TIME_ZONE = "Asia/Singapore";
     private static final String VALID_TAG_1 = "friend";
     private static final String VALID_TAG_2 = "neighbour";
     private static final String VALID_DAY_FULL = "monday";
@@ -83,6 +88,21 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndices_invalidInput_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        ParserUtil.parseIndices("1 a");
+    }
+
+    @Test
+    public void parseIndices_validInput_success() throws Exception {
+        // In the order given
+        assertEquals(Arrays.asList(INDEX_SECOND_PERSON, INDEX_FIRST_PERSON), ParserUtil.parseIndices(" 2  1 "));
+
+        // Repeated indices only returned once
+        assertEquals(Arrays.asList(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), ParserUtil.parseIndices("1 2 1 1"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -170,6 +190,28 @@ public class ParserUtilTest {
         assertEquals(expectedEmail, ParserUtil.parseEmail(emailWithWhitespace));
     }
 
+    @Test
+    public void parseTimeZone_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> ParserUtil.parseTimeZone(null));
+    }
+
+    @Test
+    public void parseTimeZone_invalidValue_throwsParseException() {
+        Assert.assertThrows(ParseException.class, () -> ParserUtil.parseTimeZone(INVALID_TIME_ZONE));
+    }
+
+    @Test
+    public void parseTimeZone_validValueWithWhitespace_returnsTrimmedTimeZone() throws Exception {
+        assertEquals(Optional.of(ZoneId.of(VALID_TIME_ZONE)),
+                ParserUtil.parseTimeZone(WHITESPACE + VALID_TIME_ZONE + WHITESPACE));
+        assertEquals(Optional.of(ZoneId.of("+08:00")), ParserUtil.parseTimeZone("+08:00"));
+    }
+
+    @Test
+    public void parseTimeZone_blank_returnsEmpty() throws Exception {
+        assertEquals(Optional.empty(), ParserUtil.parseTimeZone(WHITESPACE));
+    }
+
     @Test
     public void parseTag_null_throwsNullPointerException() throws Exception {
         thrown.expect(NullPointerException.class);
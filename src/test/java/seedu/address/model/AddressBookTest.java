@@ -12,6 +12,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -85,6 +86,19 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonByName_personInAddressBook_returnsPerson() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), addressBook.getPersonByName(ALICE.getName()));
+    }
+
+    @Test
+    public void getPersonByName_personRemoved_returnsEmpty() {
+        addressBook.addPerson(ALICE);
+        addressBook.removePerson(ALICE);
+        assertFalse(addressBook.getPersonByName(ALICE.getName()).isPresent());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
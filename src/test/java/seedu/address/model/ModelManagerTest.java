@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
@@ -7,6 +8,7 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Paths;
+import java.time.ZoneId;
 import java.util.Arrays;
 
 import org.junit.Rule;
@@ -45,6 +47,41 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void getTimeZone_timeZoneInUserPrefs_returnsTimeZone() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setTimeZone("Europe/London");
+        assertEquals(ZoneId.of("Europe/London"), new ModelManager(new AddressBook(), userPrefs).getTimeZone());
+    }
+
+    @Test
+    public void getTimeZone_noTimeZoneInUserPrefs_returnsSystemTimeZone() {
+        assertEquals(ZoneId.systemDefault(), new ModelManager(new AddressBook(), new UserPrefs()).getTimeZone());
+    }
+
+    @Test
+    public void getTimeZone_unknownTimeZone_returnsSystemTimeZone() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setTimeZone("Atlantis/Capital");
+        assertEquals(ZoneId.systemDefault(), new ModelManager(new AddressBook(), userPrefs).getTimeZone());
+    }
+
+    @Test
+    public void getAddressBookHistoryStatistics_nonPositiveUndoHistoryLimits_defaultLimitsUsed() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMaxStates(0);
+        userPrefs.setUndoHistoryMaxBytes(-1);
+        ModelManager model = new ModelManager(new AddressBook(), userPrefs);
+
+        HistoryStatistics statistics = model.getAddressBookHistoryStatistics();
+        assertEquals(VersionedAddressBook.DEFAULT_MAX_STATES, statistics.getMaxStates());
+        assertEquals(VersionedAddressBook.DEFAULT_MAX_BYTES, statistics.getMaxBytes());
+
+        model.addPerson(ALICE);
+        model.commitAddressBook();
+        assertTrue(model.canUndoAddressBook());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -15,6 +15,7 @@ import java.util.List;
 import org.junit.Test;
 
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class VersionedAddressBookTest {
 
@@ -150,6 +151,12 @@ public class VersionedAddressBookTest {
                 Arrays.asList(addressBookWithAmy, addressBookWithBob));
     }
 
+    @Test
+    public void constructor_nonPositiveLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(emptyAddressBook, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(emptyAddressBook, 1, -1));
+    }
+
     @Test
     public void undo_singleAddressBook_throwsNoUndoableStateException() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook);
@@ -207,6 +214,70 @@ public class VersionedAddressBookTest {
         assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void undo_personRemoved_restoresPersonAtSamePosition() {
+        ReadOnlyAddressBook addressBookWithAll = new AddressBookBuilder().withPerson(AMY).withPerson(BOB)
+                .withPerson(CARL).build();
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAll);
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAll, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsUncommittedChanges() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook, addressBookWithAmy);
+        versionedAddressBook.addPerson(BOB);
+
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void commit_moreStatesThanMaxStates_oldestStatesForgotten() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, 1, Long.MAX_VALUE);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+        assertEquals(0, versionedAddressBook.getHistoryStatistics().getUndoableStates());
+        assertEquals(1, versionedAddressBook.getHistoryStatistics().getRedoableStates());
+    }
+
+    @Test
+    public void commit_historyLargerThanMaxBytes_oldestStatesForgotten() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, Integer.MAX_VALUE, 1);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+
+        assertEquals(1, versionedAddressBook.getHistoryStatistics().getUndoableStates());
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void commit_stateLargerThanMaxBytes_stateKept() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, Integer.MAX_VALUE, 1);
+        versionedAddressBook.resetData(addressBookWithAmy);
+        versionedAddressBook.commit();
+
+        assertTrue(versionedAddressBook.canUndo());
+        assertTrue(versionedAddressBook.getHistoryStatistics().getEstimatedBytes() > 1);
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+    }
+
     @Test
     public void equals() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
@@ -224,6 +295,14 @@ public class VersionedAddressBookTest {
         // different types -> returns false
         assertFalse(versionedAddressBook.equals(1));
 
+        // person replaced by an equal person -> returns true
+        VersionedAddressBook replacedByEqualPerson = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
+        VersionedAddressBook unchanged = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
+        replacedByEqualPerson.updatePerson(BOB, new PersonBuilder(BOB).build());
+        replacedByEqualPerson.commit();
+        unchanged.commit();
+        assertTrue(replacedByEqualPerson.equals(unchanged));
+
         // different state list -> returns false
         VersionedAddressBook differentAddressBookList = prepareAddressBookList(addressBookWithBob, addressBookWithCarl);
         assertFalse(versionedAddressBook.equals(differentAddressBookList));
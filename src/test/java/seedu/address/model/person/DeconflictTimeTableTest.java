@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -77,4 +78,91 @@ public class DeconflictTimeTableTest {
 
         assertEquals(timeTableTypical, expected);
     }
+
+    @Test
+    public void merge_multipleTimeTables_equalsIncrementalDeconflict() {
+        TimeTable other = new TimeTable();
+        other.addTimeSlot(TypicalTimeSlots.MON_9_TO_11);
+        other.addTimeSlot(TypicalTimeSlots.TUE_12_TO_14);
+
+        TimeTable another = new TimeTable();
+        another.addTimeSlot(TypicalTimeSlots.WED_10_TO_12);
+
+        DeconflictTimeTable expected = new DeconflictTimeTable(TypicalTimeSlots.getTypicalTimeTable());
+        expected.addTimeTable(other);
+        expected.addTimeTable(another);
+
+        DeconflictTimeTable merged = DeconflictTimeTable.merge(
+                Arrays.asList(TypicalTimeSlots.getTypicalTimeTable(), other, another, new TimeTable()));
+
+        assertEquals(expected.getTimeSlots(), merged.getTimeSlots());
+        assertEquals(expected.getInverse().getTimeSlots(), merged.getInverse().getTimeSlots());
+    }
+
+    @Test
+    public void merge_noTimeSlots_inverseCoversWholeWeek() {
+        DeconflictTimeTable merged = DeconflictTimeTable.merge(Collections.singletonList(new TimeTable()));
+
+        assertEquals(Collections.emptySet(), merged.getTimeSlots());
+        assertEquals(7, merged.getInverse().getTimeSlots().size());
+    }
+
+    @Test
+    public void getInverse_afterModification_reflectsModification() {
+        DeconflictTimeTable merged = DeconflictTimeTable.merge(
+                Collections.singletonList(TypicalTimeSlots.getTypicalTimeTable()));
+        merged.addTimeSlot(TypicalTimeSlots.WED_10_TO_12);
+
+        DeconflictTimeTable expected = new DeconflictTimeTable(TypicalTimeSlots.getTypicalTimeTable());
+        expected.addTimeSlot(TypicalTimeSlots.WED_10_TO_12);
+
+        assertEquals(expected.getInverse().getTimeSlots(), merged.getInverse().getTimeSlots());
+    }
+
+    @Test
+    public void getInverse_modifiedAfterPreviousCall_matchesFreshInverse() {
+        DeconflictTimeTable toTest = new DeconflictTimeTable(TypicalTimeSlots.getTypicalTimeTable());
+        toTest.getInverse();
+
+        toTest.addTimeSlot(TypicalTimeSlots.TUE_12_TO_14);
+        assertEquals(new DeconflictTimeTable(toTest).getInverse().getTimeSlots(), toTest.getInverse().getTimeSlots());
+
+        toTest.removeTimeSlot(TypicalTimeSlots.MON_8_TO_12);
+        assertEquals(new DeconflictTimeTable(toTest).getInverse().getTimeSlots(), toTest.getInverse().getTimeSlots());
+    }
+
+    @Test
+    public void getInverse_previousInverseModified_notAffected() {
+        DeconflictTimeTable toTest = new DeconflictTimeTable(TypicalTimeSlots.getTypicalTimeTable());
+        DeconflictTimeTable inverse = toTest.getInverse();
+
+        inverse.clear();
+        assertEquals(new DeconflictTimeTable(toTest).getInverse().getTimeSlots(), toTest.getInverse().getTimeSlots());
+    }
+
+    @Test
+    public void getInverse_boundsChanged_rebuildsAllDays() {
+        DeconflictTimeTable toTest = new DeconflictTimeTable();
+        toTest.addTimeSlot(TypicalTimeSlots.TUE_10_TO_12);
+        toTest.getInverse();
+
+        // Adding a Monday TimeSlot before the default start moves the start of every day's inverse
+        toTest.addTimeSlot(TypicalTimeSlots.MON_8_TO_10);
+        assertEquals(new DeconflictTimeTable(toTest).getInverse().getTimeSlots(), toTest.getInverse().getTimeSlots());
+    }
+
+    @Test
+    public void getInverseTimeSlots_matchesInverse() {
+        DeconflictTimeTable toTest = new DeconflictTimeTable(TypicalTimeSlots.getTypicalTimeTable());
+        assertEquals(toTest.getInverse().getTimeSlots(), new HashSet<>(toTest.getInverseTimeSlots()));
+
+        toTest.addTimeSlot(TypicalTimeSlots.WED_10_TO_12);
+        assertEquals(new DeconflictTimeTable(toTest).getInverse().getTimeSlots(),
+                new HashSet<>(toTest.getInverseTimeSlots()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getInverseTimeSlots_modify_throwsUnsupportedOperationException() {
+        new DeconflictTimeTable(TypicalTimeSlots.getTypicalTimeTable()).getInverseTimeSlots().clear();
+    }
 }
@@ -0,0 +1,47 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class FriendListPredicateTest {
+
+    private final Person user = new PersonBuilder().withName("Alice").build();
+    private final Person friend = new PersonBuilder().withName("Bob").build();
+    private final Person other = new PersonBuilder().withName("Carl").build();
+
+    @Test
+    public void test_friendOfUser_returnsTrue() {
+        user.getFriends().add(new Friend(friend.getName()));
+
+        assertTrue(new FriendListPredicate(user).test(friend));
+        assertFalse(new OtherListPredicate(user).test(friend));
+    }
+
+    @Test
+    public void test_notFriendOfUser_returnsFalse() {
+        user.getFriends().add(new Friend(friend.getName()));
+
+        assertFalse(new FriendListPredicate(user).test(other));
+        assertTrue(new OtherListPredicate(user).test(other));
+    }
+
+    @Test
+    public void test_userThemself_returnsFalse() {
+        assertFalse(new FriendListPredicate(user).test(user));
+        assertFalse(new OtherListPredicate(user).test(user));
+    }
+
+    @Test
+    public void test_friendListChanged_reflectsChange() {
+        FriendListPredicate predicate = new FriendListPredicate(user);
+        user.getFriends().add(new Friend(friend.getName()));
+        assertTrue(predicate.test(friend));
+
+        user.getFriends().remove(new Friend(friend.getName()));
+        assertFalse(predicate.test(friend));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.person.exceptions.TimeSlotOverlapException;
+
+public class LazyTimeTableTest {
+
+    private static final TimeSlot MONDAY_MORNING =
+            new TimeSlot(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(10, 0));
+    private static final TimeSlot MONDAY_LATE_MORNING =
+            new TimeSlot(DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(12, 0));
+    private static final TimeSlot SUNDAY_NIGHT =
+            new TimeSlot(DayOfWeek.SUNDAY, LocalTime.of(22, 0, 30), LocalTime.of(23, 59));
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_overlappingTimeSlots_throwsTimeSlotOverlapException() {
+        TimeSlot overlapping = new TimeSlot(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(11, 0));
+        thrown.expect(TimeSlotOverlapException.class);
+        LazyTimeTable.of(Arrays.asList(MONDAY_LATE_MORNING, SUNDAY_NIGHT, overlapping));
+    }
+
+    @Test
+    public void getTimeSlots_notBuilt_returnsTimeSlotsWithoutBuilding() {
+        List<TimeSlot> timeSlots = Arrays.asList(SUNDAY_NIGHT, MONDAY_LATE_MORNING, MONDAY_MORNING);
+        LazyTimeTable lazyTimeTable = LazyTimeTable.of(timeSlots);
+
+        assertEquals(new HashSet<>(timeSlots), lazyTimeTable.getTimeSlots());
+        assertFalse(lazyTimeTable.isBuilt());
+    }
+
+    @Test
+    public void get_firstCall_buildsTimeTableOnce() {
+        List<TimeSlot> timeSlots = Arrays.asList(SUNDAY_NIGHT, MONDAY_MORNING);
+        LazyTimeTable lazyTimeTable = LazyTimeTable.of(timeSlots);
+
+        TimeTable timeTable = lazyTimeTable.get();
+
+        assertTrue(lazyTimeTable.isBuilt());
+        assertEquals(new TimeTable(timeSlots), timeTable);
+        assertSame(timeTable, lazyTimeTable.get());
+    }
+
+    @Test
+    public void get_timeTableChanged_changeSeenByLaterCalls() {
+        LazyTimeTable lazyTimeTable = LazyTimeTable.of(Arrays.asList(MONDAY_MORNING));
+
+        lazyTimeTable.get().addTimeSlot(new TimeSlot(MONDAY_LATE_MORNING));
+
+        assertEquals(new HashSet<>(Arrays.asList(MONDAY_MORNING, MONDAY_LATE_MORNING)),
+                lazyTimeTable.getTimeSlots());
+    }
+
+    @Test
+    public void equals() {
+        LazyTimeTable lazyTimeTable = LazyTimeTable.of(Arrays.asList(MONDAY_MORNING, SUNDAY_NIGHT));
+
+        // same time slots, built or not -> returns true
+        assertTrue(lazyTimeTable.equals(LazyTimeTable.of(Arrays.asList(SUNDAY_NIGHT, MONDAY_MORNING))));
+        assertTrue(lazyTimeTable.equals(new LazyTimeTable(new TimeTable(Arrays.asList(MONDAY_MORNING,
+                SUNDAY_NIGHT)))));
+
+        // different time slots -> returns false
+        assertFalse(lazyTimeTable.equals(LazyTimeTable.of(Arrays.asList(MONDAY_MORNING))));
+
+        // null -> returns false
+        assertFalse(lazyTimeTable.equals(null));
+    }
+
+    @Test
+    public void hashCode_builtOrNot_sameHashCode() {
+        List<TimeSlot> timeSlots = Arrays.asList(MONDAY_MORNING, SUNDAY_NIGHT, MONDAY_LATE_MORNING);
+        LazyTimeTable lazyTimeTable = LazyTimeTable.of(timeSlots);
+
+        assertEquals(new HashSet<>(timeSlots).hashCode(), lazyTimeTable.hashCode());
+        assertFalse(lazyTimeTable.isBuilt());
+        assertEquals(new LazyTimeTable(new TimeTable(timeSlots)).hashCode(), lazyTimeTable.hashCode());
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.model.person.MeetingSlotFinder.MeetingSlot;
+import seedu.address.testutil.TypicalTimeSlots;
+
+public class MeetingSlotFinderTest {
+
+    private final TimeTable other = new TimeTable(Arrays.asList(TypicalTimeSlots.MON_9_TO_11));
+
+    @Test
+    public void find_preferredTime_closestSlotFirst() {
+        MeetingSlotFinder finder = new MeetingSlotFinder(Duration.ofMinutes(60), EnumSet.of(DayOfWeek.MONDAY,
+                DayOfWeek.TUESDAY), LocalTime.parse("08:00"), LocalTime.parse("18:00"),
+                Optional.of(LocalTime.parse("13:00")), Optional.empty(), 2);
+
+        List<MeetingSlot> slots = finder.find(Arrays.asList(TypicalTimeSlots.getTypicalTimeTable(), other));
+
+        assertEquals(Arrays.asList(
+                new MeetingSlot(new TimeSlot(DayOfWeek.MONDAY, LocalTime.parse("13:00"), LocalTime.parse("14:00")),
+                        2, 2),
+                new MeetingSlot(new TimeSlot(DayOfWeek.TUESDAY, LocalTime.parse("13:00"), LocalTime.parse("14:00")),
+                        2, 2)), slots);
+    }
+
+    @Test
+    public void find_windowTooShort_returnsEmpty() {
+        MeetingSlotFinder finder = new MeetingSlotFinder(Duration.ofMinutes(120), EnumSet.of(DayOfWeek.MONDAY),
+                LocalTime.parse("11:00"), LocalTime.parse("12:30"), Optional.empty(), Optional.empty(), 3);
+
+        assertTrue(finder.find(Collections.singletonList(new TimeTable())).isEmpty());
+    }
+
+    @Test
+    public void find_quorum_prefersHigherAttendance() {
+        MeetingSlotFinder finder = new MeetingSlotFinder(Duration.ofMinutes(60), EnumSet.of(DayOfWeek.MONDAY),
+                LocalTime.parse("08:00"), LocalTime.parse("13:00"), Optional.of(LocalTime.parse("08:00")),
+                Optional.of(1), 3);
+
+        List<MeetingSlot> slots = finder.find(Arrays.asList(TypicalTimeSlots.getTypicalTimeTable(), other));
+
+        // 12:00 - 13:00 has both people free, 8:00 - 9:00 and 11:00 - 12:00 have only one
+        assertEquals(new MeetingSlot(new TimeSlot(DayOfWeek.MONDAY, LocalTime.parse("12:00"),
+                LocalTime.parse("13:00")), 2, 2), slots.get(0));
+        assertEquals(new MeetingSlot(new TimeSlot(DayOfWeek.MONDAY, LocalTime.parse("08:00"),
+                LocalTime.parse("09:00")), 1, 2), slots.get(1));
+        assertEquals(new MeetingSlot(new TimeSlot(DayOfWeek.MONDAY, LocalTime.parse("11:00"),
+                LocalTime.parse("12:00")), 1, 2), slots.get(2));
+        assertEquals(3, slots.size());
+    }
+
+    @Test
+    public void find_windowBeyondDefaultHours_slotsAcrossWindow() {
+        MeetingSlotFinder finder = new MeetingSlotFinder(Duration.ofMinutes(60), EnumSet.of(DayOfWeek.MONDAY),
+                LocalTime.parse("07:00"), LocalTime.parse("22:00"), Optional.of(LocalTime.parse("21:00")),
+                Optional.empty(), 2);
+
+        List<MeetingSlot> slots = finder.find(Arrays.asList(new TimeTable(), other));
+
+        assertEquals(Arrays.asList(
+                new MeetingSlot(new TimeSlot(DayOfWeek.MONDAY, LocalTime.parse("21:00"), LocalTime.parse("22:00")),
+                        2, 2),
+                new MeetingSlot(new TimeSlot(DayOfWeek.MONDAY, LocalTime.parse("20:00"), LocalTime.parse("21:00")),
+                        2, 2)), slots);
+    }
+
+    @Test
+    public void find_quorumWindowBeyondDefaultHours_slotsAcrossWindow() {
+        MeetingSlotFinder finder = new MeetingSlotFinder(Duration.ofMinutes(60), EnumSet.of(DayOfWeek.MONDAY),
+                LocalTime.parse("07:00"), LocalTime.parse("22:00"), Optional.empty(), Optional.of(1), 1);
+
+        List<MeetingSlot> slots = finder.find(Arrays.asList(new TimeTable(), other));
+
+        assertEquals(Collections.singletonList(new MeetingSlot(new TimeSlot(DayOfWeek.MONDAY,
+                LocalTime.parse("07:00"), LocalTime.parse("08:00")), 2, 2)), slots);
+    }
+
+    @Test
+    public void find_longFreeTime_severalPlacementsWithoutOverlap() {
+        MeetingSlotFinder finder = new MeetingSlotFinder(Duration.ofMinutes(90), EnumSet.of(DayOfWeek.MONDAY),
+                LocalTime.parse("09:00"), LocalTime.parse("18:00"), Optional.empty(), Optional.empty(), 3);
+
+        List<MeetingSlot> slots = finder.find(Collections.singletonList(new TimeTable()));
+
+        assertEquals(Arrays.asList(
+                new MeetingSlot(new TimeSlot(DayOfWeek.MONDAY, LocalTime.parse("09:00"), LocalTime.parse("10:30")),
+                        1, 1),
+                new MeetingSlot(new TimeSlot(DayOfWeek.MONDAY, LocalTime.parse("10:30"), LocalTime.parse("12:00")),
+                        1, 1),
+                new MeetingSlot(new TimeSlot(DayOfWeek.MONDAY, LocalTime.parse("12:00"), LocalTime.parse("13:30")),
+                        1, 1)), slots);
+    }
+}
@@ -95,5 +95,9 @@ public class PersonTest {
         // different tags -> returns false
         editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
         assertFalse(ALICE.equals(editedAlice));
+
+        // different time zone -> returns false
+        editedAlice = new PersonBuilder(ALICE).withTimeZone("Europe/London").build();
+        assertFalse(ALICE.equals(editedAlice));
     }
 }
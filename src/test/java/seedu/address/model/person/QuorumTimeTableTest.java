@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.testutil.TypicalTimeSlots;
+
+public class QuorumTimeTableTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TimeTable other = new TimeTable(Arrays.asList(TypicalTimeSlots.MON_9_TO_11));
+
+    @Test
+    public void of_invalidQuorum_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        QuorumTimeTable.of(Arrays.asList(TypicalTimeSlots.getTypicalTimeTable(), other), 3);
+    }
+
+    @Test
+    public void of_everyoneAvailable_equalsDeconflictInverse() {
+        Collection<TimeTable> timeTables = Arrays.asList(TypicalTimeSlots.getTypicalTimeTable(), other);
+
+        QuorumTimeTable quorum = QuorumTimeTable.of(timeTables, 2);
+
+        assertEquals(DeconflictTimeTable.merge(timeTables).getInverse().getTimeSlots(), quorum.getTimeSlots());
+    }
+
+    @Test
+    public void of_partialQuorum_countsAttendance() {
+        QuorumTimeTable quorum = QuorumTimeTable.of(
+                Arrays.asList(TypicalTimeSlots.getTypicalTimeTable(), other), 1);
+
+        TimeSlot mondayOneFree = new TimeSlot(DayOfWeek.MONDAY, LocalTime.parse("11:00"), LocalTime.parse("12:00"));
+        TimeSlot mondayTwoFree = new TimeSlot(DayOfWeek.MONDAY, LocalTime.parse("12:00"), LocalTime.parse("19:00"));
+        TimeSlot tuesdayOneFree = new TimeSlot(DayOfWeek.TUESDAY, LocalTime.parse("10:00"), LocalTime.parse("12:00"));
+
+        assertEquals(1, quorum.getAttendance(mondayOneFree));
+        assertEquals(2, quorum.getAttendance(mondayTwoFree));
+        assertEquals(1, quorum.getAttendance(tuesdayOneFree));
+
+        Collection<TimeSlot> monday = new HashSet<>();
+        for (TimeSlot timeSlot : quorum.getTimeSlots()) {
+            if (timeSlot.getDayOfWeek() == DayOfWeek.MONDAY) {
+                monday.add(timeSlot);
+            }
+        }
+        assertEquals(new HashSet<>(Arrays.asList(new TimeSlot(DayOfWeek.MONDAY, LocalTime.parse("08:00"),
+                LocalTime.parse("09:00")), mondayOneFree, mondayTwoFree)), monday);
+    }
+
+    @Test
+    public void of_noTimeSlots_wholeDaysAvailable() {
+        QuorumTimeTable quorum = QuorumTimeTable.of(Collections.singletonList(new TimeTable()), 1);
+
+        assertEquals(7, quorum.getTimeSlots().size());
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import org.junit.Test;
+
+import seedu.address.testutil.TypicalTimeSlots;
+
+public class TimeSlotBitmapTest {
+
+    private final TimeSlotBitmap bitmapBlank = new TimeSlotBitmap();
+
+    @Test
+    public void hasOverlap_emptyBitmap_returnsFalse() {
+        assertFalse(bitmapBlank.hasOverlap(TypicalTimeSlots.MON_8_TO_10));
+        assertTrue(bitmapBlank.isFree(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    public void hasOverlap_matchesTimeSlotIsOverlap() {
+        bitmapBlank.set(TypicalTimeSlots.MON_8_TO_10);
+
+        assertTrue(bitmapBlank.hasOverlap(TypicalTimeSlots.MON_9_TO_11));
+        assertTrue(bitmapBlank.hasOverlap(TypicalTimeSlots.MON_830_TO_1030));
+        assertFalse(bitmapBlank.hasOverlap(TypicalTimeSlots.MON_10_TO_12));
+        assertFalse(bitmapBlank.hasOverlap(TypicalTimeSlots.TUE_10_TO_12));
+    }
+
+    @Test
+    public void hasOverlapOrAdjacent_adjacentTimeSlot_returnsTrue() {
+        bitmapBlank.set(TypicalTimeSlots.MON_8_TO_10);
+
+        assertTrue(bitmapBlank.hasOverlapOrAdjacent(TypicalTimeSlots.MON_10_TO_12));
+        assertFalse(bitmapBlank.hasOverlapOrAdjacent(new TimeSlot(DayOfWeek.MONDAY,
+                LocalTime.parse("10:01"), LocalTime.parse("12:00"))));
+    }
+
+    @Test
+    public void clear_removesOnlyGivenTimeSlot() {
+        bitmapBlank.set(TypicalTimeSlots.MON_8_TO_10);
+        bitmapBlank.set(TypicalTimeSlots.MON_10_TO_12);
+        bitmapBlank.clear(TypicalTimeSlots.MON_8_TO_10);
+
+        assertFalse(bitmapBlank.hasOverlap(TypicalTimeSlots.MON_8_TO_10));
+        assertTrue(bitmapBlank.hasOverlap(TypicalTimeSlots.MON_10_TO_12));
+    }
+
+    @Test
+    public void nextOccupiedAndNextFree() {
+        bitmapBlank.set(TypicalTimeSlots.MON_8_TO_10);
+
+        assertEquals(8 * 60, bitmapBlank.nextOccupied(DayOfWeek.MONDAY, 0));
+        assertEquals(10 * 60, bitmapBlank.nextFree(DayOfWeek.MONDAY, 8 * 60));
+        assertEquals(-1, bitmapBlank.nextOccupied(DayOfWeek.MONDAY, 10 * 60));
+        assertEquals(-1, bitmapBlank.nextOccupied(DayOfWeek.TUESDAY, 0));
+    }
+
+    @Test
+    public void equals() {
+        TimeSlotBitmap other = new TimeSlotBitmap();
+        other.set(TypicalTimeSlots.TUE_10_TO_12);
+        other.clear(TypicalTimeSlots.TUE_10_TO_12);
+
+        assertEquals(bitmapBlank, other);
+
+        bitmapBlank.set(TypicalTimeSlots.MON_8_TO_10);
+        assertFalse(bitmapBlank.equals(other));
+        assertEquals(bitmapBlank, new TimeSlotBitmap(bitmapBlank));
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.Collection;
 import java.util.Collections;
@@ -47,6 +48,16 @@ public class TimeTableTest {
         assertFalse(timeTableTypical.hasOverlap(TypicalTimeSlots.TUE_12_TO_14));
     }
 
+    @Test
+    public void hasOverlap_unalignedTimeSlot_comparesExactly() {
+        timeTableBlank.addTimeSlot(new TimeSlot(DayOfWeek.MONDAY,
+                LocalTime.parse("08:00"), LocalTime.parse("09:59:30")));
+
+        assertFalse(timeTableBlank.hasOverlap(TypicalTimeSlots.MON_10_TO_12));
+        assertTrue(timeTableBlank.hasOverlap(TypicalTimeSlots.MON_9_TO_11));
+        assertTrue(timeTableBlank.isFree(TypicalTimeSlots.TUE_10_TO_12));
+    }
+
     @Test
     public void addTimeSlot_timeSlotNotInTimeTable_addsTimeSlot() {
         Collection <TimeSlot> expected = new HashSet<>();
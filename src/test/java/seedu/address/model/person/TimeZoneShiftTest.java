@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTimeSlots.MON_8_TO_10;
+import static seedu.address.testutil.TypicalTimeSlots.TUE_10_TO_12;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TimeZoneShiftTest {
+
+    private static final Instant INSTANT = Instant.parse("2018-11-05T00:00:00Z");
+    private static final ZoneId SINGAPORE = ZoneId.of("Asia/Singapore");
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void between_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        TimeZoneShift.between(null, SINGAPORE, INSTANT);
+    }
+
+    @Test
+    public void apply_sameOffset_sameTimeTable() {
+        TimeTable timeTable = new TimeTable(Arrays.asList(MON_8_TO_10, TUE_10_TO_12));
+        TimeZoneShift shift = TimeZoneShift.between(SINGAPORE, ZoneId.of("+08:00"), INSTANT);
+
+        assertTrue(shift.isNone());
+        assertSame(timeTable, shift.apply(timeTable));
+    }
+
+    @Test
+    public void apply_laterZone_timeSlotsMovedLater() {
+        TimeTable timeTable = new TimeTable(Arrays.asList(MON_8_TO_10, TUE_10_TO_12));
+
+        // London is 8 hours behind Singapore in November
+        TimeTable expected = new TimeTable(Arrays.asList(timeSlot(DayOfWeek.MONDAY, "16:00", "18:00"),
+                timeSlot(DayOfWeek.TUESDAY, "18:00", "20:00")));
+        assertEquals(expected, TimeZoneShift.between(LONDON, SINGAPORE, INSTANT).apply(timeTable));
+    }
+
+    @Test
+    public void apply_crossesMidnight_timeSlotSplit() {
+        TimeTable timeTable = new TimeTable(Arrays.asList(timeSlot(DayOfWeek.MONDAY, "14:00", "18:00")));
+
+        TimeTable expected = new TimeTable(Arrays.asList(timeSlot(DayOfWeek.MONDAY, "22:00", "23:59"),
+                timeSlot(DayOfWeek.TUESDAY, "00:00", "02:00")));
+        assertEquals(expected, TimeZoneShift.between(LONDON, SINGAPORE, INSTANT).apply(timeTable));
+    }
+
+    @Test
+    public void apply_beforeStartOfWeek_timeSlotWrapsToSunday() {
+        TimeTable timeTable = new TimeTable(Arrays.asList(MON_8_TO_10));
+
+        TimeTable expected = new TimeTable(Arrays.asList(timeSlot(DayOfWeek.SUNDAY, "23:00", "23:59"),
+                timeSlot(DayOfWeek.MONDAY, "00:00", "01:00")));
+        assertEquals(expected, TimeZoneShift.between(ZoneId.of("+09:00"), ZoneId.of("UTC"), INSTANT)
+                .apply(timeTable));
+    }
+
+    @Test
+    public void toTimeZone_personsWithAndWithoutTimeZone_eachMovedFromTheirOwn() {
+        TimeTable timeTable = new TimeTable(Arrays.asList(MON_8_TO_10));
+        Person inTokyo = new PersonBuilder().withTimeTable(timeTable).withTimeZone("+09:00").build();
+        Person withoutTimeZone = new PersonBuilder().withTimeTable(timeTable).build();
+
+        // Fixed offsets, so that the shift does not depend on the current date
+        assertEquals(Arrays.asList(new TimeTable(Arrays.asList(timeSlot(DayOfWeek.MONDAY, "07:00", "09:00"))),
+                timeTable), TimeZoneShift.toTimeZone(Arrays.asList(inTokyo, withoutTimeZone), ZoneId.of("+08:00"),
+                ZoneId.of("+08:00")));
+    }
+
+    private static TimeSlot timeSlot(DayOfWeek day, String start, String end) {
+        return new TimeSlot(day, LocalTime.parse(start), LocalTime.parse(end));
+    }
+}
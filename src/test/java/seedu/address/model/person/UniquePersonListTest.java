@@ -4,6 +4,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
@@ -119,6 +121,17 @@ public class UniquePersonListTest {
         uniquePersonList.setPerson(ALICE, BOB);
     }
 
+    @Test
+    public void setPerson_editedPersonClashesWithAnotherPerson_throwsDuplicatePersonException() {
+        Person aliceWithOtherPhone = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB)
+                .build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(aliceWithOtherPhone);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPerson(ALICE, editedAlice);
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -139,6 +152,26 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_afterInsertionsAndRemovals_replacesPersonInPlace() {
+        Person amy = new PersonBuilder().withName("Amy").withPhone("11111111").build();
+        Person carl = new PersonBuilder().withName("Carl").withPhone("33333333").build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(carl);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(1, amy);
+
+        Person editedCarl = new PersonBuilder(carl).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(carl, editedCarl);
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+
+        assertEquals(Arrays.asList(editedBob, amy, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, uniquePersonList.indexOf(editedCarl));
+        assertEquals(-1, uniquePersonList.indexOf(carl));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
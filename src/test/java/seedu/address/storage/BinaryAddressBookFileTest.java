@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookFileTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.bin");
+    }
+
+    @Test
+    public void getPersons_manyPersons_decodedInOrder() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 1000; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withTags("tag" + (i % 10)).build());
+        }
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        BinaryAddressBookFile binaryFile = BinaryAddressBookFile.open(filePath);
+        assertEquals(1000, binaryFile.size());
+        assertEquals(addressBook.getPersonList().get(500), binaryFile.getPerson(500));
+        assertEquals(addressBook.getPersonList(), binaryFile.getPersons());
+    }
+
+    @Test
+    public void getPersons_fileDeletedAfterOpen_stillDecoded() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Amy").withPhone("11111111").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        BinaryAddressBookFile binaryFile = BinaryAddressBookFile.open(filePath);
+        Files.delete(filePath);
+        assertEquals(addressBook.getPersonList(), binaryFile.getPersons());
+    }
+
+    @Test
+    public void getPerson_invalidRecord_onlyThatPersonFails() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Amy").withPhone("11111111").build());
+        addressBook.addPerson(new PersonBuilder().withName("Bob").withPhone("22222222").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        String contents = new String(Files.readAllBytes(filePath), StandardCharsets.ISO_8859_1);
+        Files.write(filePath, contents.replace("22222222", "2222222a").getBytes(StandardCharsets.ISO_8859_1));
+
+        BinaryAddressBookFile binaryFile = BinaryAddressBookFile.open(filePath);
+        assertEquals(addressBook.getPersonList().get(0), binaryFile.getPerson(0));
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Phone.MESSAGE_CONSTRAINTS);
+        binaryFile.getPerson(1);
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Friend;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.TimeTable;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path XML_TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlAddressBookStorageTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allFields_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        TimeTable timeTable = new TimeTable();
+        timeTable.addTimeSlot(new TimeSlot(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(10, 0)));
+        timeTable.addTimeSlot(new TimeSlot(DayOfWeek.FRIDAY, LocalTime.of(13, 0, 30), LocalTime.of(14, 15)));
+        Person amy = new PersonBuilder().withName("Amy").withPhone("11111111").withTags("friends", "cs")
+                .withTimeTable(timeTable).withTimeZone("Europe/London").build();
+        Person bob = new PersonBuilder().withName("Bob").withPhone("22222222").withTags("friends").build();
+        amy.getFriends().add(new Friend(bob.getName()));
+        bob.getFriends().add(new Friend(amy.getName()));
+        original.addPerson(amy);
+        original.addPerson(bob);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        assertEquals(original, new AddressBook(readBack));
+        Person readAmy = readBack.getPersonList().get(0);
+        assertEquals(timeTable.getTimeSlots(), readAmy.getTimeTable().getTimeSlots());
+
+        // tags with the same name are read as one object
+        Tag amyFriendsTag = readAmy.getTags().stream().filter(tag -> tag.tagName.equals("friends")).findAny().get();
+        assertSame(amyFriendsTag, readBack.getPersonList().get(1).getTags().iterator().next());
+    }
+
+    @Test
+    public void readAddressBook_version1File_readWithoutTimeZones() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("Version1AddressBook.bin");
+        Person amy = new PersonBuilder().withName("Amy").withPhone("11111111").build();
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        writeString(record, amy.getName().fullName);
+        writeString(record, amy.getPhone().value);
+        writeString(record, amy.getEmail().value);
+        writeString(record, amy.getAddress().value);
+        record.writeInt(0); // tags
+        record.writeInt(0); // friends
+        record.writeInt(0); // time slots
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.write(BinaryAddressBookStorage.MAGIC);
+            out.writeInt(1);
+            out.writeInt(0); // names
+            out.writeInt(1); // persons
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(Arrays.asList(amy), readBack.getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_xmlFile_readAsXml() throws Exception {
+        Path filePath = Paths.get("src", "test", "data", "XmlSerializableAddressBookTest",
+                "typicalPersonsAddressBook.xml");
+        assertEquals(new XmlAddressBookStorage(filePath).readAddressBook().get(),
+                new BinaryAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(XML_TEST_DATA_FOLDER.resolve("NotXmlFormatAddressBook.xml")).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TruncatedAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 5));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameXml() throws Exception {
+        Path xmlFilePath = Paths.get("src", "test", "data", "XmlSerializableAddressBookTest",
+                "typicalPersonsAddressBook.xml");
+        Path binaryFilePath = testFolder.getRoot().toPath().resolve("Converted.bin");
+        Path convertedXmlFilePath = testFolder.getRoot().toPath().resolve("Converted.xml");
+
+        AddressBookFormatConverter.xmlToBinary(xmlFilePath, binaryFilePath);
+        AddressBookFormatConverter.binaryToXml(binaryFilePath, convertedXmlFilePath);
+
+        assertEquals(XmlFileStorage.loadDataFromSaveFile(xmlFilePath),
+                XmlFileStorage.loadDataFromSaveFile(convertedXmlFilePath));
+    }
+
+    @Test
+    public void convertToFormatOf_xmlFileAndBinaryStorage_convertedToBinary() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("Switched.bin");
+        Files.copy(Paths.get("src", "test", "data", "XmlSerializableAddressBookTest",
+                "typicalPersonsAddressBook.xml"), filePath);
+        ReadOnlyAddressBook original = new XmlAddressBookStorage(filePath).readAddressBook().get();
+
+        AddressBookFormatConverter.convertToFormatOf(new BinaryAddressBookStorage(filePath));
+
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(original, new BinaryAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void convertToFormatOf_binaryFileAndXmlStorage_convertedToXml() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("Switched.xml");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withTags("friends").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBookFormatConverter.convertToFormatOf(new XmlAddressBookStorage(filePath));
+
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(original, new XmlAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void convertToFormatOf_missingFile_noFileWritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("NonExistentFile.bin");
+        AddressBookFormatConverter.convertToFormatOf(new BinaryAddressBookStorage(filePath));
+        assertFalse(Files.exists(filePath));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.PersonListChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class DebouncedAddressBookSaverTest {
+
+    private final AddressBookStorageStub storage = new AddressBookStorageStub();
+    private final List<IOException> failures = new ArrayList<>();
+
+    @Test
+    public void requestSave_noDebounce_savesImmediately() {
+        DebouncedAddressBookSaver saver = new DebouncedAddressBookSaver(storage, 0, failures::add);
+
+        saver.requestSave(new AddressBook());
+        saver.requestSave(new AddressBook());
+
+        assertEquals(2, storage.saved.size());
+    }
+
+    @Test
+    public void requestSave_burstOfChanges_savesLatestOnce() {
+        DebouncedAddressBookSaver saver = new DebouncedAddressBookSaver(storage, 60000, failures::add);
+        AddressBook addressBook = new AddressBook();
+
+        saver.requestSave(addressBook);
+        addressBook.addPerson(ALICE);
+        saver.requestSave(addressBook);
+        assertTrue(storage.saved.isEmpty());
+
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+        assertEquals(addressBook, storage.saved.get(0));
+
+        // nothing left to save
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void requestSave_changedAfterRequest_savesStateAtRequest() {
+        DebouncedAddressBookSaver saver = new DebouncedAddressBookSaver(storage, 60000, failures::add);
+        AddressBook addressBook = new AddressBook();
+
+        saver.requestSave(addressBook);
+        addressBook.addPerson(ALICE);
+        saver.flush();
+
+        assertEquals(new AddressBook(), storage.saved.get(0));
+    }
+
+    @Test
+    public void requestSave_burstOfChanges_changesSavedInOrder() {
+        DebouncedAddressBookSaver saver = new DebouncedAddressBookSaver(storage, 60000, failures::add);
+        AddressBook addressBook = new AddressBook();
+        PersonListChange addAlice = new PersonListChange(0, Collections.emptyList(), Arrays.asList(ALICE));
+        PersonListChange addBenson = new PersonListChange(1, Collections.emptyList(), Arrays.asList(BENSON));
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave(addressBook, Arrays.asList(addAlice));
+        addressBook.addPerson(BENSON);
+        saver.requestSave(addressBook, Arrays.asList(addBenson));
+        saver.flush();
+
+        assertEquals(Arrays.asList(addAlice, addBenson), storage.savedChanges.get(0));
+    }
+
+    @Test
+    public void requestSave_changesAfterFirstSave_savesStateAtRequest() {
+        DebouncedAddressBookSaver saver = new DebouncedAddressBookSaver(storage, 60000, failures::add);
+        AddressBook addressBook = new AddressBook();
+        saver.requestSave(addressBook, Collections.emptyList());
+        saver.flush();
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave(addressBook, Arrays.asList(
+                new PersonListChange(0, Collections.emptyList(), Arrays.asList(ALICE))));
+        addressBook.addPerson(BENSON);
+        saver.flush();
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(ALICE);
+        assertEquals(expected, storage.saved.get(1));
+    }
+
+    @Test
+    public void requestSave_changesNotKnown_savedInFull() {
+        DebouncedAddressBookSaver saver = new DebouncedAddressBookSaver(storage, 60000, failures::add);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave(addressBook, Arrays.asList(
+                new PersonListChange(0, Collections.emptyList(), Arrays.asList(ALICE))));
+        saver.requestSave(addressBook);
+        saver.flush();
+
+        assertNull(storage.savedChanges.get(0));
+    }
+
+    @Test
+    public void requestSave_saveFails_failureHandled() {
+        storage.isFailing = true;
+        DebouncedAddressBookSaver saver = new DebouncedAddressBookSaver(storage, 0, failures::add);
+
+        saver.requestSave(new AddressBook());
+
+        assertEquals(1, failures.size());
+    }
+
+    /**
+     * A {@code AddressBookStorage} stub that remembers the address books saved to it.
+     */
+    private class AddressBookStorageStub implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private final List<List<PersonListChange>> savedChanges = new ArrayList<>();
+        private boolean isFailing = false;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Paths.get("dummy");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveAddressBook(addressBook, getAddressBookFilePath());
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            saved.add(new AddressBook(addressBook));
+        }
+
+        @Override
+        public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<PersonListChange> changes)
+                throws IOException {
+            saveAddressBook(addressBook);
+            savedChanges.add(changes);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.PersonListChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final Person AMY = new PersonBuilder().withName("Amy").withPhone("11111111").build();
+    private static final Person BOB = new PersonBuilder().withName("Bob").withPhone("22222222").build();
+    private static final Person CARL = new PersonBuilder().withName("Carl").withPhone("33333333").build();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private AddressBook addressBook;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        addressBook = new AddressBook();
+        addressBook.addPerson(AMY);
+        addressBook.addPerson(BOB);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBookChanges_changesAfterFirstSave_onlyJournalWritten() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        Person editedBob = new PersonBuilder(BOB).withAddress("Changed address").build();
+        addressBook.removePerson(AMY);
+        addressBook.updatePerson(BOB, editedBob);
+        addressBook.addPerson(CARL);
+        storage.saveAddressBookChanges(addressBook, Arrays.asList(
+                new PersonListChange(0, Arrays.asList(AMY), Collections.emptyList()),
+                new PersonListChange(0, Arrays.asList(BOB), Arrays.asList(editedBob)),
+                new PersonListChange(1, Collections.emptyList(), Arrays.asList(CARL))));
+
+        assertEquals(new String(snapshot), new String(Files.readAllBytes(filePath)));
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_changesNotKnown_foldedIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(CARL);
+        storage.saveAddressBookChanges(addressBook, null);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_changesNotMatchingList_foldedIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(CARL);
+        storage.saveAddressBookChanges(addressBook, Collections.emptyList());
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_journalPastThreshold_foldedIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, false, 0);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(CARL);
+        storage.saveAddressBookChanges(addressBook, Arrays.asList(
+                new PersonListChange(2, Collections.emptyList(), Arrays.asList(CARL))));
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteBatch_ignored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        Files.write(storage.getJournalFilePath(), "- 0\n+ 0 <person><name>Am".getBytes(),
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, readBack());
+
+        // the next save does not append to the incomplete batch
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        reopened.readAddressBook();
+        addressBook.addPerson(CARL);
+        reopened.saveAddressBookChanges(addressBook, Arrays.asList(
+                new PersonListChange(2, Collections.emptyList(), Arrays.asList(CARL))));
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplacedAfterJournal_journalIgnored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(CARL);
+        storage.saveAddressBookChanges(addressBook, Arrays.asList(
+                new PersonListChange(2, Collections.emptyList(), Arrays.asList(CARL))));
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(BOB);
+        new XmlAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, readBack());
+    }
+
+    private AddressBook readBack() throws Exception {
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        return new AddressBook(readBack);
+    }
+}
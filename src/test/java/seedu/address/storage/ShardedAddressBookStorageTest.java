@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.PersonListChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final Person AMY = new PersonBuilder().withName("Amy").withPhone("11111111").build();
+    private static final Person BOB = new PersonBuilder().withName("Bob").withPhone("22222222").build();
+    private static final Person CARL = new PersonBuilder().withName("Carl").withPhone("33333333").build();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private AddressBook addressBook;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        addressBook = new AddressBook();
+        addressBook.addPerson(AMY);
+        addressBook.addPerson(BOB);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_personUpdated_onlyItsFileWritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        Set<Path> filesBefore = listShardFiles(storage);
+        assertEquals(2, filesBefore.size());
+
+        Person editedBob = new PersonBuilder(BOB).withAddress("Changed address").build();
+        addressBook.updatePerson(BOB, editedBob);
+        storage.saveAddressBookChanges(addressBook, Arrays.asList(
+                new PersonListChange(1, Arrays.asList(BOB), Arrays.asList(editedBob))));
+
+        Set<Path> filesAfter = listShardFiles(storage);
+        Set<Path> kept = new HashSet<>(filesBefore);
+        kept.retainAll(filesAfter);
+        assertEquals(2, filesAfter.size());
+        assertEquals(1, kept.size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_unchangedPersonsNotWritten() throws Exception {
+        new ShardedAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        Set<Path> filesBefore = listShardFiles(storage);
+
+        readBack.addPerson(CARL);
+        storage.saveAddressBookChanges(readBack, Arrays.asList(
+                new PersonListChange(2, Collections.emptyList(), Arrays.asList(CARL))));
+
+        Set<Path> filesAfter = listShardFiles(storage);
+        assertEquals(3, filesAfter.size());
+        assertTrue(filesAfter.containsAll(filesBefore));
+        assertEquals(readBack, readBack());
+
+        readBack.removePerson(AMY);
+        storage.saveAddressBookChanges(readBack, Arrays.asList(
+                new PersonListChange(0, Arrays.asList(AMY), Collections.emptyList())));
+        assertEquals(2, listShardFiles(storage).size());
+        assertEquals(readBack, readBack());
+    }
+
+    @Test
+    public void readAddressBook_leftoverPersonFile_deletedOnSave() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        Files.write(storage.getShardDirectoryPath().resolve("100.xml"), "<person>".getBytes());
+
+        ShardedAddressBookStorage reopened = new ShardedAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(addressBook, readBack);
+
+        readBack.addPerson(CARL);
+        reopened.saveAddressBookChanges(readBack, Arrays.asList(
+                new PersonListChange(2, Collections.emptyList(), Arrays.asList(CARL))));
+        assertEquals(3, listShardFiles(reopened).size());
+        assertEquals(readBack, readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_changesNotKnown_allPersonsWritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        Set<Path> filesBefore = listShardFiles(storage);
+
+        addressBook.addPerson(CARL);
+        storage.saveAddressBookChanges(addressBook, null);
+
+        Set<Path> filesAfter = listShardFiles(storage);
+        filesAfter.retainAll(filesBefore);
+        assertEquals(0, filesAfter.size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_changesNotMatchingList_allPersonsWritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(CARL);
+        storage.saveAddressBookChanges(addressBook, Collections.emptyList());
+
+        assertEquals(3, listShardFiles(storage).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test(expected = DataConversionException.class)
+    public void readAddressBook_missingPersonFile_throwsDataConversionException() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        Files.delete(listShardFiles(storage).iterator().next());
+
+        new ShardedAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_xmlFile_writtenShardedOnSave() throws Exception {
+        new XmlAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, listShardFiles(storage).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    private AddressBook readBack() throws Exception {
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        return new AddressBook(readBack);
+    }
+
+    private static Set<Path> listShardFiles(ShardedAddressBookStorage storage) throws IOException {
+        try (Stream<Path> files = Files.list(storage.getShardDirectoryPath())) {
+            return files.collect(Collectors.toSet());
+        }
+    }
+}
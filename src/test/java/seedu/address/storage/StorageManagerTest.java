@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
@@ -16,9 +17,16 @@ import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.FriendCommand;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Friend;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
@@ -90,6 +98,29 @@ public class StorageManagerTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleAddressBookChangedEvent_friendAdded_friendSurvivesRead() throws Exception {
+        Path filePath = getTempFilePath("sharded");
+        Storage storage = new StorageManager(new ShardedAddressBookStorage(filePath),
+                                             new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                                             new JsonAppUsersStorage(getTempFilePath("userz")));
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Amy").withPhone("11111111").build());
+        addressBook.addPerson(new PersonBuilder().withName("Bob").withPhone("22222222").build());
+        storage.saveAddressBook(addressBook);
+
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+        model.matchUserToPerson("Amy");
+        model.getOtherList();
+        new FriendCommand(INDEX_FIRST_PERSON).execute(model, new CommandHistory());
+
+        AddressBook readBack = new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get());
+        Person amy = readBack.getPersonByName(new Name("Amy")).get();
+        Person bob = readBack.getPersonByName(new Name("Bob")).get();
+        assertTrue(amy.getFriends().contains(new Friend(new Name("Bob"))));
+        assertTrue(bob.getFriends().contains(new Friend(new Name("Amy"))));
+    }
+
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -4,7 +4,10 @@ import static org.junit.Assert.assertEquals;
 import static seedu.address.storage.XmlAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
@@ -13,6 +16,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.testutil.Assert;
 
@@ -104,4 +108,50 @@ public class XmlAdaptedPersonTest {
         Assert.assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidTimeZone_throwsIllegalValueException() {
+        XmlAdaptedPerson person =
+                new XmlAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_TAGS, "Mars/Olympus");
+        Assert.assertThrows(IllegalValueException.class, Person.MESSAGE_TIME_ZONE_CONSTRAINTS, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_validTimeZone_returnsPersonInTimeZone() throws Exception {
+        XmlAdaptedPerson person =
+                new XmlAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_TAGS, "Europe/London");
+        assertEquals(Optional.of(ZoneId.of("Europe/London")), person.toModelType().getTimeZone());
+    }
+
+    @Test
+    public void toModelType_manyValidPersons_returnsPersonsInOrder() throws Exception {
+        List<XmlAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            adaptedPersons.add(new XmlAdaptedPerson("Person " + i, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                    VALID_TAGS));
+        }
+
+        List<Person> persons = XmlAdaptedPerson.toModelType(adaptedPersons);
+
+        assertEquals(adaptedPersons.size(), persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(adaptedPersons.get(i).toModelType(), persons.get(i));
+        }
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithInvalidPersons_throwsForFirstInvalidPerson() {
+        List<XmlAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            adaptedPersons.add(new XmlAdaptedPerson("Person " + i, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                    VALID_TAGS));
+        }
+        adaptedPersons.set(10, new XmlAdaptedPerson(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_TAGS));
+        adaptedPersons.set(900, new XmlAdaptedPerson(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_TAGS));
+
+        Assert.assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                XmlAdaptedPerson.toModelType(adaptedPersons));
+    }
+
 }
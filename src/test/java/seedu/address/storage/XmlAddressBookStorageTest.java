@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -22,6 +24,8 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 public class XmlAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlAddressBookStorageTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "XmlSerializableAddressBookTest");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -73,6 +77,25 @@ public class XmlAddressBookStorageTest {
         readAddressBook("invalidAndValidPersonAddressBook.xml");
     }
 
+    @Test
+    public void readAddressBook_duplicatePersonAddressBook_throwDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        Path filePath = SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.xml");
+        new XmlAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_validFile_sameAsUnmarshalledAndProgressReported() throws Exception {
+        Path filePath = SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.xml");
+        List<Double> progress = new ArrayList<>();
+
+        ReadOnlyAddressBook readBack = new XmlAddressBookStorage(filePath).readAddressBook(filePath, progress::add)
+                .get();
+
+        assertEquals(XmlFileStorage.loadDataFromSaveFile(filePath).toModelType(), new AddressBook(readBack));
+        assertEquals(1.0, progress.get(progress.size() - 1), 0);
+    }
+
     // @Test
     /**
      * Removed until timetable storage implemented
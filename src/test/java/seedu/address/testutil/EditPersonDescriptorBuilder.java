@@ -1,5 +1,7 @@
 package seedu.address.testutil;
 
+import java.time.ZoneId;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -37,6 +39,7 @@ public class EditPersonDescriptorBuilder {
         descriptor.setEmail(person.getEmail());
         descriptor.setAddress(person.getAddress());
         descriptor.setTags(person.getTags());
+        descriptor.setTimeZone(person.getTimeZone());
     }
 
     /**
@@ -81,6 +84,14 @@ public class EditPersonDescriptorBuilder {
         return this;
     }
 
+    /**
+     * Sets the time zone of the {@code EditPersonDescriptor} that we are building.
+     */
+    public EditPersonDescriptorBuilder withTimeZone(String timeZone) {
+        descriptor.setTimeZone(Optional.of(ZoneId.of(timeZone)));
+        return this;
+    }
+
     public EditPersonDescriptor build() {
         return descriptor;
     }
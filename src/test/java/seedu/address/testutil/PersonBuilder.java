@@ -1,6 +1,8 @@
 package seedu.address.testutil;
 
+import java.time.ZoneId;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.model.person.Address;
@@ -30,6 +32,7 @@ public class PersonBuilder {
     private Set<Tag> tags;
     private Set<Friend> friendList;
     private TimeTable timeTable;
+    private Optional<ZoneId> timeZone;
 
     public PersonBuilder() {
         name = new Name(DEFAULT_NAME);
@@ -39,6 +42,7 @@ public class PersonBuilder {
         tags = new HashSet<>();
         friendList = new HashSet<>();
         timeTable = new TimeTable();
+        timeZone = Optional.empty();
     }
 
     /**
@@ -52,6 +56,7 @@ public class PersonBuilder {
         tags = new HashSet<>(personToCopy.getTags());
         friendList = new HashSet<>(personToCopy.getFriends());
         timeTable = personToCopy.getTimeTable();
+        timeZone = personToCopy.getTimeZone();
     }
 
     /**
@@ -102,8 +107,16 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the time zone of the {@code Person} that we are building.
+     */
+    public PersonBuilder withTimeZone(String timeZone) {
+        this.timeZone = Optional.of(ZoneId.of(timeZone));
+        return this;
+    }
+
     public Person build() {
-        return new Person(name, phone, email, address, tags, timeTable, friendList);
+        return new Person(name, phone, email, address, tags, timeTable, friendList, timeZone);
     }
 
 }